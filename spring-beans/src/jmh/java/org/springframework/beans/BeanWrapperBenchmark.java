@@ -0,0 +1,134 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for property access through {@link BeanWrapperImpl}, for simple
+ * and nested property paths with and without type conversion.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class BeanWrapperBenchmark {
+
+	@State(Scope.Thread)
+	public static class BenchmarkData {
+
+		public Person person;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			this.person = new Person();
+			this.person.setAddress(new Address());
+		}
+	}
+
+
+	@Benchmark
+	public Object setSimpleProperty(BenchmarkData data) {
+		BeanWrapper bw = new BeanWrapperImpl(data.person);
+		bw.setPropertyValue("name", "Juergen");
+		return bw;
+	}
+
+	@Benchmark
+	public Object setPropertyWithConversion(BenchmarkData data) {
+		BeanWrapper bw = new BeanWrapperImpl(data.person);
+		bw.setPropertyValue("age", "42");
+		return bw;
+	}
+
+	@Benchmark
+	public Object setNestedProperty(BenchmarkData data) {
+		BeanWrapper bw = new BeanWrapperImpl(data.person);
+		bw.setPropertyValue("address.city", "Linz");
+		return bw;
+	}
+
+	@Benchmark
+	public Object setPropertyValues(BenchmarkData data) {
+		BeanWrapper bw = new BeanWrapperImpl(data.person);
+		MutablePropertyValues pvs = new MutablePropertyValues();
+		pvs.add("name", "Juergen");
+		pvs.add("age", "42");
+		pvs.add("address.city", "Linz");
+		bw.setPropertyValues(pvs);
+		return bw;
+	}
+
+	@Benchmark
+	public Object getNestedProperty(BenchmarkData data) {
+		return new BeanWrapperImpl(data.person).getPropertyValue("address.city");
+	}
+
+
+	public static class Person {
+
+		private String name;
+
+		private int age;
+
+		private Address address;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public Address getAddress() {
+			return this.address;
+		}
+
+		public void setAddress(Address address) {
+			this.address = address;
+		}
+	}
+
+
+	public static class Address {
+
+		private String city;
+
+		public String getCity() {
+			return this.city;
+		}
+
+		public void setCity(String city) {
+			this.city = city;
+		}
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.beans;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.AccessControlContext;
 import java.security.AccessController;
@@ -269,9 +270,27 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 
 		private final PropertyDescriptor pd;
 
+		@Nullable
+		private final CompiledPropertyInvoker invoker;
+
+		private final int readIndex;
+
+		private final int writeIndex;
+
 		public BeanPropertyHandler(PropertyDescriptor pd) {
 			super(pd.getPropertyType(), pd.getReadMethod() != null, pd.getWriteMethod() != null);
 			this.pd = pd;
+			CompiledPropertyInvoker invoker = getCachedIntrospectionResults().getPropertyInvoker();
+			if (invoker != null && System.getSecurityManager() == null) {
+				this.invoker = invoker;
+				this.readIndex = invoker.getReadIndex(pd.getName());
+				this.writeIndex = invoker.getWriteIndex(pd.getName());
+			}
+			else {
+				this.invoker = null;
+				this.readIndex = -1;
+				this.writeIndex = -1;
+			}
 		}
 
 		@Override
@@ -281,7 +300,12 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 
 		@Override
 		public TypeDescriptor toTypeDescriptor() {
-			return new TypeDescriptor(property(this.pd));
+			CachedIntrospectionResults cachedIntrospectionResults = getCachedIntrospectionResults();
+			TypeDescriptor td = cachedIntrospectionResults.getTypeDescriptor(this.pd);
+			if (td == null) {
+				td = cachedIntrospectionResults.addTypeDescriptor(this.pd, new TypeDescriptor(property(this.pd)));
+			}
+			return td;
 		}
 
 		@Override
@@ -293,6 +317,15 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		@Override
 		@Nullable
 		public Object getValue() throws Exception {
+			if (this.invoker != null && this.readIndex >= 0) {
+				try {
+					return this.invoker.invokeReadMethod(getWrappedInstance(), this.readIndex);
+				}
+				catch (Throwable ex) {
+					// Same exposure as for reflective invocation of the read method
+					throw new InvocationTargetException(ex);
+				}
+			}
 			final Method readMethod = this.pd.getReadMethod();
 			if (System.getSecurityManager() != null) {
 				AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
@@ -318,6 +351,17 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 			final Method writeMethod = (this.pd instanceof GenericTypeAwarePropertyDescriptor ?
 					((GenericTypeAwarePropertyDescriptor) this.pd).getWriteMethodForActualAccess() :
 					this.pd.getWriteMethod());
+			if (this.invoker != null && this.writeIndex >= 0 &&
+					this.invoker.isAssignableWriteValue(this.writeIndex, value)) {
+				try {
+					this.invoker.invokeWriteMethod(getWrappedInstance(), this.writeIndex, value);
+				}
+				catch (Throwable ex) {
+					// Same exposure as for reflective invocation of the write method
+					throw new InvocationTargetException(ex);
+				}
+				return;
+			}
 			if (System.getSecurityManager() != null) {
 				AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
 					ReflectionUtils.makeAccessible(writeMethod);
@@ -93,10 +93,28 @@ public class CachedIntrospectionResults {
 	 */
 	public static final String IGNORE_BEANINFO_PROPERTY_NAME = "spring.beaninfo.ignore";
 
+	/**
+	 * System property that instructs Spring to generate bytecode for invoking the
+	 * public read and write methods of introspected bean classes:
+	 * "spring.beaninfo.compile", with a value of "true" compiling a
+	 * {@link CompiledPropertyInvoker} per bean class that {@link BeanWrapperImpl}
+	 * uses instead of reflective {@link java.lang.reflect.Method#invoke} calls.
+	 * <p>The default is "false", always using reflection. Consider switching this
+	 * flag to "true" for applications that bind very large numbers of property values,
+	 * e.g. through data binding or row mapping, at the expense of one generated class
+	 * per introspected bean class.
+	 * <p>Note that reflection remains in use when running under a SecurityManager.
+	 * @since 5.0.3
+	 */
+	public static final String COMPILE_ACCESSORS_PROPERTY_NAME = "spring.beaninfo.compile";
+
 
 	private static final boolean shouldIntrospectorIgnoreBeaninfoClasses =
 			SpringProperties.getFlag(IGNORE_BEANINFO_PROPERTY_NAME);
 
+	private static final boolean shouldCompileAccessors =
+			SpringProperties.getFlag(COMPILE_ACCESSORS_PROPERTY_NAME);
+
 	/** Stores the BeanInfoFactory instances */
 	private static List<BeanInfoFactory> beanInfoFactories = SpringFactoriesLoader.loadFactories(
 			BeanInfoFactory.class, CachedIntrospectionResults.class.getClassLoader());
@@ -254,6 +272,10 @@ public class CachedIntrospectionResults {
 	/** TypeDescriptor objects keyed by PropertyDescriptor */
 	private final ConcurrentMap<PropertyDescriptor, TypeDescriptor> typeDescriptorCache;
 
+	/** Generated invoker for the read and write methods, if compiled */
+	@Nullable
+	private final CompiledPropertyInvoker propertyInvoker;
+
 
 	/**
 	 * Create a new CachedIntrospectionResults instance for the given class.
@@ -323,6 +345,8 @@ public class CachedIntrospectionResults {
 			}
 
 			this.typeDescriptorCache = new ConcurrentReferenceHashMap<>();
+			this.propertyInvoker = (shouldCompileAccessors ?
+					PropertyInvokerCompiler.compile(beanClass, this.propertyDescriptorCache.values()) : null);
 		}
 		catch (IntrospectionException ex) {
 			throw new FatalBeanException("Failed to obtain BeanInfo for class [" + beanClass.getName() + "]", ex);
@@ -382,4 +406,9 @@ public class CachedIntrospectionResults {
 		return this.typeDescriptorCache.get(pd);
 	}
 
+	@Nullable
+	CompiledPropertyInvoker getPropertyInvoker() {
+		return this.propertyInvoker;
+	}
+
 }
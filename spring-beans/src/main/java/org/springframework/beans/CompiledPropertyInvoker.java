@@ -0,0 +1,124 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Base class for bytecode-generated bean property invokers, calling the read and
+ * write methods of a specific bean class directly instead of through reflection.
+ * Not intended for direct use by application code.
+ *
+ * <p>Subclasses are generated by {@link PropertyInvokerCompiler} and cached in
+ * {@link CachedIntrospectionResults}. Properties are addressed by index; any exception
+ * thrown by a read or write method propagates as-is from the invoke methods.
+ *
+ * @author agent
+ * @since 5.0.3
+ * @see CachedIntrospectionResults#COMPILE_ACCESSORS_PROPERTY_NAME
+ */
+public abstract class CompiledPropertyInvoker {
+
+	private final Map<String, Integer> readIndexes;
+
+	private final Map<String, Integer> writeIndexes;
+
+	private final Class<?>[] writeTypes;
+
+	private final boolean[] primitiveWriteTypes;
+
+
+	/**
+	 * Create a new CompiledPropertyInvoker for the given properties.
+	 * @param readNames the names of the readable properties, in index order
+	 * @param writeNames the names of the writable properties, in index order
+	 * @param writeTypes the parameter types of the write methods, in index order
+	 */
+	protected CompiledPropertyInvoker(String[] readNames, String[] writeNames, Class<?>[] writeTypes) {
+		this.readIndexes = indexNames(readNames);
+		this.writeIndexes = indexNames(writeNames);
+		this.writeTypes = new Class<?>[writeTypes.length];
+		this.primitiveWriteTypes = new boolean[writeTypes.length];
+		for (int i = 0; i < writeTypes.length; i++) {
+			this.writeTypes[i] = ClassUtils.resolvePrimitiveIfNecessary(writeTypes[i]);
+			this.primitiveWriteTypes[i] = writeTypes[i].isPrimitive();
+		}
+	}
+
+	private static Map<String, Integer> indexNames(String[] names) {
+		Map<String, Integer> indexes = new HashMap<>(names.length * 2);
+		for (int i = 0; i < names.length; i++) {
+			indexes.put(names[i], i);
+		}
+		return indexes;
+	}
+
+
+	/**
+	 * Return the index of the compiled read method for the given property,
+	 * or -1 if none has been compiled.
+	 */
+	int getReadIndex(String propertyName) {
+		Integer index = this.readIndexes.get(propertyName);
+		return (index != null ? index : -1);
+	}
+
+	/**
+	 * Return the index of the compiled write method for the given property,
+	 * or -1 if none has been compiled.
+	 */
+	int getWriteIndex(String propertyName) {
+		Integer index = this.writeIndexes.get(propertyName);
+		return (index != null ? index : -1);
+	}
+
+	/**
+	 * Determine whether the given value can be passed to the compiled write method
+	 * at the given index as-is, i.e. without any of the argument conversions that
+	 * {@link java.lang.reflect.Method#invoke} would apply or reject.
+	 */
+	boolean isAssignableWriteValue(int index, @Nullable Object value) {
+		if (value == null) {
+			return !this.primitiveWriteTypes[index];
+		}
+		return (this.writeTypes[index] == value.getClass() ||
+				(!this.primitiveWriteTypes[index] && this.writeTypes[index].isInstance(value)));
+	}
+
+
+	/**
+	 * Invoke the read method at the given index on the given target.
+	 * @param target the bean instance (of the exact class that this invoker was compiled for)
+	 * @param index the read index of the property
+	 * @return the property value, with primitive values boxed
+	 */
+	@Nullable
+	public abstract Object invokeReadMethod(Object target, int index);
+
+	/**
+	 * Invoke the write method at the given index on the given target.
+	 * @param target the bean instance (of the exact class that this invoker was compiled for)
+	 * @param index the write index of the property
+	 * @param value the value to set, with primitive values boxed
+	 */
+	public abstract void invokeWriteMethod(Object target, int index, @Nullable Object value);
+
+}
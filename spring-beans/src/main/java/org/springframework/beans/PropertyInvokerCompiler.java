@@ -0,0 +1,269 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Generates {@link CompiledPropertyInvoker} subclasses for bean classes, using
+ * a {@code tableswitch} over the public read and write methods of a class so
+ * that property access does not go through {@link Method#invoke}.
+ *
+ * <p>Each invoker class is defined in its own child ClassLoader of the bean
+ * class's ClassLoader, sharing the lifecycle of the corresponding
+ * {@link CachedIntrospectionResults} entry.
+ *
+ * <p>Only public methods on public bean classes are compiled; any other
+ * property is left to regular reflective invocation.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+final class PropertyInvokerCompiler implements Opcodes {
+
+	private static final String INVOKER_TYPE = Type.getInternalName(CompiledPropertyInvoker.class);
+
+	private static final String INVOKER_CONSTRUCTOR_DESCRIPTOR =
+			"([Ljava/lang/String;[Ljava/lang/String;[Ljava/lang/Class;)V";
+
+	private static final AtomicInteger invokerCount = new AtomicInteger();
+
+	private static final Log logger = LogFactory.getLog(PropertyInvokerCompiler.class);
+
+
+	private PropertyInvokerCompiler() {
+	}
+
+
+	/**
+	 * Compile an invoker for the given bean class and its property descriptors.
+	 * @param beanClass the bean class to compile an invoker for
+	 * @param pds the (cached) property descriptors of the bean class
+	 * @return the invoker, or {@code null} if the class does not qualify for
+	 * compilation or code generation failed
+	 */
+	@Nullable
+	static CompiledPropertyInvoker compile(Class<?> beanClass, Collection<PropertyDescriptor> pds) {
+		if (!Modifier.isPublic(beanClass.getModifiers()) || beanClass.isArray() || beanClass.isPrimitive()) {
+			return null;
+		}
+		List<String> readNames = new ArrayList<>();
+		List<Method> readMethods = new ArrayList<>();
+		List<String> writeNames = new ArrayList<>();
+		List<Method> writeMethods = new ArrayList<>();
+		for (PropertyDescriptor pd : pds) {
+			Method readMethod = pd.getReadMethod();
+			if (isCompilable(readMethod, 0)) {
+				readNames.add(pd.getName());
+				readMethods.add(readMethod);
+			}
+			Method writeMethod = pd.getWriteMethod();
+			if (isCompilable(writeMethod, 1)) {
+				writeNames.add(pd.getName());
+				writeMethods.add(writeMethod);
+			}
+		}
+		if (readMethods.isEmpty() && writeMethods.isEmpty()) {
+			return null;
+		}
+
+		String className = "spring/beans/PropertyInvoker" + invokerCount.incrementAndGet();
+		try {
+			byte[] bytes = generateInvokerClass(className, beanClass, readMethods, writeMethods);
+			Class<?> invokerClass = new InvokerClassLoader(beanClass.getClassLoader()).defineClass(
+					className.replace('/', '.'), bytes);
+			Class<?>[] writeTypes = new Class<?>[writeMethods.size()];
+			for (int i = 0; i < writeTypes.length; i++) {
+				writeTypes[i] = writeMethods.get(i).getParameterTypes()[0];
+			}
+			return (CompiledPropertyInvoker) invokerClass
+					.getConstructor(String[].class, String[].class, Class[].class)
+					.newInstance(readNames.toArray(new String[0]), writeNames.toArray(new String[0]), writeTypes);
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to compile property invoker for class [" + beanClass.getName() +
+						"] - falling back to reflection", ex);
+			}
+			return null;
+		}
+	}
+
+	private static boolean isCompilable(@Nullable Method method, int parameterCount) {
+		return (method != null && method.getParameterCount() == parameterCount &&
+				Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers()));
+	}
+
+	private static byte[] generateInvokerClass(
+			String className, Class<?> beanClass, List<Method> readMethods, List<Method> writeMethods) {
+
+		String beanType = Type.getInternalName(beanClass);
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		cw.visit(V1_5, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, className, null, INVOKER_TYPE, null);
+
+		// Constructor passing the property metadata on to CompiledPropertyInvoker
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", INVOKER_CONSTRUCTOR_DESCRIPTOR, null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitVarInsn(ALOAD, 2);
+		mv.visitVarInsn(ALOAD, 3);
+		mv.visitMethodInsn(INVOKESPECIAL, INVOKER_TYPE, "<init>", INVOKER_CONSTRUCTOR_DESCRIPTOR, false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// Object invokeReadMethod(Object target, int index)
+		mv = cw.visitMethod(ACC_PUBLIC, "invokeReadMethod", "(Ljava/lang/Object;I)Ljava/lang/Object;", null, null);
+		mv.visitCode();
+		Label[] labels = visitSwitch(mv, readMethods.size());
+		for (int i = 0; i < labels.length; i++) {
+			Method readMethod = readMethods.get(i);
+			mv.visitLabel(labels[i]);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitTypeInsn(CHECKCAST, beanType);
+			visitInvoke(mv, beanClass, readMethod);
+			visitBoxIfNecessary(mv, readMethod.getReturnType());
+			mv.visitInsn(ARETURN);
+		}
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		// void invokeWriteMethod(Object target, int index, Object value)
+		mv = cw.visitMethod(ACC_PUBLIC, "invokeWriteMethod", "(Ljava/lang/Object;ILjava/lang/Object;)V", null, null);
+		mv.visitCode();
+		labels = visitSwitch(mv, writeMethods.size());
+		for (int i = 0; i < labels.length; i++) {
+			Method writeMethod = writeMethods.get(i);
+			Class<?> paramType = writeMethod.getParameterTypes()[0];
+			mv.visitLabel(labels[i]);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitTypeInsn(CHECKCAST, beanType);
+			mv.visitVarInsn(ALOAD, 3);
+			visitUnboxOrCast(mv, paramType);
+			visitInvoke(mv, beanClass, writeMethod);
+			if (writeMethod.getReturnType() != void.class) {
+				// Builder-style setters may return a value...
+				Type returnType = Type.getType(writeMethod.getReturnType());
+				mv.visitInsn(returnType.getSize() == 2 ? POP2 : POP);
+			}
+			mv.visitInsn(RETURN);
+		}
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	/**
+	 * Emit a {@code tableswitch} on the index argument, with the default
+	 * branch throwing an {@link IndexOutOfBoundsException}.
+	 * @return the labels for the individual cases, to be visited by the caller
+	 */
+	private static Label[] visitSwitch(MethodVisitor mv, int size) {
+		Label[] labels = new Label[size];
+		for (int i = 0; i < size; i++) {
+			labels[i] = new Label();
+		}
+		Label defaultLabel = new Label();
+		if (size > 0) {
+			mv.visitVarInsn(ILOAD, 2);
+			mv.visitTableSwitchInsn(0, size - 1, defaultLabel, labels);
+		}
+		mv.visitLabel(defaultLabel);
+		mv.visitTypeInsn(NEW, "java/lang/IndexOutOfBoundsException");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IndexOutOfBoundsException", "<init>", "()V", false);
+		mv.visitInsn(ATHROW);
+		return labels;
+	}
+
+	private static void visitInvoke(MethodVisitor mv, Class<?> beanClass, Method method) {
+		boolean isInterface = beanClass.isInterface();
+		mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL, Type.getInternalName(beanClass),
+				method.getName(), Type.getMethodDescriptor(method), isInterface);
+	}
+
+	private static void visitBoxIfNecessary(MethodVisitor mv, Class<?> type) {
+		if (type.isPrimitive()) {
+			Class<?> wrapperType = ClassUtils.resolvePrimitiveIfNecessary(type);
+			mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(wrapperType), "valueOf",
+					Type.getMethodDescriptor(Type.getType(wrapperType), Type.getType(type)), false);
+		}
+	}
+
+	private static void visitUnboxOrCast(MethodVisitor mv, Class<?> type) {
+		if (type.isPrimitive()) {
+			Class<?> wrapperType = ClassUtils.resolvePrimitiveIfNecessary(type);
+			String wrapperName = Type.getInternalName(wrapperType);
+			mv.visitTypeInsn(CHECKCAST, wrapperName);
+			mv.visitMethodInsn(INVOKEVIRTUAL, wrapperName, type.getName() + "Value",
+					Type.getMethodDescriptor(Type.getType(type)), false);
+		}
+		else if (type != Object.class) {
+			mv.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+		}
+	}
+
+
+	/**
+	 * Child ClassLoader for a generated invoker class, resolving the
+	 * {@link CompiledPropertyInvoker} base class from Spring's own ClassLoader
+	 * and everything else from the bean class's ClassLoader.
+	 */
+	private static class InvokerClassLoader extends URLClassLoader {
+
+		private static final URL[] NO_URLS = new URL[0];
+
+		public InvokerClassLoader(@Nullable ClassLoader parent) {
+			super(NO_URLS, parent);
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (CompiledPropertyInvoker.class.getName().equals(name)) {
+				return CompiledPropertyInvoker.class;
+			}
+			return super.loadClass(name, resolve);
+		}
+
+		public Class<?> defineClass(String name, byte[] bytes) {
+			return super.defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+
+}
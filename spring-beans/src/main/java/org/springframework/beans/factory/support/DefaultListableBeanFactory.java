@@ -40,11 +40,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import javax.inject.Provider;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -65,8 +69,11 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.BeanReference;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
 import org.springframework.core.OrderComparator;
@@ -153,6 +160,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Resolver to use for checking if a bean definition is an autowire candidate */
 	private AutowireCandidateResolver autowireCandidateResolver = new SimpleAutowireCandidateResolver();
 
+	/** Optional Executor for pre-instantiating independent singletons in parallel */
+	@Nullable
+	private Executor bootstrapExecutor;
+
 	/** Map from dependency type to corresponding autowired value */
 	private final Map<Class<?>, Object> resolvableDependencies = new ConcurrentHashMap<>(16);
 
@@ -309,6 +320,46 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.autowireCandidateResolver;
 	}
 
+	/**
+	 * Set an {@link Executor} for pre-instantiating singletons in parallel,
+	 * e.g. a {@link java.util.concurrent.ForkJoinPool} or a thread pool.
+	 * <p>Default is none, instantiating all singletons one after the other
+	 * on the calling thread. If specified, {@link #preInstantiateSingletons()}
+	 * groups the non-lazy singletons according to the references between their
+	 * bean definitions (depends-on declarations, bean references in constructor
+	 * arguments and property values, factory beans) and instantiates each group
+	 * on the given Executor, with independent groups initialized in parallel.
+	 * Dependencies not declared in bean definitions (e.g. autowired injection
+	 * points) are still safe to resolve across groups, with concurrent singleton
+	 * creation being {@link #setAllowConcurrentSingletonCreation enabled} for
+	 * the duration of the pre-instantiation phase.
+	 * <p>Groups containing a FactoryBean, a {@link BeanPostProcessor} or an
+	 * {@link BeanDefinition#ROLE_INFRASTRUCTURE infrastructure} bean (such as
+	 * an advisor) are instantiated one after the other on the calling thread
+	 * before any other group, since FactoryBean objects and infrastructure
+	 * components tend to obtain further beans while holding the singleton mutex.
+	 * <p>{@link SmartInitializingSingleton} callbacks are still invoked on the
+	 * calling thread, once all singletons have been instantiated.
+	 * <p>Parallel pre-instantiation is an explicit opt-in for a specific factory:
+	 * for an application context, set the Executor on the context's internal
+	 * bean factory, e.g. through {@code GenericApplicationContext.getDefaultListableBeanFactory()}
+	 * or in {@code AbstractRefreshableApplicationContext.customizeBeanFactory}.
+	 * @since 5.0.3
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setBootstrapExecutor(@Nullable Executor bootstrapExecutor) {
+		this.bootstrapExecutor = bootstrapExecutor;
+	}
+
+	/**
+	 * Return the Executor for pre-instantiating singletons in parallel, if any.
+	 * @since 5.0.3
+	 */
+	@Nullable
+	public Executor getBootstrapExecutor() {
+		return this.bootstrapExecutor;
+	}
+
 
 	@Override
 	public void copyConfigurationFrom(ConfigurableBeanFactory otherFactory) {
@@ -318,6 +369,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
+			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware...
 			setAutowireCandidateResolver(BeanUtils.instantiateClass(getAutowireCandidateResolver().getClass()));
 			// Make resolvable dependencies (e.g. ResourceLoader) available here as well...
@@ -735,28 +787,13 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		List<String> beanNames = new ArrayList<>(this.beanDefinitionNames);
 
 		// Trigger initialization of all non-lazy singleton beans...
-		for (String beanName : beanNames) {
-			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
-			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
-				if (isFactoryBean(beanName)) {
-					final FactoryBean<?> factory = (FactoryBean<?>) getBean(FACTORY_BEAN_PREFIX + beanName);
-					boolean isEagerInit;
-					if (System.getSecurityManager() != null && factory instanceof SmartFactoryBean) {
-						isEagerInit = AccessController.doPrivileged((PrivilegedAction<Boolean>) () ->
-								((SmartFactoryBean<?>) factory).isEagerInit(),
-								getAccessControlContext());
-					}
-					else {
-						isEagerInit = (factory instanceof SmartFactoryBean &&
-								((SmartFactoryBean<?>) factory).isEagerInit());
-					}
-					if (isEagerInit) {
-						getBean(beanName);
-					}
-				}
-				else {
-					getBean(beanName);
-				}
+		Executor bootstrapExecutor = this.bootstrapExecutor;
+		if (bootstrapExecutor != null) {
+			preInstantiateSingletonsInParallel(beanNames, bootstrapExecutor);
+		}
+		else {
+			for (String beanName : beanNames) {
+				preInstantiateSingleton(beanName);
 			}
 		}
 
@@ -778,6 +815,216 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	/**
+	 * Instantiate the specified bean if it is a non-lazy singleton
+	 * (or an eager-init {@link SmartFactoryBean}).
+	 * @param beanName the name of the bean
+	 */
+	private void preInstantiateSingleton(String beanName) {
+		RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+		if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+			if (isFactoryBean(beanName)) {
+				final FactoryBean<?> factory = (FactoryBean<?>) getBean(FACTORY_BEAN_PREFIX + beanName);
+				boolean isEagerInit;
+				if (System.getSecurityManager() != null && factory instanceof SmartFactoryBean) {
+					isEagerInit = AccessController.doPrivileged((PrivilegedAction<Boolean>) () ->
+							((SmartFactoryBean<?>) factory).isEagerInit(),
+							getAccessControlContext());
+				}
+				else {
+					isEagerInit = (factory instanceof SmartFactoryBean &&
+							((SmartFactoryBean<?>) factory).isEagerInit());
+				}
+				if (isEagerInit) {
+					getBean(beanName);
+				}
+			}
+			else {
+				getBean(beanName);
+			}
+		}
+	}
+
+	/**
+	 * Instantiate the non-lazy singletons among the given beans on the given Executor,
+	 * one task per group of beans that refer to each other in their bean definitions.
+	 * @param beanNames the names of the beans to pre-instantiate, in registration order
+	 * @param executor the Executor to run the pre-instantiation tasks on
+	 * @see #setBootstrapExecutor
+	 */
+	private void preInstantiateSingletonsInParallel(List<String> beanNames, Executor executor) {
+		List<List<String>> serialGroups = new ArrayList<>();
+		List<List<String>> beanGroups = new ArrayList<>();
+		for (List<String> beanGroup : groupByBeanDefinitionReferences(beanNames)) {
+			boolean serial = false;
+			for (String beanName : beanGroup) {
+				if (requiresSerialPreInstantiation(beanName)) {
+					serial = true;
+					break;
+				}
+			}
+			(serial ? serialGroups : beanGroups).add(beanGroup);
+		}
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Pre-instantiating " + beanNames.size() + " beans in " + serialGroups.size() +
+					" infrastructure groups and " + beanGroups.size() + " independent groups on " + executor);
+		}
+
+		// Infrastructure first, on the calling thread: anything those beans reach
+		// gets initialized before any bean may be in creation on another thread.
+		for (List<String> serialGroup : serialGroups) {
+			for (String beanName : serialGroup) {
+				preInstantiateSingleton(beanName);
+			}
+		}
+
+		boolean allowConcurrentSingletonCreation = isAllowConcurrentSingletonCreation();
+		setAllowConcurrentSingletonCreation(true);
+		try {
+			List<CompletableFuture<Void>> futures = new ArrayList<>(beanGroups.size());
+			for (List<String> beanGroup : beanGroups) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					for (String beanName : beanGroup) {
+						preInstantiateSingleton(beanName);
+					}
+				}, executor));
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+		}
+		catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw ex;
+		}
+		finally {
+			setAllowConcurrentSingletonCreation(allowConcurrentSingletonCreation);
+		}
+	}
+
+	/**
+	 * Determine whether the specified bean needs to be pre-instantiated on the
+	 * calling thread, ahead of the parallel phase: FactoryBeans as well as
+	 * bean post-processors and other infrastructure beans.
+	 * @param beanName the name of the bean
+	 * @see #preInstantiateSingletonsInParallel
+	 */
+	private boolean requiresSerialPreInstantiation(String beanName) {
+		RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+		if (bd.isAbstract() || !bd.isSingleton() || bd.isLazyInit()) {
+			return false;
+		}
+		return (bd.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE || isFactoryBean(beanName) ||
+				isTypeMatch(beanName, BeanPostProcessor.class));
+	}
+
+	/**
+	 * Split the given beans into groups of beans which are connected through
+	 * references in their bean definitions, retaining the registration order
+	 * within each group.
+	 * @param beanNames the names of the beans to group, in registration order
+	 * @return the groups of bean names
+	 */
+	private Collection<List<String>> groupByBeanDefinitionReferences(List<String> beanNames) {
+		Map<String, String> groupRoots = new LinkedHashMap<>(beanNames.size());
+		for (String beanName : beanNames) {
+			groupRoots.put(beanName, beanName);
+		}
+		for (String beanName : beanNames) {
+			Set<String> references = new LinkedHashSet<>();
+			collectBeanDefinitionReferences(getMergedLocalBeanDefinition(beanName), references);
+			for (String reference : references) {
+				String referencedBeanName = canonicalName(BeanFactoryUtils.transformedBeanName(reference));
+				if (groupRoots.containsKey(referencedBeanName)) {
+					String root = findGroupRoot(groupRoots, beanName);
+					String referencedRoot = findGroupRoot(groupRoots, referencedBeanName);
+					if (!root.equals(referencedRoot)) {
+						groupRoots.put(referencedRoot, root);
+					}
+				}
+			}
+		}
+		Map<String, List<String>> beanGroups = new LinkedHashMap<>();
+		for (String beanName : beanNames) {
+			beanGroups.computeIfAbsent(findGroupRoot(groupRoots, beanName), key -> new ArrayList<>()).add(beanName);
+		}
+		return beanGroups.values();
+	}
+
+	private static String findGroupRoot(Map<String, String> groupRoots, String beanName) {
+		String root = beanName;
+		String parent = groupRoots.get(root);
+		while (!root.equals(parent)) {
+			root = parent;
+			parent = groupRoots.get(root);
+		}
+		groupRoots.put(beanName, root);
+		return root;
+	}
+
+	/**
+	 * Collect the names of all beans that the given bean definition refers to.
+	 */
+	private void collectBeanDefinitionReferences(BeanDefinition bd, Set<String> references) {
+		String[] dependsOn = bd.getDependsOn();
+		if (dependsOn != null) {
+			references.addAll(Arrays.asList(dependsOn));
+		}
+		if (bd.getFactoryBeanName() != null) {
+			references.add(bd.getFactoryBeanName());
+		}
+		if (bd.hasConstructorArgumentValues()) {
+			ConstructorArgumentValues cargs = bd.getConstructorArgumentValues();
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cargs.getIndexedArgumentValues().values()) {
+				collectBeanReferences(valueHolder.getValue(), references);
+			}
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cargs.getGenericArgumentValues()) {
+				collectBeanReferences(valueHolder.getValue(), references);
+			}
+		}
+		if (bd.hasPropertyValues()) {
+			for (PropertyValue pv : bd.getPropertyValues().getPropertyValues()) {
+				collectBeanReferences(pv.getValue(), references);
+			}
+		}
+	}
+
+	/**
+	 * Collect the names of all beans that the given bean definition value refers to,
+	 * including references within inner beans and managed collections.
+	 */
+	private void collectBeanReferences(@Nullable Object value, Set<String> references) {
+		if (value instanceof BeanReference) {
+			references.add(((BeanReference) value).getBeanName());
+		}
+		else if (value instanceof BeanDefinitionHolder) {
+			collectBeanDefinitionReferences(((BeanDefinitionHolder) value).getBeanDefinition(), references);
+		}
+		else if (value instanceof BeanDefinition) {
+			collectBeanDefinitionReferences((BeanDefinition) value, references);
+		}
+		else if (value instanceof Collection) {
+			for (Object element : (Collection<?>) value) {
+				collectBeanReferences(element, references);
+			}
+		}
+		else if (value instanceof Map) {
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				collectBeanReferences(entry.getKey(), references);
+				collectBeanReferences(entry.getValue(), references);
+			}
+		}
+		else if (value instanceof Object[]) {
+			for (Object element : (Object[]) value) {
+				collectBeanReferences(element, references);
+			}
+		}
+	}
+
 
 	//---------------------------------------------------------------------
 	// Implementation of BeanDefinitionRegistry interface
@@ -16,12 +16,14 @@
 
 package org.springframework.beans.factory.support;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,6 +37,7 @@ import org.springframework.beans.factory.BeanCurrentlyInCreationException;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.core.SimpleAliasRegistry;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -64,6 +67,13 @@ import org.springframework.util.StringUtils;
  * (which inherit from it). Can alternatively also be used as a nested
  * helper to delegate to.
  *
+ * <p>By default, singleton creation is serialized through the global singleton
+ * mutex. With {@link #setAllowConcurrentSingletonCreation "allowConcurrentSingletonCreation"}
+ * switched on, creation is guarded per bean name instead, so that independent
+ * singletons may be created on several threads at the same time. Circular
+ * references between singletons in creation on different threads get resolved
+ * through early singleton references, just like within a single thread.
+ *
  * @author Juergen Hoeller
  * @since 2.0
  * @see #registerSingleton
@@ -96,12 +106,25 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	private final Set<String> inCreationCheckExclusions =
 			Collections.newSetFromMap(new ConcurrentHashMap<>(16));
 
+	/** Whether to guard singleton creation per bean name instead of through the singleton mutex */
+	private volatile boolean allowConcurrentSingletonCreation = false;
+
+	/** Threads creating singletons in concurrent creation mode: bean name --> creating thread */
+	private final Map<String, Thread> singletonCreationThreads = new HashMap<>(16);
+
+	/** Threads waiting for singletons in concurrent creation mode: waiting thread --> bean name */
+	private final Map<Thread, String> singletonCreationAwaitingThreads = new HashMap<>(16);
+
+	/** Name of the singleton that the current thread creates in concurrent creation mode */
+	private final ThreadLocal<String> currentSingletonCreation =
+			new NamedThreadLocal<>("Current singleton in concurrent creation");
+
 	/** List of suppressed Exceptions, available for associating related causes */
-	@Nullable
-	private Set<Exception> suppressedExceptions;
+	private final ThreadLocal<Set<Exception>> suppressedExceptions =
+			new NamedThreadLocal<>("Suppressed exceptions during singleton creation");
 
 	/** Flag that indicates whether we're currently within destroySingletons */
-	private boolean singletonsCurrentlyInDestruction = false;
+	private volatile boolean singletonsCurrentlyInDestruction = false;
 
 	/** Disposable bean instances: bean name --> disposable instance */
 	private final Map<String, Object> disposableBeans = new LinkedHashMap<>();
@@ -116,6 +139,35 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	private final Map<String, Set<String>> dependenciesForBeanMap = new ConcurrentHashMap<>(64);
 
 
+	/**
+	 * Set whether singleton creation may happen on several threads at the same time,
+	 * guarding the creation of each singleton by its bean name rather than through
+	 * the global {@link #getSingletonMutex() singleton mutex}.
+	 * <p>Default is "false", serializing all singleton creation. Switch this flag
+	 * to "true" when independent singletons are meant to be initialized in parallel.
+	 * Requests for a singleton that another thread is currently creating
+	 * will block until that thread has finished, unless the requesting thread is
+	 * part of a circular reference with that thread, in which case an early
+	 * singleton reference will be exposed as with circular references on a single
+	 * thread.
+	 * <p>Note that a blocked request releases the singleton mutex while waiting,
+	 * even if the requesting thread holds it further up the call stack (e.g. while
+	 * obtaining a FactoryBean's object), since the creating thread needs the mutex
+	 * for completing its singleton. Code synchronizing on the singleton mutex around
+	 * {@code getBean} calls therefore needs to re-check its own state afterwards.
+	 */
+	public void setAllowConcurrentSingletonCreation(boolean allowConcurrentSingletonCreation) {
+		this.allowConcurrentSingletonCreation = allowConcurrentSingletonCreation;
+	}
+
+	/**
+	 * Return whether singleton creation may happen on several threads at the same time.
+	 */
+	public boolean isAllowConcurrentSingletonCreation() {
+		return this.allowConcurrentSingletonCreation;
+	}
+
+
 	@Override
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
 		Assert.notNull(beanName, "Bean name must not be null");
@@ -160,6 +212,10 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 				this.singletonFactories.put(beanName, singletonFactory);
 				this.earlySingletonObjects.remove(beanName);
 				this.registeredSingletons.add(beanName);
+				if (this.allowConcurrentSingletonCreation) {
+					// Threads stuck in a circular reference with this bean may proceed now...
+					this.singletonObjects.notifyAll();
+				}
 			}
 		}
 	}
@@ -183,15 +239,33 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		Object singletonObject = this.singletonObjects.get(beanName);
 		if (singletonObject == null && isSingletonCurrentlyInCreation(beanName)) {
 			synchronized (this.singletonObjects) {
-				singletonObject = this.earlySingletonObjects.get(beanName);
-				if (singletonObject == null && allowEarlyReference) {
-					ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
-					if (singletonFactory != null) {
-						singletonObject = singletonFactory.getObject();
-						this.earlySingletonObjects.put(beanName, singletonObject);
-						this.singletonFactories.remove(beanName);
-					}
+				if (isSingletonCurrentlyInCreationByOtherThread(beanName)) {
+					// Not exposing an early reference to a bean that another thread is busy
+					// with: getSingleton(String, ObjectFactory) will wait for its completion.
+					return null;
 				}
+				singletonObject = getEarlySingleton(beanName, allowEarlyReference);
+			}
+		}
+		return singletonObject;
+	}
+
+	/**
+	 * Return the early reference for the specified singleton, if any.
+	 * <p>To be called with the singleton mutex held.
+	 * @param beanName the name of the bean
+	 * @param allowEarlyReference whether early references should be created or not
+	 * @return the early singleton reference, or {@code null} if none available
+	 */
+	@Nullable
+	private Object getEarlySingleton(String beanName, boolean allowEarlyReference) {
+		Object singletonObject = this.earlySingletonObjects.get(beanName);
+		if (singletonObject == null && allowEarlyReference) {
+			ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
+			if (singletonFactory != null) {
+				singletonObject = singletonFactory.getObject();
+				this.earlySingletonObjects.put(beanName, singletonObject);
+				this.singletonFactories.remove(beanName);
 			}
 		}
 		return singletonObject;
@@ -207,55 +281,236 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 */
 	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(beanName, "Bean name must not be null");
+		if (this.allowConcurrentSingletonCreation) {
+			return getSingletonConcurrently(beanName, singletonFactory);
+		}
 		synchronized (this.singletonObjects) {
-			Object singletonObject = this.singletonObjects.get(beanName);
-			if (singletonObject == null) {
-				if (this.singletonsCurrentlyInDestruction) {
-					throw new BeanCreationNotAllowedException(beanName,
-							"Singleton bean creation not allowed while singletons of this factory are in destruction " +
-							"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
-				}
-				if (logger.isDebugEnabled()) {
-					logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
+			return createSingletonIfNecessary(beanName, singletonFactory);
+		}
+	}
+
+	/**
+	 * Variant of {@link #getSingleton(String, ObjectFactory)} for concurrent
+	 * singleton creation: only holding the singleton mutex for claiming the
+	 * creation of the given bean, not for the creation itself.
+	 * @param beanName the name of the bean
+	 * @param singletonFactory the ObjectFactory to lazily create the singleton
+	 * with, if necessary
+	 * @return the registered singleton object
+	 */
+	private Object getSingletonConcurrently(String beanName, ObjectFactory<?> singletonFactory) {
+		Thread currentThread = Thread.currentThread();
+		boolean creationClaimed = false;
+		synchronized (this.singletonObjects) {
+			boolean deadlockSignaled = false;
+			while (true) {
+				Object singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject != null) {
+					return singletonObject;
 				}
-				beforeSingletonCreation(beanName);
-				boolean newSingleton = false;
-				boolean recordSuppressedExceptions = (this.suppressedExceptions == null);
-				if (recordSuppressedExceptions) {
-					this.suppressedExceptions = new LinkedHashSet<>();
+				Thread creatingThread = this.singletonCreationThreads.get(beanName);
+				if (creatingThread == null) {
+					this.singletonCreationThreads.put(beanName, currentThread);
+					creationClaimed = true;
+					break;
 				}
-				try {
-					singletonObject = singletonFactory.getObject();
-					newSingleton = true;
+				if (creatingThread == currentThread) {
+					// Regular in-creation check for the current thread applies...
+					break;
 				}
-				catch (IllegalStateException ex) {
-					// Has the singleton object implicitly appeared in the meantime ->
-					// if yes, proceed with it since the exception indicates that state.
-					singletonObject = this.singletonObjects.get(beanName);
-					if (singletonObject == null) {
-						throw ex;
+				List<String> cycle = findCreationCycle(beanName, currentThread);
+				if (cycle != null) {
+					singletonObject = getEarlySingleton(beanName, true);
+					if (singletonObject != null) {
+						registerEarlySingletonConsumer(beanName);
+						return singletonObject;
 					}
-				}
-				catch (BeanCreationException ex) {
-					if (recordSuppressedExceptions) {
-						for (Exception suppressedException : this.suppressedExceptions) {
-							ex.addRelatedCause(suppressedException);
-						}
+					if (!hasEarlySingleton(cycle)) {
+						throw new BeanCurrentlyInCreationException(beanName,
+								"Requested bean is currently in creation on another thread which in turn waits for " +
+								"beans in creation on this thread: Is there an unresolvable circular reference? " +
+								"Circular reference chain: " + cycle);
 					}
+					if (!deadlockSignaled) {
+						// Let the other threads in the cycle resolve it through early references.
+						this.singletonObjects.notifyAll();
+						deadlockSignaled = true;
+					}
+				}
+				// Also waiting if the mutex is held further up the call stack: the creating
+				// thread cannot complete without it, so refusing the caller would turn the
+				// outcome into a matter of thread timing.
+				awaitSingletonCreation(beanName, currentThread);
+			}
+		}
+		String outerSingletonCreation = this.currentSingletonCreation.get();
+		if (creationClaimed) {
+			this.currentSingletonCreation.set(beanName);
+		}
+		try {
+			return createSingletonIfNecessary(beanName, singletonFactory);
+		}
+		finally {
+			if (creationClaimed) {
+				if (outerSingletonCreation != null) {
+					this.currentSingletonCreation.set(outerSingletonCreation);
+				}
+				else {
+					this.currentSingletonCreation.remove();
+				}
+				synchronized (this.singletonObjects) {
+					this.singletonCreationThreads.remove(beanName);
+					this.singletonObjects.notifyAll();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determine whether waiting for the specified bean would close a cycle of
+	 * threads waiting for each other's singletons in creation.
+	 * <p>To be called with the singleton mutex held.
+	 * @param beanName the name of the bean that the current thread is about to wait for
+	 * @param currentThread the current thread
+	 * @return the names of the awaited beans in the cycle, or {@code null} if no cycle
+	 */
+	@Nullable
+	private List<String> findCreationCycle(String beanName, Thread currentThread) {
+		List<String> cycle = new ArrayList<>(4);
+		cycle.add(beanName);
+		Thread thread = this.singletonCreationThreads.get(beanName);
+		while (thread != null && thread != currentThread) {
+			String awaitedBeanName = this.singletonCreationAwaitingThreads.get(thread);
+			if (awaitedBeanName == null || cycle.contains(awaitedBeanName)) {
+				return null;
+			}
+			cycle.add(awaitedBeanName);
+			thread = this.singletonCreationThreads.get(awaitedBeanName);
+		}
+		return (thread != null ? cycle : null);
+	}
+
+	/**
+	 * Determine whether any of the given beans exposes an early singleton reference.
+	 * <p>To be called with the singleton mutex held.
+	 */
+	private boolean hasEarlySingleton(List<String> beanNames) {
+		for (String beanName : beanNames) {
+			if (this.earlySingletonObjects.containsKey(beanName) || this.singletonFactories.containsKey(beanName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Register the singleton that the current thread is creating as dependent on
+	 * the given singleton, whose early reference it is about to receive from
+	 * another thread's creation.
+	 * <p>Registered right away rather than on injection, so that the creating
+	 * thread's check for raw references to a subsequently wrapped bean sees it.
+	 * <p>To be called with the singleton mutex held.
+	 * @param beanName the name of the bean whose early reference is handed out
+	 */
+	private void registerEarlySingletonConsumer(String beanName) {
+		String consumerBeanName = this.currentSingletonCreation.get();
+		if (consumerBeanName != null) {
+			registerDependentBean(beanName, consumerBeanName);
+		}
+	}
+
+	/**
+	 * Wait for the next change in singleton creation state, releasing the
+	 * singleton mutex in the meantime.
+	 * <p>To be called with the singleton mutex held. Note that any holds of
+	 * the mutex further up the call stack are released during the wait as well.
+	 * @see #setAllowConcurrentSingletonCreation
+	 */
+	private void awaitSingletonCreation(String beanName, Thread currentThread) {
+		this.singletonCreationAwaitingThreads.put(currentThread, beanName);
+		try {
+			this.singletonObjects.wait();
+		}
+		catch (InterruptedException ex) {
+			currentThread.interrupt();
+			throw new BeanCreationException(beanName,
+					"Interrupted while waiting for singleton creation on another thread");
+		}
+		finally {
+			this.singletonCreationAwaitingThreads.remove(currentThread);
+		}
+	}
+
+	/**
+	 * Determine whether the specified singleton is currently being created
+	 * by a thread other than the current one (in concurrent creation mode).
+	 * <p>To be called with the singleton mutex held.
+	 * @param beanName the name of the bean
+	 */
+	private boolean isSingletonCurrentlyInCreationByOtherThread(String beanName) {
+		if (!this.allowConcurrentSingletonCreation) {
+			return false;
+		}
+		Thread creatingThread = this.singletonCreationThreads.get(beanName);
+		return (creatingThread != null && creatingThread != Thread.currentThread());
+	}
+
+	/**
+	 * Create and register the given singleton unless it has been registered already.
+	 * @param beanName the name of the bean
+	 * @param singletonFactory the ObjectFactory to lazily create the singleton with
+	 * @return the registered singleton object
+	 */
+	private Object createSingletonIfNecessary(String beanName, ObjectFactory<?> singletonFactory) {
+		Object singletonObject = this.singletonObjects.get(beanName);
+		if (singletonObject == null) {
+			if (this.singletonsCurrentlyInDestruction) {
+				throw new BeanCreationNotAllowedException(beanName,
+						"Singleton bean creation not allowed while singletons of this factory are in destruction " +
+						"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
+			}
+			beforeSingletonCreation(beanName);
+			boolean newSingleton = false;
+			Set<Exception> suppressedExceptions = this.suppressedExceptions.get();
+			boolean recordSuppressedExceptions = (suppressedExceptions == null);
+			if (recordSuppressedExceptions) {
+				suppressedExceptions = new LinkedHashSet<>();
+				this.suppressedExceptions.set(suppressedExceptions);
+			}
+			try {
+				singletonObject = singletonFactory.getObject();
+				newSingleton = true;
+			}
+			catch (IllegalStateException ex) {
+				// Has the singleton object implicitly appeared in the meantime ->
+				// if yes, proceed with it since the exception indicates that state.
+				singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject == null) {
 					throw ex;
 				}
-				finally {
-					if (recordSuppressedExceptions) {
-						this.suppressedExceptions = null;
+			}
+			catch (BeanCreationException ex) {
+				if (recordSuppressedExceptions) {
+					for (Exception suppressedException : suppressedExceptions) {
+						ex.addRelatedCause(suppressedException);
 					}
-					afterSingletonCreation(beanName);
 				}
-				if (newSingleton) {
-					addSingleton(beanName, singletonObject);
+				throw ex;
+			}
+			finally {
+				if (recordSuppressedExceptions) {
+					this.suppressedExceptions.remove();
 				}
+				afterSingletonCreation(beanName);
+			}
+			if (newSingleton) {
+				addSingleton(beanName, singletonObject);
 			}
-			return singletonObject;
 		}
+		return singletonObject;
 	}
 
 	/**
@@ -264,10 +519,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @param ex the Exception to register
 	 */
 	protected void onSuppressedException(Exception ex) {
-		synchronized (this.singletonObjects) {
-			if (this.suppressedExceptions != null) {
-				this.suppressedExceptions.add(ex);
-			}
+		Set<Exception> suppressedExceptions = this.suppressedExceptions.get();
+		if (suppressedExceptions != null) {
+			suppressedExceptions.add(ex);
 		}
 	}
 
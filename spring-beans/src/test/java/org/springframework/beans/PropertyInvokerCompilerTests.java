@@ -0,0 +1,97 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.springframework.tests.sample.beans.TestBean;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class PropertyInvokerCompilerTests {
+
+	@Test
+	public void readAndWriteProperties() {
+		CompiledPropertyInvoker invoker = compile(TestBean.class);
+		assertNotNull(invoker);
+		TestBean tb = new TestBean();
+
+		int nameIndex = invoker.getWriteIndex("name");
+		assertTrue(invoker.isAssignableWriteValue(nameIndex, "juergen"));
+		assertTrue(invoker.isAssignableWriteValue(nameIndex, null));
+		invoker.invokeWriteMethod(tb, nameIndex, "juergen");
+		assertEquals("juergen", tb.getName());
+		assertEquals("juergen", invoker.invokeReadMethod(tb, invoker.getReadIndex("name")));
+
+		int ageIndex = invoker.getWriteIndex("age");
+		assertTrue(invoker.isAssignableWriteValue(ageIndex, 42));
+		assertFalse(invoker.isAssignableWriteValue(ageIndex, 42L));
+		assertFalse(invoker.isAssignableWriteValue(ageIndex, null));
+		invoker.invokeWriteMethod(tb, ageIndex, 42);
+		assertEquals(42, tb.getAge());
+		assertEquals(42, invoker.invokeReadMethod(tb, invoker.getReadIndex("age")));
+
+		assertEquals(-1, invoker.getWriteIndex("class"));
+		assertEquals(-1, invoker.getReadIndex("unknown"));
+	}
+
+	@Test
+	public void exceptionFromReadMethodPropagatesAsIs() {
+		CompiledPropertyInvoker invoker = compile(FailingBean.class);
+		assertNotNull(invoker);
+		try {
+			invoker.invokeReadMethod(new FailingBean(), invoker.getReadIndex("value"));
+			fail("Should have thrown IllegalStateException");
+		}
+		catch (IllegalStateException ex) {
+			assertEquals("no value", ex.getMessage());
+		}
+	}
+
+	@Test
+	public void nonPublicClassNotCompiled() {
+		assertNull(compile(NonPublicBean.class));
+	}
+
+
+	private static CompiledPropertyInvoker compile(Class<?> beanClass) {
+		return PropertyInvokerCompiler.compile(beanClass,
+				Arrays.asList(BeanUtils.getPropertyDescriptors(beanClass)));
+	}
+
+
+	public static class FailingBean {
+
+		public String getValue() {
+			throw new IllegalStateException("no value");
+		}
+	}
+
+
+	static class NonPublicBean {
+
+		public String getValue() {
+			return "value";
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2016 the original author or authors.
+ * Copyright 2002-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,6 +35,10 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Priority;
 import javax.security.auth.Subject;
 
@@ -2788,11 +2792,147 @@ public class DefaultListableBeanFactoryTests {
 	}
 
 
+	@Test
+	public void testPreInstantiateSingletonsWithBootstrapExecutor() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		CountDownLatch latch = new CountDownLatch(2);
+		RootBeanDefinition bd1 = new RootBeanDefinition(LatchBean.class);
+		bd1.getConstructorArgumentValues().addGenericArgumentValue(latch);
+		bd1.getPropertyValues().add("spouse", new RuntimeBeanReference("tb"));
+		lbf.registerBeanDefinition("latch1", bd1);
+		RootBeanDefinition bd2 = new RootBeanDefinition(LatchBean.class);
+		bd2.getConstructorArgumentValues().addGenericArgumentValue(latch);
+		lbf.registerBeanDefinition("latch2", bd2);
+		RootBeanDefinition tb = new RootBeanDefinition(TestBean.class);
+		tb.getPropertyValues().add("spouse", new RuntimeBeanReference("latch1"));
+		lbf.registerBeanDefinition("tb", tb);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			lbf.setBootstrapExecutor(executor);
+			// Both latch beans wait for each other: only completes with parallel pre-instantiation
+			lbf.preInstantiateSingletons();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertTrue(lbf.containsSingleton("latch1"));
+		assertTrue(lbf.containsSingleton("latch2"));
+		assertSame(lbf.getBean("latch1"), lbf.getBean("tb", TestBean.class).getSpouse());
+		assertSame(lbf.getBean("tb"), lbf.getBean("latch1", TestBean.class).getSpouse());
+		assertFalse(lbf.isAllowConcurrentSingletonCreation());
+	}
+
+	@Test
+	public void testPreInstantiateSingletonsWithBootstrapExecutorAndInfrastructureBeans() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		CountDownLatch latch = new CountDownLatch(2);
+		RootBeanDefinition bd1 = new RootBeanDefinition(LatchBean.class);
+		bd1.getConstructorArgumentValues().addGenericArgumentValue(latch);
+		lbf.registerBeanDefinition("latch1", bd1);
+		RootBeanDefinition bd2 = new RootBeanDefinition(LatchBean.class);
+		bd2.getConstructorArgumentValues().addGenericArgumentValue(latch);
+		lbf.registerBeanDefinition("latch2", bd2);
+		RootBeanDefinition factory = new RootBeanDefinition(CreationThreadFactoryBean.class);
+		factory.getPropertyValues().add("target", new RuntimeBeanReference("target"));
+		lbf.registerBeanDefinition("factory", factory);
+		lbf.registerBeanDefinition("target", new RootBeanDefinition(CreationThreadBean.class));
+		RootBeanDefinition infrastructure = new RootBeanDefinition(CreationThreadBean.class);
+		infrastructure.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+		lbf.registerBeanDefinition("infrastructure", infrastructure);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			lbf.setBootstrapExecutor(executor);
+			lbf.preInstantiateSingletons();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertTrue(lbf.containsSingleton("latch1"));
+		assertTrue(lbf.containsSingleton("latch2"));
+		// FactoryBeans, anything they refer to and infrastructure beans: on the calling thread
+		assertSame(Thread.currentThread(), lbf.getBean("&factory", CreationThreadFactoryBean.class).creationThread);
+		assertSame(Thread.currentThread(), lbf.getBean("target", CreationThreadBean.class).creationThread);
+		assertSame(lbf.getBean("target"), lbf.getBean("factory"));
+		assertSame(Thread.currentThread(), lbf.getBean("infrastructure", CreationThreadBean.class).creationThread);
+	}
+
+	@Test
+	public void testPreInstantiateSingletonsWithBootstrapExecutorAndCreationFailure() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class));
+		RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+		bd.getPropertyValues().add("age", "not a number");
+		lbf.registerBeanDefinition("invalid", bd);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			lbf.setBootstrapExecutor(executor);
+			lbf.preInstantiateSingletons();
+			fail("Should have thrown BeanCreationException");
+		}
+		catch (BeanCreationException ex) {
+			assertEquals("invalid", ex.getBeanName());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+
 	static class A { }
 
 	static class B { }
 
 
+	public static class LatchBean extends TestBean {
+
+		public LatchBean(CountDownLatch latch) throws InterruptedException {
+			latch.countDown();
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		}
+	}
+
+
+	public static class CreationThreadBean extends TestBean {
+
+		public final Thread creationThread = Thread.currentThread();
+	}
+
+
+	public static class CreationThreadFactoryBean implements SmartFactoryBean<TestBean> {
+
+		public final Thread creationThread = Thread.currentThread();
+
+		private TestBean target;
+
+		public void setTarget(TestBean target) {
+			this.target = target;
+		}
+
+		@Override
+		public TestBean getObject() {
+			return this.target;
+		}
+
+		@Override
+		public Class<?> getObjectType() {
+			return TestBean.class;
+		}
+
+		@Override
+		public boolean isSingleton() {
+			return true;
+		}
+
+		@Override
+		public boolean isEagerInit() {
+			return true;
+		}
+	}
+
+
 	public static class NoDependencies {
 
 		private NoDependencies() {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2014 the original author or authors.
+ * Copyright 2002-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,17 @@
 
 package org.springframework.beans.factory.support;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.tests.sample.beans.DerivedTestBean;
 import org.springframework.tests.sample.beans.TestBean;
@@ -101,4 +109,136 @@ public class DefaultSingletonBeanRegistryTests {
 		assertTrue(beanRegistry.isDependent("c", "c"));
 	}
 
+	@Test
+	public void testConcurrentSingletonCreation() throws Exception {
+		DefaultSingletonBeanRegistry beanRegistry = new DefaultSingletonBeanRegistry();
+		beanRegistry.setAllowConcurrentSingletonCreation(true);
+		CountDownLatch latch = new CountDownLatch(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// Each factory waits for the other one to start: only completes with concurrent creation
+			Future<Object> tb1 = executor.submit(() -> beanRegistry.getSingleton("tb1", () -> {
+				awaitLatch(latch);
+				return new TestBean("tb1");
+			}));
+			Future<Object> tb2 = executor.submit(() -> beanRegistry.getSingleton("tb2", () -> {
+				awaitLatch(latch);
+				return new TestBean("tb2");
+			}));
+			assertSame(tb1.get(10, TimeUnit.SECONDS), beanRegistry.getSingleton("tb1"));
+			assertSame(tb2.get(10, TimeUnit.SECONDS), beanRegistry.getSingleton("tb2"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testConcurrentSingletonCreationWithCircularReference() throws Exception {
+		DefaultSingletonBeanRegistry beanRegistry = new DefaultSingletonBeanRegistry();
+		beanRegistry.setAllowConcurrentSingletonCreation(true);
+		CountDownLatch latch = new CountDownLatch(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Object> tb1 = executor.submit(() -> createWithSpouse(beanRegistry, "tb1", "tb2", latch));
+			Future<Object> tb2 = executor.submit(() -> createWithSpouse(beanRegistry, "tb2", "tb1", latch));
+			TestBean bean1 = (TestBean) tb1.get(10, TimeUnit.SECONDS);
+			TestBean bean2 = (TestBean) tb2.get(10, TimeUnit.SECONDS);
+			assertSame(bean1, beanRegistry.getSingleton("tb1"));
+			assertSame(bean2, beanRegistry.getSingleton("tb2"));
+			assertSame(bean2, bean1.getSpouse());
+			assertSame(bean1, bean2.getSpouse());
+			// The thread that received an early reference is registered as its dependent
+			assertTrue(beanRegistry.isDependent("tb1", "tb2") || beanRegistry.isDependent("tb2", "tb1"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testConcurrentSingletonCreationWhileObtainingFactoryBeanObject() throws Exception {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.setAllowConcurrentSingletonCreation(true);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		beanFactory.registerBeanDefinition("slow", new RootBeanDefinition(TestBean.class, () -> {
+			started.countDown();
+			try {
+				assertTrue(proceed.await(10, TimeUnit.SECONDS));
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+			return new TestBean("slow");
+		}));
+		AtomicInteger objectCount = new AtomicInteger();
+		beanFactory.registerSingleton("factory", new FactoryBean<TestBean>() {
+			@Override
+			public TestBean getObject() {
+				objectCount.incrementAndGet();
+				return new TestBean((TestBean) beanFactory.getBean("slow"));
+			}
+			@Override
+			public Class<?> getObjectType() {
+				return TestBean.class;
+			}
+			@Override
+			public boolean isSingleton() {
+				return true;
+			}
+		});
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Object> slow = executor.submit(() -> beanFactory.getBean("slow"));
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+			Thread requestingThread = Thread.currentThread();
+			Thread releasingThread = new Thread(() -> {
+				// Let "slow" complete once the FactoryBean object request waits for it
+				while (requestingThread.getState() != Thread.State.WAITING) {
+					Thread.yield();
+				}
+				proceed.countDown();
+			});
+			releasingThread.start();
+			// Waits for "slow" although the singleton mutex is held for the FactoryBean object
+			TestBean object = (TestBean) beanFactory.getBean("factory");
+			Object slowBean = slow.get(10, TimeUnit.SECONDS);
+			assertSame(slowBean, object.getSpouse());
+			assertSame(object, beanFactory.getBean("factory"));
+			assertEquals(1, objectCount.get());
+			releasingThread.join(10000);
+		}
+		finally {
+			proceed.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	private static Object createWithSpouse(
+			DefaultSingletonBeanRegistry beanRegistry, String beanName, String spouseName, CountDownLatch latch) {
+
+		return beanRegistry.getSingleton(beanName, () -> {
+			TestBean tb = new TestBean(beanName);
+			beanRegistry.addSingletonFactory(beanName, () -> tb);
+			awaitLatch(latch);
+			Object spouse = beanRegistry.getSingleton(spouseName);
+			if (spouse == null) {
+				spouse = createWithSpouse(beanRegistry, spouseName, beanName, latch);
+			}
+			tb.setSpouse((TestBean) spouse);
+			return tb;
+		});
+	}
+
+	private static void awaitLatch(CountDownLatch latch) {
+		latch.countDown();
+		try {
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		}
+		catch (InterruptedException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
 }
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConcurrentMapCache} variant that holds at most a given number of
+ * entries, evicting the least recently used entry once that limit is reached.
+ *
+ * <p>Lookups are served from the underlying {@link ConcurrentHashMap} as usual;
+ * the access order is tracked separately in order to determine which entry
+ * to evict. Cache hits do not update the access order right away but get
+ * recorded in per-thread striped buffers without locking, which are applied
+ * in batches; under heavy contention, some accesses may not be recorded at all,
+ * making the eviction order an approximation of the least recently used one.
+ * This cache also keeps track of its hit and miss counts, allowing to monitor
+ * whether the configured limit is adequate.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class BoundedConcurrentMapCache extends ConcurrentMapCache {
+
+	/** Default maximum number of entries for the cache: 1024 */
+	public static final int DEFAULT_CACHE_LIMIT = 1024;
+
+	private static final int ACCESS_BUFFER_COUNT =
+			Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 16) * 2 - 1);
+
+	/** Maximum number of pending accesses per buffer; further ones get dropped */
+	private static final int ACCESS_BUFFER_SIZE = 64;
+
+	/** Number of pending accesses per buffer at which to try to apply them */
+	private static final int ACCESS_BUFFER_DRAIN_THRESHOLD = ACCESS_BUFFER_SIZE / 2;
+
+
+	private final int cacheLimit;
+
+	/** Keys in access order, evicting entries from the store when exceeding the limit */
+	private final Map<Object, Boolean> accessOrder;
+
+	/** Guards the access order, including the application of recorded accesses */
+	private final ReentrantLock accessOrderLock = new ReentrantLock();
+
+	private final AccessBuffer[] accessBuffers = new AccessBuffer[ACCESS_BUFFER_COUNT];
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name
+	 * and the {@link #DEFAULT_CACHE_LIMIT default cache limit}.
+	 * @param name the name of the cache
+	 */
+	public BoundedConcurrentMapCache(String name) {
+		this(name, DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and limit.
+	 * @param name the name of the cache
+	 * @param cacheLimit the maximum number of entries to hold
+	 */
+	public BoundedConcurrentMapCache(String name, int cacheLimit) {
+		this(name, cacheLimit, true);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and limit.
+	 * @param name the name of the cache
+	 * @param cacheLimit the maximum number of entries to hold
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 */
+	public BoundedConcurrentMapCache(String name, int cacheLimit, boolean allowNullValues) {
+		super(name, new ConcurrentHashMap<>(Math.min(cacheLimit, 256)), allowNullValues);
+		Assert.isTrue(cacheLimit > 0, "Cache limit must be greater than 0");
+		this.cacheLimit = cacheLimit;
+		this.accessOrder = new LinkedHashMap<Object, Boolean>(Math.min(cacheLimit, 256), 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+				if (size() > BoundedConcurrentMapCache.this.cacheLimit) {
+					getNativeCache().remove(eldest.getKey());
+					return true;
+				}
+				return false;
+			}
+		};
+		for (int i = 0; i < this.accessBuffers.length; i++) {
+			this.accessBuffers[i] = new AccessBuffer();
+		}
+	}
+
+
+	/**
+	 * Return the maximum number of entries for the cache.
+	 */
+	public int getCacheLimit() {
+		return this.cacheLimit;
+	}
+
+	/**
+	 * Return the number of lookups that found a cached entry.
+	 */
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	/**
+	 * Return the number of lookups that did not find a cached entry.
+	 */
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	/**
+	 * Return the ratio of lookups that found a cached entry,
+	 * or {@code 0} if there have not been any lookups yet.
+	 */
+	public double getHitRatio() {
+		long hits = this.hitCount.get();
+		long total = hits + this.missCount.get();
+		return (total > 0 ? (double) hits / total : 0);
+	}
+
+
+	@Override
+	protected Object lookup(Object key) {
+		Object value = super.lookup(key);
+		if (value != null) {
+			this.hitCount.incrementAndGet();
+			recordAccess(key);
+		}
+		else {
+			this.missCount.incrementAndGet();
+		}
+		return value;
+	}
+
+	@Override
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		boolean present = getNativeCache().containsKey(key);
+		// The value loader runs outside of the lock; only track the key if it
+		// has not been evicted again in the meantime.
+		T value = super.get(key, valueLoader);
+		(present ? this.hitCount : this.missCount).incrementAndGet();
+		lockAccessOrder();
+		try {
+			if (getNativeCache().containsKey(key)) {
+				this.accessOrder.put(key, Boolean.TRUE);
+			}
+		}
+		finally {
+			this.accessOrderLock.unlock();
+		}
+		return value;
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		lockAccessOrder();
+		try {
+			super.put(key, value);
+			this.accessOrder.put(key, Boolean.TRUE);
+		}
+		finally {
+			this.accessOrderLock.unlock();
+		}
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		lockAccessOrder();
+		try {
+			ValueWrapper existing = super.putIfAbsent(key, value);
+			this.accessOrder.put(key, Boolean.TRUE);
+			return existing;
+		}
+		finally {
+			this.accessOrderLock.unlock();
+		}
+	}
+
+	@Override
+	public void evict(Object key) {
+		lockAccessOrder();
+		try {
+			super.evict(key);
+			this.accessOrder.remove(key);
+		}
+		finally {
+			this.accessOrderLock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		lockAccessOrder();
+		try {
+			super.clear();
+			this.accessOrder.clear();
+		}
+		finally {
+			this.accessOrderLock.unlock();
+		}
+	}
+
+
+	/**
+	 * Record an access to the given key in the buffer of the current thread,
+	 * applying the buffered accesses if the lock can be obtained right away.
+	 */
+	private void recordAccess(Object key) {
+		int index = (int) Thread.currentThread().getId() & (this.accessBuffers.length - 1);
+		if (this.accessBuffers[index].add(key) >= ACCESS_BUFFER_DRAIN_THRESHOLD &&
+				this.accessOrderLock.tryLock()) {
+			try {
+				drainAccessBuffers();
+			}
+			finally {
+				this.accessOrderLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Obtain the access order lock, applying any buffered accesses first
+	 * so that they are taken into account for subsequent evictions.
+	 */
+	private void lockAccessOrder() {
+		this.accessOrderLock.lock();
+		drainAccessBuffers();
+	}
+
+	private void drainAccessBuffers() {
+		for (AccessBuffer accessBuffer : this.accessBuffers) {
+			accessBuffer.drainTo(this.accessOrder);
+		}
+	}
+
+
+	/**
+	 * Lossy ring buffer of recently accessed keys: written to without locking,
+	 * drained while holding the access order lock.
+	 */
+	private static class AccessBuffer {
+
+		private final AtomicReferenceArray<Object> keys = new AtomicReferenceArray<>(ACCESS_BUFFER_SIZE);
+
+		private final AtomicLong writeCount = new AtomicLong();
+
+		private volatile long readCount;
+
+		/**
+		 * Add the given key unless the buffer is full.
+		 * @return the number of pending accesses, including the given one
+		 */
+		public int add(Object key) {
+			long pending = this.writeCount.get() - this.readCount;
+			if (pending >= ACCESS_BUFFER_SIZE) {
+				return (int) pending;
+			}
+			long index = this.writeCount.getAndIncrement();
+			this.keys.lazySet((int) (index & (ACCESS_BUFFER_SIZE - 1)), key);
+			return (int) (index + 1 - this.readCount);
+		}
+
+		public void drainTo(Map<Object, Boolean> accessOrder) {
+			long writeCount = this.writeCount.get();
+			for (long index = this.readCount; index < writeCount; index++) {
+				Object key = this.keys.getAndSet((int) (index & (ACCESS_BUFFER_SIZE - 1)), null);
+				// Null if not written yet by a concurrent add: that access gets lost
+				if (key != null) {
+					accessOrder.get(key);
+				}
+			}
+			this.readCount = writeCount;
+		}
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.cache.AbstractValueAdaptingCacheTests;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class BoundedConcurrentMapCacheTests
+		extends AbstractValueAdaptingCacheTests<BoundedConcurrentMapCache> {
+
+	protected BoundedConcurrentMapCache cache;
+
+	protected BoundedConcurrentMapCache cacheNoNull;
+
+
+	@Before
+	public void setUp() throws Exception {
+		this.cache = new BoundedConcurrentMapCache(CACHE_NAME);
+		this.cacheNoNull = new BoundedConcurrentMapCache(CACHE_NAME_NO_NULL,
+				BoundedConcurrentMapCache.DEFAULT_CACHE_LIMIT, false);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache(boolean allowNull) {
+		return allowNull ? this.cache : this.cacheNoNull;
+	}
+
+	@Override
+	protected ConcurrentMap<Object, Object> getNativeCache() {
+		return this.cache.getNativeCache();
+	}
+
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 2);
+		cache.put("a", "1");
+		cache.put("b", "2");
+		assertEquals("1", cache.get("a", String.class));
+		cache.put("c", "3");
+
+		assertEquals(2, cache.getNativeCache().size());
+		assertNull(cache.get("b"));
+		assertEquals("1", cache.get("a", String.class));
+		assertEquals("3", cache.get("c", String.class));
+	}
+
+	@Test
+	public void evictLeastRecentlyUsedAfterManyLookups() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 2);
+		cache.put("a", "1");
+		cache.put("b", "2");
+		for (int i = 0; i < 1000; i++) {
+			assertEquals("2", cache.get("b", String.class));
+			assertEquals("1", cache.get("a", String.class));
+		}
+		cache.put("c", "3");
+
+		assertEquals(2, cache.getNativeCache().size());
+		assertNull(cache.get("b"));
+		assertEquals("1", cache.get("a", String.class));
+		assertEquals("3", cache.get("c", String.class));
+	}
+
+	@Test
+	public void evictAfterValueLoader() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 2);
+		cache.get("a", () -> "1");
+		cache.get("b", () -> "2");
+		cache.putIfAbsent("c", "3");
+
+		assertEquals(2, cache.getNativeCache().size());
+		assertNull(cache.get("a"));
+	}
+
+	@Test
+	public void concurrentPutAndEvictStayWithinLimit() throws Exception {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 8);
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			int offset = i;
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 10000; j++) {
+					Integer key = (j + offset) % 32;
+					if (j % 3 == 0) {
+						cache.evict(key);
+					}
+					else {
+						cache.put(key, j);
+					}
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertTrue(cache.getNativeCache().size() <= 8);
+		for (int i = 0; i < 32; i++) {
+			cache.put("k" + i, i);
+		}
+		assertEquals(8, cache.getNativeCache().size());
+	}
+
+	@Test
+	public void concurrentLookupAndPutStayWithinLimit() throws Exception {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 8);
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			int offset = i;
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 10000; j++) {
+					Integer key = (j + offset) % 32;
+					if (j % 4 == 0) {
+						cache.put(key, j);
+					}
+					else {
+						cache.get(key);
+					}
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertTrue(cache.getNativeCache().size() <= 8);
+		assertEquals(40000, cache.getHitCount() + cache.getMissCount() + 10000);
+	}
+
+	@Test
+	public void hitAndMissCounts() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 2);
+		assertEquals(0, cache.getHitRatio(), 0);
+		cache.put("a", "1");
+		cache.get("a");
+		cache.get("a");
+		cache.get("b");
+		cache.get("c", () -> "3");
+
+		assertEquals(2, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+		assertEquals(0.5, cache.getHitRatio(), 0);
+	}
+
+}
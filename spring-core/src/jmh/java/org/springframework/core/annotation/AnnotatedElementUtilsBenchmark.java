@@ -0,0 +1,140 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for merged annotation lookups through {@link AnnotatedElementUtils},
+ * covering direct, meta-annotated and inherited declarations.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class AnnotatedElementUtilsBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public Method directMethod;
+
+		public Method composedMethod;
+
+		public Method inheritedMethod;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.directMethod = SampleController.class.getMethod("direct");
+			this.composedMethod = SampleController.class.getMethod("composed");
+			this.inheritedMethod = SampleController.class.getMethod("inherited");
+		}
+	}
+
+
+	@Benchmark
+	public Object findMergedAnnotationOnClass() {
+		return AnnotatedElementUtils.findMergedAnnotation(SampleController.class, Mapping.class);
+	}
+
+	@Benchmark
+	public Object findMergedAnnotationDirect(BenchmarkData data) {
+		return AnnotatedElementUtils.findMergedAnnotation(data.directMethod, Mapping.class);
+	}
+
+	@Benchmark
+	public Object findMergedAnnotationComposed(BenchmarkData data) {
+		return AnnotatedElementUtils.findMergedAnnotation(data.composedMethod, Mapping.class);
+	}
+
+	@Benchmark
+	public Object findMergedAnnotationInherited(BenchmarkData data) {
+		return AnnotatedElementUtils.findMergedAnnotation(data.inheritedMethod, Mapping.class);
+	}
+
+	@Benchmark
+	public Object getMergedAnnotationComposed(BenchmarkData data) {
+		return AnnotatedElementUtils.getMergedAnnotation(data.composedMethod, Mapping.class);
+	}
+
+	@Benchmark
+	public boolean hasAnnotationMissing(BenchmarkData data) {
+		return AnnotatedElementUtils.hasAnnotation(data.directMethod, Deprecated.class);
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.METHOD})
+	@Inherited
+	public @interface Mapping {
+
+		@AliasFor("path")
+		String[] value() default {};
+
+		@AliasFor("value")
+		String[] path() default {};
+
+		String method() default "";
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.METHOD)
+	@Mapping(method = "GET")
+	public @interface GetMapping {
+
+		@AliasFor(annotation = Mapping.class)
+		String[] value() default {};
+	}
+
+
+	public interface SampleApi {
+
+		@Mapping("/inherited")
+		void inherited();
+	}
+
+
+	@Mapping("/sample")
+	public static class SampleController implements SampleApi {
+
+		@Mapping(path = "/direct", method = "POST")
+		public void direct() {
+		}
+
+		@GetMapping("/composed")
+		public void composed() {
+		}
+
+		@Override
+		public void inherited() {
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.convert.support;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.core.convert.TypeDescriptor;
+
+/**
+ * Benchmarks for {@link GenericConversionService} conversions through the
+ * {@link DefaultConversionService} converter set.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class GenericConversionServiceBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public GenericConversionService conversionService;
+
+		public List<Integer> integers;
+
+		public TypeDescriptor sourceListType;
+
+		public TypeDescriptor targetSetType;
+
+		public Map<String, Integer> sourceMap;
+
+		public TypeDescriptor sourceMapType;
+
+		public TypeDescriptor targetMapType;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.conversionService = new DefaultConversionService();
+			this.integers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+			this.sourceListType = TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(Integer.class));
+			this.targetSetType = TypeDescriptor.collection(Set.class, TypeDescriptor.valueOf(String.class));
+			this.sourceMap = new LinkedHashMap<>();
+			this.sourceMap.put("one", 1);
+			this.sourceMap.put("two", 2);
+			this.sourceMapType = TypeDescriptor.map(Map.class,
+					TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Integer.class));
+			this.targetMapType = TypeDescriptor.map(Map.class,
+					TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(String.class));
+		}
+	}
+
+
+	@Benchmark
+	public Integer convertStringToInteger(BenchmarkData data) {
+		return data.conversionService.convert("42", Integer.class);
+	}
+
+	@Benchmark
+	public String convertIntegerToString(BenchmarkData data) {
+		return data.conversionService.convert(42, String.class);
+	}
+
+	@Benchmark
+	public Object convertListOfIntegerToSetOfString(BenchmarkData data) {
+		return data.conversionService.convert(data.integers, data.sourceListType, data.targetSetType);
+	}
+
+	@Benchmark
+	public Object convertMapOfIntegerToMapOfString(BenchmarkData data) {
+		return data.conversionService.convert(data.sourceMap, data.sourceMapType, data.targetMapType);
+	}
+
+	@Benchmark
+	public boolean canConvert(BenchmarkData data) {
+		return data.conversionService.canConvert(data.sourceListType, data.targetSetType);
+	}
+
+}
@@ -58,6 +58,8 @@ public class StringDecoder extends AbstractDecoder<String> {
 
 	private final boolean splitOnNewline;
 
+	private int maxInMemorySize = -1;
+
 
 	/**
 	 * Create a {@code StringDecoder} that decodes a bytes stream to a String stream
@@ -70,6 +72,28 @@ public class StringDecoder extends AbstractDecoder<String> {
 	}
 
 
+	/**
+	 * Configure a limit on the number of bytes that can be buffered when the
+	 * input stream needs to be aggregated, i.e. when decoding to a single
+	 * {@code String}. If the limit is exceeded, decoding fails with a
+	 * {@link org.springframework.core.io.buffer.DataBufferLimitException}.
+	 * <p>By default this is set to -1, i.e. unlimited.
+	 * @param byteCount the max number of bytes to buffer, or -1 for unlimited
+	 * @since 5.0.3
+	 */
+	public void setMaxInMemorySize(int byteCount) {
+		this.maxInMemorySize = byteCount;
+	}
+
+	/**
+	 * Return the {@link #setMaxInMemorySize configured} byte count limit.
+	 * @since 5.0.3
+	 */
+	public int getMaxInMemorySize() {
+		return this.maxInMemorySize;
+	}
+
+
 	@Override
 	public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		return (super.canDecode(elementType, mimeType) &&
@@ -91,8 +115,7 @@ public class StringDecoder extends AbstractDecoder<String> {
 	public Mono<String> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
-		return Flux.from(inputStream)
-				.reduce(DataBuffer::write)
+		return DataBufferUtils.join(inputStream, this.maxInMemorySize)
 				.map(buffer -> decodeDataBuffer(buffer, mimeType));
 	}
 
@@ -28,6 +28,8 @@ import java.nio.channels.CompletionHandler;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
@@ -38,6 +40,7 @@ import org.reactivestreams.Subscription;
 import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.SynchronousSink;
 
 import org.springframework.core.io.Resource;
@@ -375,6 +378,57 @@ public abstract class DataBufferUtils {
 				});
 	}
 
+	/**
+	 * Aggregate the given {@link Publisher} of data buffers into a single
+	 * data buffer, failing fast once the total
+	 * {@linkplain DataBuffer#readableByteCount() byte count} exceeds the given
+	 * maximum. In that case, the buffer that crossed the limit and all buffers
+	 * aggregated so far are released, and the returned {@code Mono} fails with
+	 * a {@link DataBufferLimitException}.
+	 * @param publisher the data buffers to aggregate
+	 * @param maxByteCount the maximum number of bytes to aggregate, or -1 for
+	 * no limit
+	 * @return a mono with the aggregated buffer, or an empty mono if the
+	 * publisher completed without any buffers
+	 * @since 5.0.3
+	 */
+	public static Mono<DataBuffer> join(Publisher<DataBuffer> publisher, int maxByteCount) {
+		Assert.notNull(publisher, "Publisher must not be null");
+		if (maxByteCount < 0) {
+			return Flux.from(publisher).reduce(DataBuffer::write);
+		}
+
+		return Mono.defer(() -> {
+			List<DataBuffer> dataBuffers = new ArrayList<>();
+			AtomicLong byteCount = new AtomicLong();
+			return Flux.from(publisher)
+					.doOnNext(dataBuffer -> {
+						if (byteCount.addAndGet(dataBuffer.readableByteCount()) > maxByteCount) {
+							release(dataBuffer);
+							throw new DataBufferLimitException(
+									"Exceeded limit on max bytes to buffer: " + maxByteCount);
+						}
+						dataBuffers.add(dataBuffer);
+					})
+					.doOnError(ex -> dataBuffers.forEach(DataBufferUtils::release))
+					.doOnCancel(() -> dataBuffers.forEach(DataBufferUtils::release))
+					.then(Mono.fromSupplier(() -> joinBuffers(dataBuffers)));
+		});
+	}
+
+	@Nullable
+	private static DataBuffer joinBuffers(List<DataBuffer> dataBuffers) {
+		if (dataBuffers.isEmpty()) {
+			return null;
+		}
+		DataBuffer first = dataBuffers.get(0);
+		if (dataBuffers.size() == 1) {
+			return first;
+		}
+		List<DataBuffer> others = dataBuffers.subList(1, dataBuffers.size());
+		return first.write(others.toArray(new DataBuffer[others.size()]));
+	}
+
 	/**
 	 * Retain the given data buffer, it it is a {@link PooledDataBuffer}.
 	 * @param dataBuffer the data buffer to retain
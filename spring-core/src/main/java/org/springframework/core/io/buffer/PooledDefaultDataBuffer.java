@@ -0,0 +1,193 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Extension of {@link DefaultDataBuffer} whose memory is drawn from, and
+ * returned to, a {@link PooledDefaultDataBufferFactory}. Constructed using
+ * {@link PooledDefaultDataBufferFactory#allocateBuffer(int)}.
+ *
+ * <p>The buffer starts with a reference count of one; once it drops to zero,
+ * its memory is recycled and the buffer must no longer be used.
+ * {@linkplain #slice(int, int) Slices} share the reference count of this buffer,
+ * and data buffers {@linkplain #write(DataBuffer...) written} into this buffer
+ * are released after they have been copied, in line with
+ * {@link NettyDataBuffer}.
+ *
+ * @author agent
+ * @since 5.0.3
+ * @see PooledDefaultDataBufferFactory
+ */
+public class PooledDefaultDataBuffer extends DefaultDataBuffer implements PooledDataBuffer {
+
+	private final PooledDefaultDataBufferFactory dataBufferFactory;
+
+	private final AtomicInteger refCount = new AtomicInteger(1);
+
+	@Nullable
+	private final PooledDefaultDataBufferFactory.AllocationRecord allocationRecord;
+
+	private ByteBuffer chunk;
+
+
+	PooledDefaultDataBuffer(PooledDefaultDataBufferFactory dataBufferFactory, ByteBuffer chunk,
+			int capacity, @Nullable PooledDefaultDataBufferFactory.AllocationRecord allocationRecord) {
+
+		super(dataBufferFactory, limit(chunk, capacity));
+		this.dataBufferFactory = dataBufferFactory;
+		this.chunk = chunk;
+		this.allocationRecord = allocationRecord;
+	}
+
+	private static ByteBuffer limit(ByteBuffer chunk, int capacity) {
+		ByteBuffer duplicate = chunk.duplicate();
+		((Buffer) duplicate).clear().limit(capacity);
+		return duplicate;
+	}
+
+
+	@Override
+	public PooledDefaultDataBufferFactory factory() {
+		return this.dataBufferFactory;
+	}
+
+	@Override
+	public PooledDefaultDataBuffer retain() {
+		int count;
+		do {
+			count = this.refCount.get();
+			if (count <= 0) {
+				throw new IllegalStateException("Data buffer has already been released: " + this);
+			}
+		}
+		while (!this.refCount.compareAndSet(count, count + 1));
+		return this;
+	}
+
+	@Override
+	public boolean release() {
+		int count = this.refCount.decrementAndGet();
+		if (count > 0) {
+			return false;
+		}
+		if (count < 0) {
+			this.refCount.incrementAndGet();
+			throw new IllegalStateException("Data buffer has already been released: " + this);
+		}
+		this.dataBufferFactory.recycle(this.chunk);
+		this.dataBufferFactory.released(this.allocationRecord);
+		return true;
+	}
+
+	/**
+	 * Return the current reference count of this buffer.
+	 */
+	public int refCount() {
+		return this.refCount.get();
+	}
+
+	@Override
+	public DataBuffer capacity(int newCapacity) {
+		ByteBuffer oldChunk = this.chunk;
+		super.capacity(newCapacity);
+		if (this.chunk != oldChunk) {
+			this.dataBufferFactory.recycle(oldChunk);
+		}
+		return this;
+	}
+
+	@Override
+	ByteBuffer allocate(int capacity, boolean direct) {
+		// Only draw a new chunk if the size class of the current one is exceeded
+		if (capacity > this.chunk.capacity()) {
+			this.chunk = this.dataBufferFactory.acquire(capacity);
+		}
+		return limit(this.chunk, capacity).slice();
+	}
+
+	/**
+	 * Copy the given data buffers into this buffer, and release them afterwards.
+	 */
+	@Override
+	public DataBuffer write(DataBuffer... buffers) {
+		super.write(buffers);
+		if (!ObjectUtils.isEmpty(buffers)) {
+			for (DataBuffer buffer : buffers) {
+				DataBufferUtils.release(buffer);
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public DataBuffer slice(int index, int length) {
+		DefaultDataBuffer slice = (DefaultDataBuffer) super.slice(index, length);
+		return new PooledSlicedDataBuffer(slice.getNativeBuffer(), this, length);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PooledDefaultDataBuffer (r: %d, w %d, c %d, refCount %d)",
+				readPosition(), writePosition(), capacity(), refCount());
+	}
+
+
+	/**
+	 * Slice of a {@link PooledDefaultDataBuffer}, sharing its reference count.
+	 */
+	private static class PooledSlicedDataBuffer extends DefaultDataBuffer implements PooledDataBuffer {
+
+		private final PooledDefaultDataBuffer parent;
+
+		PooledSlicedDataBuffer(ByteBuffer byteBuffer, PooledDefaultDataBuffer parent, int length) {
+			super(parent.factory(), byteBuffer);
+			this.parent = parent;
+			writePosition(length);
+		}
+
+		@Override
+		public PooledDataBuffer retain() {
+			this.parent.retain();
+			return this;
+		}
+
+		@Override
+		public boolean release() {
+			return this.parent.release();
+		}
+
+		@Override
+		public DataBuffer capacity(int newCapacity) {
+			throw new UnsupportedOperationException(
+					"Changing the capacity of a sliced buffer is not supported");
+		}
+
+		@Override
+		public DataBuffer slice(int index, int length) {
+			DefaultDataBuffer slice = (DefaultDataBuffer) super.slice(index, length);
+			return new PooledSlicedDataBuffer(slice.getNativeBuffer(), this.parent, length);
+		}
+	}
+
+}
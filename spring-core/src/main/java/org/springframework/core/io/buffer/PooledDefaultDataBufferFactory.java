@@ -0,0 +1,289 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Variant of {@link DefaultDataBufferFactory} that hands out reference-counted
+ * {@link PooledDataBuffer PooledDataBuffers} backed by recycled {@code ByteBuffer}s,
+ * for runtimes without Netty (i.e. Servlet 3.1 and Undertow) where allocating a
+ * fresh buffer for every chunk puts a noticeable load on the garbage collector.
+ *
+ * <p>Buffers are pooled in power-of-two size classes, starting at
+ * {@value #MIN_SIZE_CLASS} bytes and ending at the configured maximum pooled
+ * capacity. Each size class retains a bounded number of released buffers;
+ * larger allocations, and releases into a full size class, simply fall back on
+ * the garbage collector. Memory is returned to the pool once a buffer and all of
+ * its {@linkplain DataBuffer#slice(int, int) slices} have been
+ * {@linkplain DataBufferUtils#release(DataBuffer) released}, so an unbalanced
+ * {@code release} call reuses memory that is still in use, while a missing
+ * one merely loses the buffer to the garbage collector.
+ *
+ * <p>To track down the latter, {@linkplain #setTrackAllocations allocation
+ * tracking} can be switched on in tests or while debugging; the allocation site
+ * of every buffer that is still outstanding is then reported by
+ * {@link #verifyAllReleased()}.
+ *
+ * <p>Note that {@link #wrap(ByteBuffer)} and {@link #wrap(byte[])} return
+ * plain, non-pooled buffers, since the wrapped memory is owned by the caller.
+ *
+ * @author agent
+ * @since 5.0.3
+ * @see PooledDefaultDataBuffer
+ */
+public class PooledDefaultDataBufferFactory extends DefaultDataBufferFactory {
+
+	/**
+	 * The smallest size class, in bytes.
+	 */
+	public static final int MIN_SIZE_CLASS = 64;
+
+	/**
+	 * The default maximum capacity of pooled buffers.
+	 * @see #PooledDefaultDataBufferFactory(boolean, int, int, int)
+	 */
+	public static final int DEFAULT_MAX_POOLED_CAPACITY = 64 * 1024;
+
+	/**
+	 * The default number of released buffers retained per size class.
+	 * @see #PooledDefaultDataBufferFactory(boolean, int, int, int)
+	 */
+	public static final int DEFAULT_MAX_BUFFERS_PER_SIZE_CLASS = 32;
+
+	private static final int MIN_SIZE_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_SIZE_CLASS);
+
+
+	private final boolean preferDirect;
+
+	private final int maxPooledCapacity;
+
+	private final ArrayBlockingQueue<ByteBuffer>[] sizeClasses;
+
+	private final AtomicInteger allocatedCount = new AtomicInteger();
+
+	private final Set<AllocationRecord> allocationRecords = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean trackAllocations;
+
+
+	/**
+	 * Create a new {@code PooledDefaultDataBufferFactory} with default settings.
+	 */
+	public PooledDefaultDataBufferFactory() {
+		this(false);
+	}
+
+	/**
+	 * Create a new {@code PooledDefaultDataBufferFactory}, indicating whether
+	 * direct buffers should be pooled.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public PooledDefaultDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, DEFAULT_INITIAL_CAPACITY, DEFAULT_MAX_POOLED_CAPACITY,
+				DEFAULT_MAX_BUFFERS_PER_SIZE_CLASS);
+	}
+
+	/**
+	 * Create a new {@code PooledDefaultDataBufferFactory} with the given settings.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 * @param defaultInitialCapacity the capacity used for {@link #allocateBuffer()}
+	 * @param maxPooledCapacity the capacity above which buffers are not pooled,
+	 * rounded up to the next power of two
+	 * @param maxBuffersPerSizeClass the number of released buffers to retain
+	 * per size class
+	 */
+	@SuppressWarnings("unchecked")
+	public PooledDefaultDataBufferFactory(boolean preferDirect, int defaultInitialCapacity,
+			int maxPooledCapacity, int maxBuffersPerSizeClass) {
+
+		super(preferDirect, defaultInitialCapacity);
+		Assert.isTrue(maxPooledCapacity >= MIN_SIZE_CLASS,
+				"'maxPooledCapacity' should be at least " + MIN_SIZE_CLASS);
+		Assert.isTrue(maxPooledCapacity <= (1 << 30), "'maxPooledCapacity' should be at most 2^30");
+		Assert.isTrue(maxBuffersPerSizeClass > 0, "'maxBuffersPerSizeClass' should be larger than 0");
+
+		this.preferDirect = preferDirect;
+		int count = sizeClassIndex(maxPooledCapacity) + 1;
+		this.maxPooledCapacity = sizeClassCapacity(count - 1);
+		this.sizeClasses = new ArrayBlockingQueue[count];
+		for (int i = 0; i < count; i++) {
+			this.sizeClasses[i] = new ArrayBlockingQueue<>(maxBuffersPerSizeClass);
+		}
+	}
+
+
+	/**
+	 * Whether to record the allocation site of every buffer, so that buffers
+	 * which are never released can be traced back by {@link #verifyAllReleased()}.
+	 * <p>Capturing a stack trace per allocation is costly; this is meant for
+	 * tests and debugging only. By default this is set to {@code false}.
+	 */
+	public void setTrackAllocations(boolean trackAllocations) {
+		this.trackAllocations = trackAllocations;
+	}
+
+	/**
+	 * Whether {@linkplain #setTrackAllocations allocation tracking} is enabled.
+	 */
+	public boolean isTrackAllocations() {
+		return this.trackAllocations;
+	}
+
+	/**
+	 * Return the number of buffers allocated by this factory that have not
+	 * been released yet.
+	 */
+	public int getAllocatedBufferCount() {
+		return this.allocatedCount.get();
+	}
+
+	/**
+	 * Return the number of released buffers currently retained for reuse.
+	 */
+	public int getPooledBufferCount() {
+		int count = 0;
+		for (ArrayBlockingQueue<ByteBuffer> sizeClass : this.sizeClasses) {
+			count += sizeClass.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Verify that all buffers allocated by this factory have been released.
+	 * @throws IllegalStateException if any buffers are outstanding; when
+	 * {@linkplain #setTrackAllocations allocation tracking} is enabled, the
+	 * exception carries the allocation site of each of them as cause and
+	 * suppressed exceptions
+	 */
+	public void verifyAllReleased() {
+		int count = this.allocatedCount.get();
+		if (count == 0) {
+			return;
+		}
+		IllegalStateException ex = null;
+		for (AllocationRecord record : this.allocationRecords) {
+			if (ex == null) {
+				ex = new IllegalStateException(count + " data buffer(s) not released", record);
+			}
+			else {
+				ex.addSuppressed(record);
+			}
+		}
+		throw (ex != null ? ex : new IllegalStateException(count + " data buffer(s) not released " +
+				"(enable allocation tracking to record their allocation sites)"));
+	}
+
+	@Override
+	public PooledDefaultDataBuffer allocateBuffer() {
+		return (PooledDefaultDataBuffer) super.allocateBuffer();
+	}
+
+	@Override
+	public PooledDefaultDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must be >= 0");
+		AllocationRecord record = null;
+		if (this.trackAllocations) {
+			record = new AllocationRecord();
+			this.allocationRecords.add(record);
+		}
+		this.allocatedCount.incrementAndGet();
+		ByteBuffer chunk = acquire(initialCapacity);
+		return new PooledDefaultDataBuffer(this, chunk, initialCapacity, record);
+	}
+
+	/**
+	 * Obtain a chunk with at least the given capacity, from the pool if possible.
+	 */
+	ByteBuffer acquire(int capacity) {
+		if (capacity > this.maxPooledCapacity) {
+			return allocate(capacity);
+		}
+		int index = sizeClassIndex(capacity);
+		ByteBuffer chunk = this.sizeClasses[index].poll();
+		if (chunk != null) {
+			((Buffer) chunk).clear();
+			return chunk;
+		}
+		return allocate(sizeClassCapacity(index));
+	}
+
+	/**
+	 * Return a chunk obtained via {@link #acquire(int)} to the pool.
+	 */
+	void recycle(ByteBuffer chunk) {
+		int capacity = chunk.capacity();
+		if (capacity <= this.maxPooledCapacity && capacity >= MIN_SIZE_CLASS &&
+				Integer.bitCount(capacity) == 1) {
+			this.sizeClasses[sizeClassIndex(capacity)].offer(chunk);
+		}
+	}
+
+	/**
+	 * Called once a buffer allocated by this factory has been fully released.
+	 */
+	void released(@Nullable AllocationRecord record) {
+		this.allocatedCount.decrementAndGet();
+		if (record != null) {
+			this.allocationRecords.remove(record);
+		}
+	}
+
+	private ByteBuffer allocate(int capacity) {
+		return (this.preferDirect ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+	}
+
+	private static int sizeClassIndex(int capacity) {
+		if (capacity <= MIN_SIZE_CLASS) {
+			return 0;
+		}
+		return (Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1)) - MIN_SIZE_CLASS_SHIFT;
+	}
+
+	private static int sizeClassCapacity(int index) {
+		return MIN_SIZE_CLASS << index;
+	}
+
+	@Override
+	public String toString() {
+		return "PooledDefaultDataBufferFactory (preferDirect=" + this.preferDirect +
+				", maxPooledCapacity=" + this.maxPooledCapacity + ")";
+	}
+
+
+	/**
+	 * Captures the allocation site of a buffer while allocation tracking is on.
+	 */
+	@SuppressWarnings("serial")
+	static final class AllocationRecord extends Exception {
+
+		AllocationRecord() {
+			super("Data buffer allocated at");
+		}
+	}
+
+}
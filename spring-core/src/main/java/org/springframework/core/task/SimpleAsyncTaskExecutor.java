@@ -22,6 +22,9 @@ import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.ThreadFactory;
 
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.SpringProperties;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrencyThrottleSupport;
@@ -40,6 +43,12 @@ import org.springframework.util.concurrent.ListenableFutureTask;
  * thread-pooling TaskExecutor implementation instead, in particular for
  * executing a large number of short-lived tasks.
  *
+ * <p>As of 5.0.3, tasks may be executed on virtual threads when running on
+ * JDK 21 or higher, see {@link #setVirtualThreads}. Since virtual threads are
+ * cheap to create and park, this is well suited for blocking tasks such as
+ * {@code Callable} controller return values or {@code @Async} methods that
+ * wait for remote calls, without the need for thread pooling.
+ *
  * @author Juergen Hoeller
  * @since 2.0
  * @see #setConcurrencyLimit
@@ -63,6 +72,17 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 	 */
 	public static final int NO_CONCURRENCY = ConcurrencyThrottleSupport.NO_CONCURRENCY;
 
+	/**
+	 * System property that instructs Spring to use virtual threads for all
+	 * SimpleAsyncTaskExecutor instances by default, i.e. unless explicitly
+	 * configured otherwise through {@link #setVirtualThreads}: "spring.task.virtualThreads".
+	 * <p>This applies to the default executors for MVC async request processing
+	 * and {@code @Async} methods as well. It has no effect on JVMs that do not
+	 * support virtual threads.
+	 * @since 5.0.3
+	 */
+	public static final String VIRTUAL_THREADS_PROPERTY_NAME = "spring.task.virtualThreads";
+
 
 	/** Internal concurrency throttle used by this executor */
 	private final ConcurrencyThrottleAdapter concurrencyThrottle = new ConcurrencyThrottleAdapter();
@@ -73,12 +93,16 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 	@Nullable
 	private TaskDecorator taskDecorator;
 
+	@Nullable
+	private VirtualThreadDelegate virtualThreadDelegate;
+
 
 	/**
 	 * Create a new SimpleAsyncTaskExecutor with default thread name prefix.
 	 */
 	public SimpleAsyncTaskExecutor() {
 		super();
+		initVirtualThreadsDefault();
 	}
 
 	/**
@@ -87,6 +111,7 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 	 */
 	public SimpleAsyncTaskExecutor(String threadNamePrefix) {
 		super(threadNamePrefix);
+		initVirtualThreadsDefault();
 	}
 
 	/**
@@ -98,6 +123,54 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 	}
 
 
+	private void initVirtualThreadsDefault() {
+		if (SpringProperties.getFlag(VIRTUAL_THREADS_PROPERTY_NAME) && VirtualThreadDelegate.isSupported()) {
+			this.virtualThreadDelegate = new VirtualThreadDelegate();
+		}
+	}
+
+
+	/**
+	 * Switch this executor to virtual threads, if supported by the JVM.
+	 * <p>Virtual threads are only available on JDK 21 or higher: on older JVMs,
+	 * this executor keeps creating regular platform threads, so consider setting
+	 * a {@link #setConcurrencyLimit concurrency limit} as a safeguard.
+	 * <p>Virtual threads are always daemon threads with normal priority, so the
+	 * {@link #setDaemon "daemon"} and {@link #setThreadPriority "threadPriority"}
+	 * settings do not apply, whereas the {@link #setThreadNamePrefix thread name
+	 * prefix} is used as usual. A configured {@link #setThreadFactory ThreadFactory}
+	 * takes precedence over this setting.
+	 * <p>Default is "false", unless the {@link #VIRTUAL_THREADS_PROPERTY_NAME}
+	 * system property has been set to "true".
+	 * @since 5.0.3
+	 * @see #isVirtualThreadsSupported()
+	 */
+	public void setVirtualThreads(boolean virtual) {
+		if (virtual && !VirtualThreadDelegate.isSupported()) {
+			LogFactory.getLog(getClass()).info(
+					"Virtual threads not supported on this JVM - falling back to platform threads");
+		}
+		this.virtualThreadDelegate = (virtual && VirtualThreadDelegate.isSupported() ?
+				new VirtualThreadDelegate() : null);
+	}
+
+	/**
+	 * Return whether this executor creates virtual threads.
+	 * @since 5.0.3
+	 */
+	public final boolean isVirtualThreads() {
+		return (this.virtualThreadDelegate != null);
+	}
+
+	/**
+	 * Return whether virtual threads are supported on the current JVM.
+	 * @since 5.0.3
+	 * @see #setVirtualThreads
+	 */
+	public static boolean isVirtualThreadsSupported() {
+		return VirtualThreadDelegate.isSupported();
+	}
+
 	/**
 	 * Specify an external factory to use for creating new Threads,
 	 * instead of relying on the local properties of this executor.
@@ -229,11 +302,21 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 	 * <p>The default implementation creates a new Thread and starts it.
 	 * @param task the Runnable to execute
 	 * @see #setThreadFactory
+	 * @see #setVirtualThreads
 	 * @see #createThread
 	 * @see java.lang.Thread#start()
 	 */
 	protected void doExecute(Runnable task) {
-		Thread thread = (this.threadFactory != null ? this.threadFactory.newThread(task) : createThread(task));
+		Thread thread;
+		if (this.threadFactory != null) {
+			thread = this.threadFactory.newThread(task);
+		}
+		else if (this.virtualThreadDelegate != null) {
+			thread = this.virtualThreadDelegate.newVirtualThread(nextThreadName(), task);
+		}
+		else {
+			thread = createThread(task);
+		}
 		thread.start();
 	}
 
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.task;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Internal delegate for virtual thread handling on JDK 21+, accessed reflectively
+ * so that this codebase remains compatible with JDK 8 at runtime.
+ *
+ * @author agent
+ * @since 5.0.3
+ * @see SimpleAsyncTaskExecutor#setVirtualThreads
+ */
+@SuppressWarnings("serial")
+final class VirtualThreadDelegate implements Serializable {
+
+	@Nullable
+	private static final Method ofVirtualMethod = ClassUtils.getMethodIfAvailable(Thread.class, "ofVirtual");
+
+	@Nullable
+	private static final Method nameMethod = (ofVirtualMethod != null ?
+			ClassUtils.getMethodIfAvailable(ofVirtualMethod.getReturnType(), "name", String.class) : null);
+
+	@Nullable
+	private static final Method unstartedMethod = (ofVirtualMethod != null ?
+			ClassUtils.getMethodIfAvailable(ofVirtualMethod.getReturnType(), "unstarted", Runnable.class) : null);
+
+
+	public VirtualThreadDelegate() {
+		Assert.state(isSupported(), "Virtual threads not supported on this JVM");
+	}
+
+
+	/**
+	 * Create a new unstarted virtual thread with the given name.
+	 * <p>Like platform threads, virtual threads inherit the values of
+	 * {@link InheritableThreadLocal InheritableThreadLocals}; regular
+	 * thread-locals start out empty for each new thread.
+	 */
+	public Thread newVirtualThread(String name, Runnable task) {
+		// Thread.Builder instances are not thread-safe: use a new one per thread
+		Object builder = ReflectionUtils.invokeMethod(ofVirtualMethod, null);
+		ReflectionUtils.invokeMethod(nameMethod, builder, name);
+		Thread thread = (Thread) ReflectionUtils.invokeMethod(unstartedMethod, builder, task);
+		Assert.state(thread != null, "No virtual thread created");
+		return thread;
+	}
+
+
+	/**
+	 * Return whether virtual threads are supported on the current JVM.
+	 */
+	public static boolean isSupported() {
+		return (ofVirtualMethod != null && nameMethod != null && unstartedMethod != null);
+	}
+
+}
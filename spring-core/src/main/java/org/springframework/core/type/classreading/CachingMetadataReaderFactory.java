@@ -21,6 +21,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
@@ -31,19 +32,33 @@ import org.springframework.lang.Nullable;
  * caching a {@link MetadataReader} instance per Spring {@link Resource} handle
  * (i.e. per ".class" file).
  *
+ * <p>Cache misses may optionally be served from a {@link SharedMetadataReaderCache}
+ * which outlives this factory, e.g. for reusing class metadata across several
+ * application contexts in the same JVM.
+ *
  * @author Juergen Hoeller
  * @author Costin Leau
  * @since 2.5
+ * @see #setSharedCache
  */
 public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 
 	/** Default maximum number of entries for a local MetadataReader cache: 256 */
 	public static final int DEFAULT_CACHE_LIMIT = 256;
 
+	private static final boolean useSharedCache =
+			SpringProperties.getFlag(SharedMetadataReaderCache.SHARED_CACHE_PROPERTY_NAME);
+
+
 	/** MetadataReader cache: either local or shared at the ResourceLoader level */
 	@Nullable
 	private Map<Resource, MetadataReader> metadataReaderCache;
 
+	/** Second-tier MetadataReader cache, shared beyond this factory */
+	@Nullable
+	private SharedMetadataReaderCache sharedCache =
+			(useSharedCache ? SharedMetadataReaderCache.getSharedInstance() : null);
+
 
 	/**
 	 * Create a new CachingMetadataReaderFactory for the default class loader,
@@ -113,6 +128,28 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 		}
 	}
 
+	/**
+	 * Specify a {@link SharedMetadataReaderCache} to consult before reading
+	 * a class file that is not present in this factory's own cache.
+	 * <p>Default is the {@link SharedMetadataReaderCache#getSharedInstance()
+	 * JVM-wide instance} if the "spring.metadatareader.shared" property is set,
+	 * and none otherwise.
+	 * @since 5.0.3
+	 * @see SharedMetadataReaderCache#SHARED_CACHE_PROPERTY_NAME
+	 */
+	public void setSharedCache(@Nullable SharedMetadataReaderCache sharedCache) {
+		this.sharedCache = sharedCache;
+	}
+
+	/**
+	 * Return the {@link SharedMetadataReaderCache} to consult, if any.
+	 * @since 5.0.3
+	 */
+	@Nullable
+	public SharedMetadataReaderCache getSharedCache() {
+		return this.sharedCache;
+	}
+
 
 	@Override
 	public MetadataReader getMetadataReader(Resource resource) throws IOException {
@@ -120,7 +157,7 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 			// No synchronization necessary...
 			MetadataReader metadataReader = this.metadataReaderCache.get(resource);
 			if (metadataReader == null) {
-				metadataReader = super.getMetadataReader(resource);
+				metadataReader = doGetMetadataReader(resource);
 				this.metadataReaderCache.put(resource, metadataReader);
 			}
 			return metadataReader;
@@ -129,15 +166,23 @@ public class CachingMetadataReaderFactory extends SimpleMetadataReaderFactory {
 			synchronized (this.metadataReaderCache) {
 				MetadataReader metadataReader = this.metadataReaderCache.get(resource);
 				if (metadataReader == null) {
-					metadataReader = super.getMetadataReader(resource);
+					metadataReader = doGetMetadataReader(resource);
 					this.metadataReaderCache.put(resource, metadataReader);
 				}
 				return metadataReader;
 			}
 		}
 		else {
-			return super.getMetadataReader(resource);
+			return doGetMetadataReader(resource);
+		}
+	}
+
+	private MetadataReader doGetMetadataReader(Resource resource) throws IOException {
+		SharedMetadataReaderCache sharedCache = this.sharedCache;
+		if (sharedCache != null) {
+			return sharedCache.getMetadataReader(resource, getResourceLoader().getClassLoader());
 		}
+		return super.getMetadataReader(resource);
 	}
 
 	/**
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache of {@link MetadataReader} instances which may be shared across
+ * {@link CachingMetadataReaderFactory} instances and therefore across application
+ * contexts, e.g. between the contexts of an integration test suite or between
+ * several child contexts in the same JVM.
+ *
+ * <p>Entries are keyed by the URL of the ".class" file and the ClassLoader that
+ * the metadata has been read for, and get validated against the last-modified
+ * timestamp of the underlying resource on retrieval. The least recently used
+ * entries get evicted once the {@link #setCacheLimit cache limit} is reached.
+ *
+ * <p>Note that cached metadata refers to the ClassLoader it has been read for.
+ * Call {@link #clear()} when discarding ClassLoaders (e.g. on redeployment)
+ * rather than waiting for their entries to get evicted.
+ *
+ * <p>A JVM-wide instance is available through {@link #getSharedInstance()}.
+ * It gets used by every {@code CachingMetadataReaderFactory} if the
+ * {@link #SHARED_CACHE_PROPERTY_NAME "spring.metadatareader.shared"} system
+ * property (or corresponding {@link org.springframework.core.SpringProperties}
+ * entry) is set to "true".
+ *
+ * @author agent
+ * @since 5.0.3
+ * @see CachingMetadataReaderFactory#setSharedCache
+ */
+public class SharedMetadataReaderCache {
+
+	/**
+	 * System property that instructs every {@link CachingMetadataReaderFactory}
+	 * to use the {@link #getSharedInstance() shared cache instance} as a second
+	 * cache tier behind its local or ResourceLoader-level cache.
+	 */
+	public static final String SHARED_CACHE_PROPERTY_NAME = "spring.metadatareader.shared";
+
+	/** Default maximum number of entries for a shared MetadataReader cache: 4096 */
+	public static final int DEFAULT_CACHE_LIMIT = 4096;
+
+	private static final SharedMetadataReaderCache sharedInstance = new SharedMetadataReaderCache();
+
+
+	private final CacheMap cache = new CacheMap(DEFAULT_CACHE_LIMIT);
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+
+	/**
+	 * Specify the maximum number of entries for this cache.
+	 * <p>Default is 4096.
+	 */
+	public void setCacheLimit(int cacheLimit) {
+		Assert.isTrue(cacheLimit > 0, "Cache limit must be greater than 0");
+		synchronized (this.cache) {
+			this.cache.cacheLimit = cacheLimit;
+		}
+	}
+
+	/**
+	 * Return the maximum number of entries for this cache.
+	 */
+	public int getCacheLimit() {
+		synchronized (this.cache) {
+			return this.cache.cacheLimit;
+		}
+	}
+
+	/**
+	 * Return the {@link MetadataReader} for the given resource and ClassLoader,
+	 * reading the class file if no up-to-date metadata is cached yet.
+	 * @param resource the resource (pointing to a ".class" file)
+	 * @param classLoader the ClassLoader to read the metadata for
+	 * @return the MetadataReader instance (never {@code null})
+	 * @throws IOException in case of I/O failure
+	 */
+	public MetadataReader getMetadataReader(Resource resource, @Nullable ClassLoader classLoader) throws IOException {
+		CacheKey key;
+		long lastModified;
+		try {
+			key = new CacheKey(resource.getURL().toString(), classLoader);
+			lastModified = resource.lastModified();
+		}
+		catch (IOException ex) {
+			// Not resolvable to a URL with a modification timestamp -> no caching.
+			return new SimpleMetadataReader(resource, classLoader);
+		}
+
+		CacheEntry entry;
+		synchronized (this.cache) {
+			entry = this.cache.get(key);
+		}
+		if (entry != null && entry.lastModified == lastModified) {
+			this.hitCount.incrementAndGet();
+			return entry.metadataReader;
+		}
+
+		this.missCount.incrementAndGet();
+		MetadataReader metadataReader = new SimpleMetadataReader(resource, classLoader);
+		synchronized (this.cache) {
+			this.cache.put(key, new CacheEntry(metadataReader, lastModified));
+		}
+		return metadataReader;
+	}
+
+	/**
+	 * Return the number of cached entries.
+	 */
+	public int size() {
+		synchronized (this.cache) {
+			return this.cache.size();
+		}
+	}
+
+	/**
+	 * Return the number of lookups which have been served from this cache.
+	 */
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	/**
+	 * Return the number of lookups which required reading the class file.
+	 */
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	/**
+	 * Remove all cached entries, e.g. when the ClassLoaders that the entries
+	 * have been read for are about to be discarded.
+	 */
+	public void clear() {
+		synchronized (this.cache) {
+			this.cache.clear();
+		}
+	}
+
+
+	/**
+	 * Return the JVM-wide shared instance of this cache.
+	 * @see #SHARED_CACHE_PROPERTY_NAME
+	 */
+	public static SharedMetadataReaderCache getSharedInstance() {
+		return sharedInstance;
+	}
+
+
+	@SuppressWarnings("serial")
+	private static class CacheMap extends LinkedHashMap<CacheKey, CacheEntry> {
+
+		private int cacheLimit;
+
+		public CacheMap(int cacheLimit) {
+			super(256, 0.75f, true);
+			this.cacheLimit = cacheLimit;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+			return size() > this.cacheLimit;
+		}
+	}
+
+
+	/**
+	 * Cache key for a class file URL as read for a specific ClassLoader.
+	 */
+	private static final class CacheKey {
+
+		private final String url;
+
+		@Nullable
+		private final ClassLoader classLoader;
+
+		public CacheKey(String url, @Nullable ClassLoader classLoader) {
+			this.url = url;
+			this.classLoader = classLoader;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey otherKey = (CacheKey) other;
+			return (this.url.equals(otherKey.url) && this.classLoader == otherKey.classLoader);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.url.hashCode() * 29 + System.identityHashCode(this.classLoader);
+		}
+	}
+
+
+	private static final class CacheEntry {
+
+		final MetadataReader metadataReader;
+
+		final long lastModified;
+
+		public CacheEntry(MetadataReader metadataReader, long lastModified) {
+			this.metadataReader = metadataReader;
+			this.lastModified = lastModified;
+		}
+	}
+
+}
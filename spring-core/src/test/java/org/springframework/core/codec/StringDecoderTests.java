@@ -26,6 +26,7 @@ import reactor.test.StepVerifier;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.util.MimeTypeUtils;
 
 import static org.junit.Assert.assertFalse;
@@ -122,6 +123,19 @@ public class StringDecoderTests extends AbstractDataBufferAllocatingTestCase {
 				.verify();
 	}
 
+	@Test
+	public void decodeToMonoExceedingLimit() throws InterruptedException {
+		this.decoder = StringDecoder.allMimeTypes(false);
+		this.decoder.setMaxInMemorySize(5);
+		Flux<DataBuffer> source = Flux.just("foo", "bar", "baz").map(this::stringBuffer);
+		Mono<String> output = this.decoder.decodeToMono(source,
+				ResolvableType.forClass(String.class), null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.expectError(DataBufferLimitException.class)
+				.verify();
+	}
+
 	@Test
 	public void decodeToMonoWithEmptyFlux() throws InterruptedException {
 		Flux<DataBuffer> source = Flux.empty();
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class PooledDefaultDataBufferFactoryTests {
+
+	private final PooledDefaultDataBufferFactory bufferFactory =
+			new PooledDefaultDataBufferFactory(false, 256, 1024, 2);
+
+
+	@Test
+	public void allocateRequestedCapacity() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		assertEquals(100, buffer.capacity());
+		assertEquals(0, buffer.readableByteCount());
+		assertEquals(1, this.bufferFactory.getAllocatedBufferCount());
+
+		assertTrue(buffer.release());
+		assertEquals(0, this.bufferFactory.getAllocatedBufferCount());
+	}
+
+	@Test
+	public void releasedBufferIsReused() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		buffer.write("foo".getBytes(StandardCharsets.UTF_8));
+		buffer.release();
+		assertEquals(1, this.bufferFactory.getPooledBufferCount());
+
+		buffer = this.bufferFactory.allocateBuffer(128);
+		assertEquals(0, this.bufferFactory.getPooledBufferCount());
+		assertEquals(0, buffer.readableByteCount());
+		buffer.release();
+	}
+
+	@Test
+	public void sizeClassIsBounded() {
+		PooledDefaultDataBuffer buffer1 = this.bufferFactory.allocateBuffer(64);
+		PooledDefaultDataBuffer buffer2 = this.bufferFactory.allocateBuffer(64);
+		PooledDefaultDataBuffer buffer3 = this.bufferFactory.allocateBuffer(64);
+		buffer1.release();
+		buffer2.release();
+		buffer3.release();
+
+		assertEquals(2, this.bufferFactory.getPooledBufferCount());
+	}
+
+	@Test
+	public void largeBufferIsNotPooled() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(2048);
+		assertEquals(2048, buffer.capacity());
+		buffer.release();
+
+		assertEquals(0, this.bufferFactory.getPooledBufferCount());
+		assertEquals(0, this.bufferFactory.getAllocatedBufferCount());
+	}
+
+	@Test
+	public void growRecyclesPreviousChunk() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(64);
+		byte[] bytes = new byte[200];
+		bytes[199] = 'a';
+		buffer.write(bytes);
+
+		assertEquals(200, buffer.readableByteCount());
+		assertEquals(1, this.bufferFactory.getPooledBufferCount());
+		buffer.readPosition(199);
+		assertEquals('a', buffer.read());
+		buffer.release();
+	}
+
+	@Test
+	public void capacityGrowAndShrink() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(64);
+		buffer.write("foo".getBytes(StandardCharsets.UTF_8));
+
+		buffer.capacity(100);
+		assertEquals(100, buffer.capacity());
+		assertEquals(97, buffer.writableByteCount());
+
+		buffer.capacity(10);
+		assertEquals(10, buffer.capacity());
+		assertEquals(3, buffer.readableByteCount());
+		assertEquals('f', buffer.read());
+
+		buffer.release();
+		this.bufferFactory.verifyAllReleased();
+	}
+
+	@Test
+	public void sliceSharesReferenceCount() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(64);
+		buffer.write("foo".getBytes(StandardCharsets.UTF_8));
+
+		DataBuffer slice = buffer.slice(1, 2);
+		assertTrue(slice instanceof PooledDataBuffer);
+		DataBufferUtils.retain(slice);
+		assertEquals(2, buffer.refCount());
+
+		assertFalse(buffer.release());
+		assertEquals('o', slice.read());
+		assertTrue(DataBufferUtils.release(slice));
+		assertEquals(0, this.bufferFactory.getAllocatedBufferCount());
+	}
+
+	@Test
+	public void writeDataBufferReleasesSource() {
+		PooledDefaultDataBuffer buffer1 = this.bufferFactory.allocateBuffer(64);
+		PooledDefaultDataBuffer buffer2 = this.bufferFactory.allocateBuffer(64);
+		buffer2.write((byte) 'a');
+
+		buffer1.write(buffer2);
+		assertEquals(1, buffer1.readableByteCount());
+		assertEquals(0, buffer2.refCount());
+
+		buffer1.release();
+		this.bufferFactory.verifyAllReleased();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void retainAfterRelease() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(64);
+		buffer.release();
+		buffer.retain();
+	}
+
+	@Test
+	public void verifyAllReleasedReportsAllocationSite() {
+		this.bufferFactory.setTrackAllocations(true);
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(64);
+		try {
+			this.bufferFactory.verifyAllReleased();
+			fail("IllegalStateException expected");
+		}
+		catch (IllegalStateException ex) {
+			assertTrue(ex.getMessage().startsWith("1 data buffer(s) not released"));
+			StackTraceElement[] site = ex.getCause().getStackTrace();
+			assertEquals("verifyAllReleasedReportsAllocationSite", site[1].getMethodName());
+		}
+		finally {
+			buffer.release();
+		}
+		this.bufferFactory.verifyAllReleased();
+	}
+
+	@Test
+	public void wrapIsNotPooled() {
+		DataBuffer buffer = this.bufferFactory.wrap("foo".getBytes(StandardCharsets.UTF_8));
+		assertFalse(buffer instanceof PooledDataBuffer);
+		assertEquals(0, this.bufferFactory.getAllocatedBufferCount());
+	}
+
+}
@@ -63,6 +63,17 @@ public class SimpleAsyncTaskExecutorTests {
 		assertThat(task.getThreadName(), startsWith(customPrefix));
 	}
 
+	@Test
+	public void virtualThreadsIfSupported() throws Exception {
+		final Object monitor = new Object();
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("virtual#");
+		executor.setVirtualThreads(true);
+		assertEquals(SimpleAsyncTaskExecutor.isVirtualThreadsSupported(), executor.isVirtualThreads());
+		ThreadNameHarvester task = new ThreadNameHarvester(monitor);
+		executeAndWait(executor, task, monitor);
+		assertThat(task.getThreadName(), startsWith("virtual#"));
+	}
+
 	@Test
 	public void threadFactoryOverridesDefaults() throws Exception {
 		final Object monitor = new Object();
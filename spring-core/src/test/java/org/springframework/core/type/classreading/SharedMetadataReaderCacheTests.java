@@ -0,0 +1,82 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import org.junit.Test;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link SharedMetadataReaderCache}.
+ *
+ * @author agent
+ */
+public class SharedMetadataReaderCacheTests {
+
+	private final SharedMetadataReaderCache sharedCache = new SharedMetadataReaderCache();
+
+
+	@Test
+	public void sharedAcrossFactories() throws Exception {
+		CachingMetadataReaderFactory factory1 = new CachingMetadataReaderFactory(new DefaultResourceLoader());
+		factory1.setSharedCache(this.sharedCache);
+		CachingMetadataReaderFactory factory2 = new CachingMetadataReaderFactory(new DefaultResourceLoader());
+		factory2.setSharedCache(this.sharedCache);
+
+		MetadataReader reader1 = factory1.getMetadataReader(getClass().getName());
+		MetadataReader reader2 = factory2.getMetadataReader(getClass().getName());
+		assertSame(reader1, reader2);
+		assertEquals(getClass().getName(), reader2.getClassMetadata().getClassName());
+		assertEquals(1, this.sharedCache.getMissCount());
+		assertEquals(1, this.sharedCache.getHitCount());
+		assertEquals(1, this.sharedCache.size());
+	}
+
+	@Test
+	public void separateEntriesPerClassLoader() throws Exception {
+		Resource resource = new ClassPathResource(getClass().getSimpleName() + ".class", getClass());
+		ClassLoader otherClassLoader = new ClassLoader(getClass().getClassLoader()) {};
+
+		MetadataReader reader1 = this.sharedCache.getMetadataReader(resource, getClass().getClassLoader());
+		MetadataReader reader2 = this.sharedCache.getMetadataReader(resource, otherClassLoader);
+		assertNotSame(reader1, reader2);
+		assertSame(reader1, this.sharedCache.getMetadataReader(resource, getClass().getClassLoader()));
+		assertEquals(2, this.sharedCache.size());
+	}
+
+	@Test
+	public void cacheLimit() throws Exception {
+		this.sharedCache.setCacheLimit(1);
+		ClassLoader classLoader = getClass().getClassLoader();
+		Resource resource1 = new ClassPathResource(getClass().getSimpleName() + ".class", getClass());
+		Resource resource2 = new ClassPathResource("SimpleMetadataReader.class", getClass());
+
+		MetadataReader reader1 = this.sharedCache.getMetadataReader(resource1, classLoader);
+		this.sharedCache.getMetadataReader(resource2, classLoader);
+		assertEquals(1, this.sharedCache.size());
+		assertNotSame(reader1, this.sharedCache.getMetadataReader(resource1, classLoader));
+		assertEquals(3, this.sharedCache.getMissCount());
+
+		this.sharedCache.clear();
+		assertEquals(0, this.sharedCache.size());
+	}
+
+}
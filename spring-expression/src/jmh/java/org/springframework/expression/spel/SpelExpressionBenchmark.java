@@ -0,0 +1,107 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Benchmarks for SpEL expression evaluation, in interpreted and compiled mode.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class SpelExpressionBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"OFF", "IMMEDIATE"})
+		public SpelCompilerMode compilerMode;
+
+		public Expression propertyExpression;
+
+		public Expression methodExpression;
+
+		public Expression arithmeticExpression;
+
+		public StandardEvaluationContext context;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			SpelParserConfiguration configuration = new SpelParserConfiguration(this.compilerMode, getClass().getClassLoader());
+			SpelExpressionParser parser = new SpelExpressionParser(configuration);
+			this.propertyExpression = parser.parseExpression("name");
+			this.methodExpression = parser.parseExpression("name.toUpperCase().length()");
+			this.arithmeticExpression = parser.parseExpression("age * 2 + 10 > 50");
+			this.context = new StandardEvaluationContext(new Person("Andy", 25));
+		}
+	}
+
+
+	@Benchmark
+	public Object parseExpression() {
+		return new SpelExpressionParser().parseExpression("name.toUpperCase().length() > 3 and age > 18");
+	}
+
+	@Benchmark
+	public Object evaluatePropertyExpression(BenchmarkData data) {
+		return data.propertyExpression.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object evaluateMethodExpression(BenchmarkData data) {
+		return data.methodExpression.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object evaluateArithmeticExpression(BenchmarkData data) {
+		return data.arithmeticExpression.getValue(data.context);
+	}
+
+
+	public static class Person {
+
+		private final String name;
+
+		private final int age;
+
+		public Person(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+	}
+
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.MethodInvocationException;
+import org.springframework.beans.NotWritablePropertyException;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Variant of {@link BeanPropertyRowMapper} that resolves the mapping between
+ * columns and bean properties once per {@link ResultSet} instead of once per row,
+ * and populates each row's target object through pre-resolved setter
+ * {@link MethodHandle MethodHandles} rather than through a {@link BeanWrapper}.
+ *
+ * <p>On the first row of a given {@code ResultSet}, a mapping plan is built from
+ * the {@link ResultSetMetaData}: for each column, the target property, its setter
+ * and its type. Subsequent rows of the same {@code ResultSet} skip column label
+ * lookup and name transformation completely. Plans are held per {@code ResultSet}
+ * instance (weakly referenced), so that queries running concurrently against a
+ * shared mapper keep their own plans. Column values are retrieved through
+ * {@link #getColumnValue}, i.e. through type-specific {@code ResultSet} getters
+ * chosen by {@link JdbcUtils#getResultSetValue(ResultSet, int, Class)}.
+ *
+ * <p>Values that are assignable to the target property are passed to the setter
+ * as-is; other values are converted through the configured
+ * {@link #setConversionService ConversionService} if possible. Only values that
+ * neither match nor can be converted that way - as well as {@code null} values
+ * for primitive properties - are applied through a {@code BeanWrapper} (as prepared
+ * by {@link #initBeanWrapper}), with the same semantics as in
+ * {@link BeanPropertyRowMapper}.
+ *
+ * <p>If {@link #initBeanWrapper} is overridden, it is applied to a {@code BeanWrapper}
+ * once per mapping plan in order to find out which properties it customizes: any
+ * property with a custom {@link java.beans.PropertyEditor} is always applied through
+ * a {@code BeanWrapper}, so that the editor takes precedence over direct assignment
+ * and over the {@code ConversionService} just like in {@code BeanPropertyRowMapper}.
+ * The same applies to all properties if the {@code BeanWrapper} ends up with a
+ * {@code ConversionService} other than the {@link #getConversionService() configured} one.
+ *
+ * <p>This is a drop-in replacement for {@code BeanPropertyRowMapper}, e.g. for use
+ * with {@link JdbcTemplate#query} and
+ * {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate#query}.
+ * Like any {@code BeanPropertyRowMapper}, an instance may be shared across threads.
+ *
+ * @author agent
+ * @since 5.0.3
+ * @param <T> the result type
+ */
+public class DirectBeanPropertyRowMapper<T> extends BeanPropertyRowMapper<T> {
+
+	/** Whether {@link #initBeanWrapper} may customize the BeanWrapper beyond the ConversionService */
+	private final boolean customBeanWrapperInit = isInitBeanWrapperOverridden(getClass());
+
+	/** Mapping plans for the ResultSets currently being mapped */
+	private final Map<ResultSet, MappingPlan<T>> mappingPlans =
+			new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+	/** The mapping plan for the most recently mapped ResultSet, for quick access */
+	@Nullable
+	private volatile MappingPlan<T> lastMappingPlan;
+
+
+	/**
+	 * Create a new {@code DirectBeanPropertyRowMapper} for bean-style configuration.
+	 * @see #setMappedClass
+	 * @see #setCheckFullyPopulated
+	 */
+	public DirectBeanPropertyRowMapper() {
+	}
+
+	/**
+	 * Create a new {@code DirectBeanPropertyRowMapper}, accepting unpopulated
+	 * properties in the target bean.
+	 * @param mappedClass the class that each row should be mapped to
+	 */
+	public DirectBeanPropertyRowMapper(Class<T> mappedClass) {
+		super(mappedClass);
+	}
+
+	/**
+	 * Create a new {@code DirectBeanPropertyRowMapper}.
+	 * @param mappedClass the class that each row should be mapped to
+	 * @param checkFullyPopulated whether we're strictly validating that
+	 * all bean properties have been mapped from corresponding database fields
+	 */
+	public DirectBeanPropertyRowMapper(Class<T> mappedClass, boolean checkFullyPopulated) {
+		super(mappedClass, checkFullyPopulated);
+	}
+
+
+	/**
+	 * Extract the values for all columns in the current row,
+	 * according to the mapping plan for the given {@code ResultSet}.
+	 * @see #buildMappingPlan
+	 */
+	@Override
+	public T mapRow(ResultSet rs, int rowNumber) throws SQLException {
+		MappingPlan<T> plan = this.lastMappingPlan;
+		if (plan == null || !plan.isFor(rs)) {
+			plan = this.mappingPlans.get(rs);
+			if (plan == null) {
+				plan = buildMappingPlan(rs);
+				this.mappingPlans.put(rs, plan);
+			}
+			this.lastMappingPlan = plan;
+		}
+
+		if (isCheckFullyPopulated() && !plan.populatedProperties.equals(getMappedProperties())) {
+			throw new InvalidDataAccessApiUsageException("Given ResultSet does not contain all fields " +
+					"necessary to populate object of class [" + plan.mappedClass.getName() + "]: " +
+					getMappedProperties());
+		}
+
+		T mappedObject = BeanUtils.instantiateClass(plan.constructor);
+		BeanWrapper bw = null;
+		for (ColumnMapping column : plan.columns) {
+			Object value = getColumnValue(rs, column.index, column.pd);
+			if (!column.viaBeanWrapper && !column.isDirectlyApplicable(value)) {
+				ConversionService cs = getConversionService();
+				if (value != null && cs != null && cs.canConvert(TypeDescriptor.forObject(value), column.targetType)) {
+					value = cs.convert(value, TypeDescriptor.forObject(value), column.targetType);
+				}
+			}
+			if (column.viaBeanWrapper || !column.isDirectlyApplicable(value)) {
+				if (bw == null) {
+					bw = PropertyAccessorFactory.forBeanPropertyAccess(mappedObject);
+					initBeanWrapper(bw);
+				}
+				setPropertyValue(bw, column, value, rowNumber, mappedObject);
+				continue;
+			}
+			try {
+				column.setter.invokeExact((Object) mappedObject, value);
+			}
+			catch (Throwable ex) {
+				PropertyChangeEvent event = new PropertyChangeEvent(mappedObject, column.pd.getName(), null, value);
+				throw new MethodInvocationException(event, ex);
+			}
+		}
+		return mappedObject;
+	}
+
+	private void setPropertyValue(BeanWrapper bw, ColumnMapping column, @Nullable Object value,
+			int rowNumber, Object mappedObject) {
+
+		try {
+			bw.setPropertyValue(column.pd.getName(), value);
+		}
+		catch (TypeMismatchException ex) {
+			if (value == null && isPrimitivesDefaultedForNullValue()) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Intercepted TypeMismatchException for row " + rowNumber +
+							" and column '" + column.name + "' with null value when setting property '" +
+							column.pd.getName() + "' of type '" +
+							ClassUtils.getQualifiedName(column.pd.getPropertyType()) +
+							"' on object: " + mappedObject, ex);
+				}
+			}
+			else {
+				throw ex;
+			}
+		}
+		catch (NotWritablePropertyException ex) {
+			throw new DataRetrievalFailureException(
+					"Unable to map column '" + column.name + "' to property '" + column.pd.getName() + "'", ex);
+		}
+	}
+
+	/**
+	 * Build the mapping plan for the given {@code ResultSet}, matching its column
+	 * labels against the properties of the mapped class.
+	 * @param rs the ResultSet to build a plan for
+	 * @return the mapping plan, to be reused for all rows of the given ResultSet
+	 * @throws SQLException if thrown by {@link ResultSetMetaData} access
+	 */
+	private MappingPlan<T> buildMappingPlan(ResultSet rs) throws SQLException {
+		Class<T> mappedClass = getMappedClass();
+		Assert.state(mappedClass != null, "Mapped class was not specified");
+		Constructor<T> constructor;
+		try {
+			constructor = ReflectionUtils.accessibleConstructor(mappedClass);
+		}
+		catch (NoSuchMethodException ex) {
+			throw new InvalidDataAccessApiUsageException(
+					"No default constructor found on mapped class [" + mappedClass.getName() + "]", ex);
+		}
+
+		// Custom editors (or a different ConversionService) only come from an overridden
+		// initBeanWrapper: let a BeanWrapper apply the affected properties then.
+		BeanWrapper customizedBeanWrapper = null;
+		boolean allViaBeanWrapper = false;
+		if (this.customBeanWrapperInit) {
+			customizedBeanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(BeanUtils.instantiateClass(constructor));
+			initBeanWrapper(customizedBeanWrapper);
+			allViaBeanWrapper = (customizedBeanWrapper.getConversionService() != getConversionService());
+		}
+
+		ResultSetMetaData rsmd = rs.getMetaData();
+		int columnCount = rsmd.getColumnCount();
+		List<ColumnMapping> columns = new ArrayList<>(columnCount);
+		Set<String> populatedProperties = new HashSet<>();
+		for (int index = 1; index <= columnCount; index++) {
+			String column = JdbcUtils.lookupColumnName(rsmd, index);
+			String field = lowerCaseName(column.replaceAll(" ", ""));
+			PropertyDescriptor pd = getMappedField(field);
+			if (pd != null) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Mapping column '" + column + "' to property '" + pd.getName() +
+							"' of type '" + ClassUtils.getQualifiedName(pd.getPropertyType()) + "'");
+				}
+				boolean viaBeanWrapper = (allViaBeanWrapper || (customizedBeanWrapper != null &&
+						customizedBeanWrapper.findCustomEditor(pd.getPropertyType(), pd.getName()) != null));
+				columns.add(new ColumnMapping(index, column, pd, viaBeanWrapper));
+				populatedProperties.add(pd.getName());
+			}
+			else {
+				if (logger.isDebugEnabled()) {
+					logger.debug("No property found for column '" + column + "' mapped to field '" + field + "'");
+				}
+			}
+		}
+		return new MappingPlan<>(rs, mappedClass, constructor, columns, populatedProperties);
+	}
+
+	private static boolean isInitBeanWrapperOverridden(Class<?> mapperClass) {
+		Method initMethod = ReflectionUtils.findMethod(mapperClass, "initBeanWrapper", BeanWrapper.class);
+		return (initMethod != null && initMethod.getDeclaringClass() != BeanPropertyRowMapper.class);
+	}
+
+
+	/**
+	 * Static factory method to create a new {@code DirectBeanPropertyRowMapper}
+	 * (with the mapped class specified only once).
+	 * @param mappedClass the class that each row should be mapped to
+	 */
+	public static <T> DirectBeanPropertyRowMapper<T> newInstance(Class<T> mappedClass) {
+		return new DirectBeanPropertyRowMapper<>(mappedClass);
+	}
+
+
+	/**
+	 * Pre-resolved mapping of the columns of a specific ResultSet.
+	 */
+	private static class MappingPlan<T> {
+
+		private final WeakReference<ResultSet> resultSet;
+
+		final Class<T> mappedClass;
+
+		final Constructor<T> constructor;
+
+		final ColumnMapping[] columns;
+
+		final Set<String> populatedProperties;
+
+		public MappingPlan(ResultSet resultSet, Class<T> mappedClass, Constructor<T> constructor,
+				List<ColumnMapping> columns, Set<String> populatedProperties) {
+
+			this.resultSet = new WeakReference<>(resultSet);
+			this.mappedClass = mappedClass;
+			this.constructor = constructor;
+			this.columns = columns.toArray(new ColumnMapping[0]);
+			this.populatedProperties = populatedProperties;
+		}
+
+		public boolean isFor(ResultSet rs) {
+			return (this.resultSet.get() == rs);
+		}
+	}
+
+
+	/**
+	 * Mapping of a single column to a bean property and its setter.
+	 */
+	private static class ColumnMapping {
+
+		private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+		final int index;
+
+		final String name;
+
+		final PropertyDescriptor pd;
+
+		final TypeDescriptor targetType;
+
+		final MethodHandle setter;
+
+		final boolean viaBeanWrapper;
+
+		private final Class<?> propertyType;
+
+		public ColumnMapping(int index, String name, PropertyDescriptor pd, boolean viaBeanWrapper) {
+			Method writeMethod = pd.getWriteMethod();
+			Assert.state(writeMethod != null, "No write method available");
+			this.index = index;
+			this.name = name;
+			this.pd = pd;
+			this.targetType = new TypeDescriptor(new MethodParameter(writeMethod, 0));
+			this.propertyType = writeMethod.getParameterTypes()[0];
+			this.viaBeanWrapper = viaBeanWrapper;
+			try {
+				ReflectionUtils.makeAccessible(writeMethod);
+				this.setter = MethodHandles.lookup().unreflect(writeMethod).asType(SETTER_TYPE);
+			}
+			catch (IllegalAccessException ex) {
+				throw new InvalidDataAccessApiUsageException(
+						"Cannot access write method for property '" + pd.getName() + "'", ex);
+			}
+		}
+
+		/**
+		 * Determine whether the given value can be passed to the setter as-is.
+		 */
+		public boolean isDirectlyApplicable(@Nullable Object value) {
+			if (value == null) {
+				return !this.propertyType.isPrimitive();
+			}
+			return ClassUtils.isAssignableValue(this.propertyType, value);
+		}
+	}
+
+}
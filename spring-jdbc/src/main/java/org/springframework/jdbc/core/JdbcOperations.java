@@ -16,15 +16,19 @@
 
 package org.springframework.jdbc.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Interface specifying a basic set of JDBC operations.
@@ -132,6 +136,30 @@ public interface JdbcOperations {
 	 */
 	<T> List<T> query(String sql, RowMapper<T> rowMapper) throws DataAccessException;
 
+	/**
+	 * Execute a query given static SQL, mapping each row to a result object
+	 * via a RowMapper, and turning it into an iterable and closeable Stream.
+	 * <p>Uses a JDBC Statement, not a PreparedStatement. If you want to
+	 * execute a static query with a PreparedStatement, use the overloaded
+	 * {@code queryForStream} method with {@code null} as argument array.
+	 * <p>Rows are mapped lazily while the Stream is being consumed, honoring the
+	 * configured fetch size; the underlying ResultSet, Statement and Connection
+	 * remain open until the Stream gets closed.
+	 * <p>The default implementation maps all rows upfront through
+	 * {@link #query(String, RowMapper)}, for existing implementations of this
+	 * interface; {@link JdbcTemplate} provides the lazy variant.
+	 * @param sql SQL query to execute
+	 * @param rowMapper a callback that will map one object per row
+	 * @return the result Stream, containing mapped objects, needing to be
+	 * closed once fully processed (e.g. through a try-with-resources clause)
+	 * @throws DataAccessException if there is any problem executing the query
+	 * @since 5.0.3
+	 * @see #queryForStream(String, RowMapper, Object...)
+	 */
+	default <T> Stream<T> queryForStream(String sql, RowMapper<T> rowMapper) throws DataAccessException {
+		return query(sql, rowMapper).stream();
+	}
+
 	/**
 	 * Execute a query given static SQL, mapping a single result row to a Java
 	 * object via a RowMapper.
@@ -521,6 +549,77 @@ public interface JdbcOperations {
 	 */
 	<T> List<T> query(String sql, RowMapper<T> rowMapper, @Nullable Object... args) throws DataAccessException;
 
+	/**
+	 * Query using a prepared statement, mapping each row to a result object
+	 * via a RowMapper, and turning it into an iterable and closeable Stream.
+	 * <p>A PreparedStatementCreator can either be implemented directly or
+	 * configured through a PreparedStatementCreatorFactory.
+	 * <p>The default implementation maps all rows upfront through
+	 * {@link #query(PreparedStatementCreator, RowMapper)}.
+	 * @param psc a callback that creates a PreparedStatement given a Connection
+	 * @param rowMapper a callback that will map one object per row
+	 * @return the result Stream, containing mapped objects, needing to be
+	 * closed once fully processed (e.g. through a try-with-resources clause)
+	 * @throws DataAccessException if there is any problem
+	 * @since 5.0.3
+	 * @see PreparedStatementCreatorFactory
+	 */
+	default <T> Stream<T> queryForStream(PreparedStatementCreator psc, RowMapper<T> rowMapper)
+			throws DataAccessException {
+
+		return query(psc, rowMapper).stream();
+	}
+
+	/**
+	 * Query given SQL to create a prepared statement from SQL and a
+	 * PreparedStatementSetter implementation that knows how to bind values to
+	 * the query, mapping each row to a result object via a RowMapper, and
+	 * turning it into an iterable and closeable Stream.
+	 * <p>The default implementation maps all rows upfront through
+	 * {@link #query(String, PreparedStatementSetter, RowMapper)}.
+	 * @param sql SQL query to execute
+	 * @param pss a callback that knows how to set values on the prepared statement.
+	 * If this is {@code null}, the SQL will be assumed to contain no bind parameters.
+	 * Even if there are no bind parameters, this callback may be used to set the
+	 * fetch size and other performance options.
+	 * @param rowMapper a callback that will map one object per row
+	 * @return the result Stream, containing mapped objects, needing to be
+	 * closed once fully processed (e.g. through a try-with-resources clause)
+	 * @throws DataAccessException if the query fails
+	 * @since 5.0.3
+	 */
+	default <T> Stream<T> queryForStream(String sql, @Nullable PreparedStatementSetter pss, RowMapper<T> rowMapper)
+			throws DataAccessException {
+
+		return query(sql, pss, rowMapper).stream();
+	}
+
+	/**
+	 * Query given SQL to create a prepared statement from SQL and a list of
+	 * arguments to bind to the query, mapping each row to a result object
+	 * via a RowMapper, and turning it into an iterable and closeable Stream.
+	 * <p>Rows are mapped lazily while the Stream is being consumed, honoring the
+	 * configured fetch size; the underlying ResultSet, PreparedStatement and
+	 * Connection remain open until the Stream gets closed.
+	 * <p>The default implementation maps all rows upfront through
+	 * {@link #query(String, RowMapper, Object...)}.
+	 * @param sql SQL query to execute
+	 * @param rowMapper a callback that will map one object per row
+	 * @param args arguments to bind to the query
+	 * (leaving it to the PreparedStatement to guess the corresponding SQL type);
+	 * may also contain {@link SqlParameterValue} objects which indicate not
+	 * only the argument value but also the SQL type and optionally the scale
+	 * @return the result Stream, containing mapped objects, needing to be
+	 * closed once fully processed (e.g. through a try-with-resources clause)
+	 * @throws DataAccessException if the query fails
+	 * @since 5.0.3
+	 */
+	default <T> Stream<T> queryForStream(String sql, RowMapper<T> rowMapper, @Nullable Object... args)
+			throws DataAccessException {
+
+		return query(sql, rowMapper, args).stream();
+	}
+
 	/**
 	 * Query given SQL to create a prepared statement from SQL and a list
 	 * of arguments to bind to the query, mapping a single result row to a
@@ -937,6 +1036,41 @@ public interface JdbcOperations {
 	<T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
 			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException;
 
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the arguments
+	 * obtained from the given Iterator, reusing the same PreparedStatement for all
+	 * batches. The arguments' values will be set using the ParameterizedPreparedStatementSetter.
+	 * Each batch should be of size indicated in 'batchSize'.
+	 * <p>Arguments are only pulled from the Iterator while filling the current batch,
+	 * so the total number of arguments does not need to fit into memory at once.
+	 * <p>The default implementation collects the arguments for each batch and
+	 * delegates to {@link #batchUpdate(String, Collection, int, ParameterizedPreparedStatementSetter)},
+	 * for existing implementations of this interface.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the Iterator over the arguments for the query
+	 * @param batchSize batch size
+	 * @param pss ParameterizedPreparedStatementSetter to use
+	 * @return an array containing for each batch another array containing the numbers of rows affected
+	 * by each update in the batch
+	 * @since 5.0.3
+	 */
+	default <T> int[][] batchUpdate(String sql, Iterator<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		List<int[]> rowsAffected = new ArrayList<>();
+		while (batchArgs.hasNext()) {
+			List<T> batch = new ArrayList<>(batchSize);
+			while (batchArgs.hasNext() && batch.size() < batchSize) {
+				batch.add(batchArgs.next());
+			}
+			for (int[] batchRowsAffected : batchUpdate(sql, batch, batchSize, pss)) {
+				rowsAffected.add(batchRowsAffected);
+			}
+		}
+		return rowsAffected.toArray(new int[rowsAffected.size()][]);
+	}
+
 
 	//-------------------------------------------------------------------------
 	// Methods dealing with callable statements
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bridges blocking {@link JdbcOperations} queries to Reactive Streams,
+ * emitting mapped rows as a backpressure-aware {@link Flux}.
+ *
+ * <p>Each query is executed through {@link JdbcOperations#queryForStream}
+ * on a dedicated {@link Scheduler}, keeping the blocking JDBC calls off the
+ * subscriber's threads. Rows are fetched from the open {@code ResultSet} and
+ * mapped only as requested by downstream demand, so large results do not get
+ * buffered in memory. The JDBC resources are released on completion, error
+ * or cancellation.
+ *
+ * <p>The number of concurrently open query cursors is limited to
+ * {@link #DEFAULT_MAX_CONCURRENT_QUERIES} by default; further subscriptions are
+ * queued without holding a thread and only get scheduled once a permit has been
+ * returned, i.e. once the JDBC resources of an earlier query have been released.
+ * The limit should not exceed the size of the underlying connection pool, so
+ * that a scheduled query does not block on obtaining a connection. By default,
+ * a parallel scheduler with one thread per permit is created (and disposed along
+ * with this template). Alternatively, an externally managed scheduler may be
+ * specified; it should be bounded as well.
+ *
+ * <p>Results may also be exposed as other reactive types, such as RxJava's
+ * {@code Flowable} or {@code Observable}, through a {@link ReactiveAdapterRegistry}.
+ *
+ * <p>Note that queries are executed on scheduler threads, i.e. outside of any
+ * thread-bound transaction of the calling code.
+ *
+ * @author agent
+ * @since 5.0.3
+ * @see JdbcTemplate#queryForStream
+ */
+public class ReactiveQueryTemplate implements DisposableBean {
+
+	/**
+	 * The default maximum number of concurrently open query cursors.
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_QUERIES = 10;
+
+
+	private final JdbcOperations jdbcOperations;
+
+	private final Scheduler scheduler;
+
+	private final boolean disposeScheduler;
+
+	private final QueryPermits queryPermits;
+
+	private ReactiveAdapterRegistry reactiveAdapterRegistry = ReactiveAdapterRegistry.getSharedInstance();
+
+
+	/**
+	 * Create a new ReactiveQueryTemplate for the given {@link JdbcOperations},
+	 * allowing for {@link #DEFAULT_MAX_CONCURRENT_QUERIES} open query cursors.
+	 * @param jdbcOperations the JdbcOperations to execute queries with
+	 */
+	public ReactiveQueryTemplate(JdbcOperations jdbcOperations) {
+		this(jdbcOperations, DEFAULT_MAX_CONCURRENT_QUERIES);
+	}
+
+	/**
+	 * Create a new ReactiveQueryTemplate for the given {@link JdbcOperations},
+	 * allowing for the given number of open query cursors.
+	 * <p>Queries are executed on a parallel scheduler with as many threads.
+	 * @param jdbcOperations the JdbcOperations to execute queries with
+	 * @param maxConcurrentQueries the maximum number of concurrently open query cursors
+	 */
+	public ReactiveQueryTemplate(JdbcOperations jdbcOperations, int maxConcurrentQueries) {
+		this(jdbcOperations, Schedulers.newParallel("jdbc", maxConcurrentQueries, true),
+				true, maxConcurrentQueries);
+	}
+
+	/**
+	 * Create a new ReactiveQueryTemplate for the given {@link JdbcOperations},
+	 * using the given scheduler for blocking query execution.
+	 * <p>The scheduler is not disposed by this template.
+	 * @param jdbcOperations the JdbcOperations to execute queries with
+	 * @param scheduler the scheduler to execute queries on
+	 * @param maxConcurrentQueries the maximum number of concurrently open query cursors
+	 */
+	public ReactiveQueryTemplate(JdbcOperations jdbcOperations, Scheduler scheduler, int maxConcurrentQueries) {
+		this(jdbcOperations, scheduler, false, maxConcurrentQueries);
+	}
+
+	private ReactiveQueryTemplate(JdbcOperations jdbcOperations, Scheduler scheduler,
+			boolean disposeScheduler, int maxConcurrentQueries) {
+
+		Assert.notNull(jdbcOperations, "JdbcOperations must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+		Assert.isTrue(maxConcurrentQueries > 0, "Max concurrent queries must be greater than 0");
+		this.jdbcOperations = jdbcOperations;
+		this.scheduler = scheduler;
+		this.disposeScheduler = disposeScheduler;
+		this.queryPermits = new QueryPermits(maxConcurrentQueries);
+	}
+
+
+	/**
+	 * Return the JdbcOperations that this template executes queries with.
+	 */
+	public final JdbcOperations getJdbcOperations() {
+		return this.jdbcOperations;
+	}
+
+	/**
+	 * Return the scheduler that queries are executed on.
+	 */
+	public final Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * Set the {@link ReactiveAdapterRegistry} to use for adapting results
+	 * to other reactive types in {@link #query(Class, String, RowMapper, Object...)}.
+	 * <p>By default this is {@link ReactiveAdapterRegistry#getSharedInstance()}.
+	 */
+	public void setReactiveAdapterRegistry(ReactiveAdapterRegistry reactiveAdapterRegistry) {
+		Assert.notNull(reactiveAdapterRegistry, "ReactiveAdapterRegistry must not be null");
+		this.reactiveAdapterRegistry = reactiveAdapterRegistry;
+	}
+
+	/**
+	 * Return the configured {@link ReactiveAdapterRegistry}.
+	 */
+	public ReactiveAdapterRegistry getReactiveAdapterRegistry() {
+		return this.reactiveAdapterRegistry;
+	}
+
+
+	/**
+	 * Query given SQL to create a prepared statement from SQL and a list of
+	 * arguments to bind to the query, emitting one mapped object per row.
+	 * <p>The query is executed on subscription; rows are mapped on demand.
+	 * @param sql SQL query to execute
+	 * @param rowMapper a callback that will map one object per row
+	 * @param args arguments to bind to the query
+	 * @return the result Flux, containing mapped objects
+	 * @see JdbcOperations#queryForStream(String, RowMapper, Object...)
+	 */
+	public <T> Flux<T> queryForFlux(String sql, RowMapper<T> rowMapper, @Nullable Object... args) {
+		return fromStream(() -> this.jdbcOperations.queryForStream(sql, rowMapper, args));
+	}
+
+	/**
+	 * Query using a prepared statement, emitting one mapped object per row.
+	 * <p>The query is executed on subscription; rows are mapped on demand.
+	 * Note that the PreparedStatementCreator will be invoked for each subscription.
+	 * @param psc a callback that creates a PreparedStatement given a Connection
+	 * @param rowMapper a callback that will map one object per row
+	 * @return the result Flux, containing mapped objects
+	 * @see JdbcOperations#queryForStream(PreparedStatementCreator, RowMapper)
+	 */
+	public <T> Flux<T> queryForFlux(PreparedStatementCreator psc, RowMapper<T> rowMapper) {
+		return fromStream(() -> this.jdbcOperations.queryForStream(psc, rowMapper));
+	}
+
+	/**
+	 * Query given SQL to create a prepared statement from SQL and a list of
+	 * arguments to bind to the query, adapting the result to the given
+	 * multi-value reactive type (e.g. RxJava's {@code Flowable}).
+	 * @param reactiveType the reactive type to return
+	 * @param sql SQL query to execute
+	 * @param rowMapper a callback that will map one object per row
+	 * @param args arguments to bind to the query
+	 * @return the result, as an instance of the given reactive type
+	 * @throws IllegalArgumentException if the given type is not a supported
+	 * multi-value reactive type
+	 * @see #setReactiveAdapterRegistry
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> R query(Class<R> reactiveType, String sql, RowMapper<?> rowMapper, @Nullable Object... args) {
+		ReactiveAdapter adapter = this.reactiveAdapterRegistry.getAdapter(reactiveType);
+		Assert.isTrue(adapter != null && adapter.isMultiValue(),
+				() -> "Unsupported multi-value reactive type: " + reactiveType.getName());
+		return (R) adapter.fromPublisher(queryForFlux(sql, rowMapper, args));
+	}
+
+	private <T> Flux<T> fromStream(StreamSupplier<T> streamSupplier) {
+		Flux<T> query = Flux.using(streamSupplier::get, Flux::fromStream, Stream::close)
+				.subscribeOn(this.scheduler);
+		// Only schedule the query once a permit is available, returning it after the stream got closed
+		return this.queryPermits.acquire()
+				.flatMapMany(permit -> query.doFinally(signalType -> permit.release()));
+	}
+
+
+	/**
+	 * Dispose the scheduler if created by this template.
+	 */
+	@Override
+	public void destroy() {
+		if (this.disposeScheduler) {
+			this.scheduler.dispose();
+		}
+	}
+
+
+	@FunctionalInterface
+	private interface StreamSupplier<T> {
+
+		Stream<T> get();
+	}
+
+
+	/**
+	 * Non-blocking permits for open query cursors: subscribers beyond the limit
+	 * are queued in order and receive a permit as soon as another one is released.
+	 */
+	private static class QueryPermits {
+
+		private static final int WAITING = 0;
+
+		private static final int GRANTED = 1;
+
+		private static final int CANCELLED = 2;
+
+		private final Deque<PendingPermit> pendingPermits = new ArrayDeque<>();
+
+		private int availablePermits;
+
+		public QueryPermits(int permits) {
+			this.availablePermits = permits;
+		}
+
+		public Mono<Permit> acquire() {
+			return Mono.create(sink -> {
+				PendingPermit pendingPermit = new PendingPermit(sink);
+				sink.onCancel(pendingPermit::cancel);
+				boolean available;
+				synchronized (this) {
+					available = (this.availablePermits > 0);
+					if (available) {
+						this.availablePermits--;
+					}
+					else {
+						this.pendingPermits.add(pendingPermit);
+					}
+				}
+				if (available && !pendingPermit.grant()) {
+					releasePermit();
+				}
+			});
+		}
+
+		private void releasePermit() {
+			while (true) {
+				PendingPermit pendingPermit;
+				synchronized (this) {
+					pendingPermit = this.pendingPermits.poll();
+					if (pendingPermit == null) {
+						this.availablePermits++;
+						return;
+					}
+				}
+				if (pendingPermit.grant()) {
+					return;
+				}
+			}
+		}
+
+
+		private class PendingPermit {
+
+			private final MonoSink<Permit> sink;
+
+			private final Permit permit = new Permit();
+
+			private final AtomicInteger state = new AtomicInteger(WAITING);
+
+			public PendingPermit(MonoSink<Permit> sink) {
+				this.sink = sink;
+			}
+
+			public boolean grant() {
+				if (!this.state.compareAndSet(WAITING, GRANTED)) {
+					return false;
+				}
+				this.sink.success(this.permit);
+				return true;
+			}
+
+			public void cancel() {
+				if (this.state.compareAndSet(WAITING, CANCELLED)) {
+					synchronized (QueryPermits.this) {
+						pendingPermits.remove(this);
+					}
+				}
+				else {
+					// Granted but cancelled before the permit reached the subscriber
+					this.permit.release();
+				}
+			}
+		}
+
+
+		public class Permit {
+
+			private final AtomicBoolean released = new AtomicBoolean();
+
+			public void release() {
+				if (this.released.compareAndSet(false, true)) {
+					releasePermit();
+				}
+			}
+		}
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.jdbc.core.namedparam;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Iterator;
 
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.BatchUpdateUtils;
@@ -56,4 +57,48 @@ public class NamedParameterBatchUpdateUtils extends BatchUpdateUtils {
 				});
 	}
 
+	/**
+	 * Execute the given batch in chunks of the given size, pulling the parameter
+	 * sources from the given Iterator and reusing the same PreparedStatement for
+	 * all chunks.
+	 * <p>The SQL statement gets expanded based on the first parameter source.
+	 * @param parsedSql the parsed representation of the SQL statement
+	 * @param batchArgs the Iterator over the parameter sources to bind
+	 * @param batchSize the maximum number of updates per JDBC batch
+	 * @param jdbcOperations the JdbcOperations to execute the batches with
+	 * @return an array containing for each batch another array containing
+	 * the numbers of rows affected by each update in the batch
+	 * @since 5.0.3
+	 */
+	public static int[][] executeBatchUpdateWithNamedParameters(final ParsedSql parsedSql,
+			final Iterator<? extends SqlParameterSource> batchArgs, int batchSize, JdbcOperations jdbcOperations) {
+
+		if (!batchArgs.hasNext()) {
+			return new int[0][];
+		}
+
+		final SqlParameterSource first = batchArgs.next();
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, first);
+		Iterator<SqlParameterSource> allArgs = new Iterator<SqlParameterSource>() {
+			private boolean firstPending = true;
+			@Override
+			public boolean hasNext() {
+				return (this.firstPending || batchArgs.hasNext());
+			}
+			@Override
+			public SqlParameterSource next() {
+				if (this.firstPending) {
+					this.firstPending = false;
+					return first;
+				}
+				return batchArgs.next();
+			}
+		};
+		return jdbcOperations.batchUpdate(sqlToUse, allArgs, batchSize, (ps, paramSource) -> {
+			Object[] values = NamedParameterUtils.buildValueArray(parsedSql, paramSource, null);
+			int[] columnTypes = NamedParameterUtils.buildSqlTypeArray(parsedSql, paramSource);
+			setStatementParameters(values, ps, columnTypes);
+		});
+	}
+
 }
@@ -16,8 +16,12 @@
 
 package org.springframework.jdbc.core.namedparam;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcOperations;
@@ -28,6 +32,7 @@ import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Interface specifying a basic set of JDBC operations allowing the use
@@ -213,6 +218,54 @@ public interface NamedParameterJdbcOperations {
 	<T> List<T> query(String sql, Map<String, ?> paramMap, RowMapper<T> rowMapper)
 			throws DataAccessException;
 
+	/**
+	 * Query given SQL to create a prepared statement from SQL and a list
+	 * of arguments to bind to the query, mapping each row to a Java object
+	 * via a RowMapper, and turning it into an iterable and closeable Stream.
+	 * <p>Rows are mapped lazily while the Stream is being consumed; the underlying
+	 * JDBC resources remain open until the Stream gets closed.
+	 * <p>The default implementation maps all rows upfront through
+	 * {@link #query(String, SqlParameterSource, RowMapper)}, for existing
+	 * implementations of this interface; {@link NamedParameterJdbcTemplate}
+	 * provides the lazy variant.
+	 * @param sql SQL query to execute
+	 * @param paramSource container of arguments to bind to the query
+	 * @param rowMapper object that will map one object per row
+	 * @return the result Stream, containing mapped objects, needing to be
+	 * closed once fully processed (e.g. through a try-with-resources clause)
+	 * @throws org.springframework.dao.DataAccessException if the query fails
+	 * @since 5.0.3
+	 * @see JdbcOperations#queryForStream(org.springframework.jdbc.core.PreparedStatementCreator, RowMapper)
+	 */
+	default <T> Stream<T> queryForStream(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper)
+			throws DataAccessException {
+
+		return query(sql, paramSource, rowMapper).stream();
+	}
+
+	/**
+	 * Query given SQL to create a prepared statement from SQL and a list
+	 * of arguments to bind to the query, mapping each row to a Java object
+	 * via a RowMapper, and turning it into an iterable and closeable Stream.
+	 * <p>Rows are mapped lazily while the Stream is being consumed; the underlying
+	 * JDBC resources remain open until the Stream gets closed.
+	 * <p>The default implementation maps all rows upfront through
+	 * {@link #query(String, Map, RowMapper)}.
+	 * @param sql SQL query to execute
+	 * @param paramMap map of parameters to bind to the query
+	 * (leaving it to the PreparedStatement to guess the corresponding SQL type)
+	 * @param rowMapper object that will map one object per row
+	 * @return the result Stream, containing mapped objects, needing to be
+	 * closed once fully processed (e.g. through a try-with-resources clause)
+	 * @throws org.springframework.dao.DataAccessException if the query fails
+	 * @since 5.0.3
+	 */
+	default <T> Stream<T> queryForStream(String sql, Map<String, ?> paramMap, RowMapper<T> rowMapper)
+			throws DataAccessException {
+
+		return query(sql, paramMap, rowMapper).stream();
+	}
+
 	/**
 	 * Query given SQL to create a prepared statement from SQL,
 	 * mapping each row to a Java object via a RowMapper.
@@ -509,4 +562,56 @@ public interface NamedParameterJdbcOperations {
 	 */
 	int[] batchUpdate(String sql, SqlParameterSource[] batchArgs);
 
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the collection
+	 * of supplied arguments, each batch being of the size indicated in 'batchSize'.
+	 * <p>The SQL statement gets parsed once and a single PreparedStatement is used
+	 * for all batches, staying within driver-specific limits for the batch size.
+	 * <p>The default implementation delegates to
+	 * {@link #batchUpdate(String, Iterator, int)}.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the collection of {@link SqlParameterSource} containing the
+	 * arguments for the query
+	 * @param batchSize the maximum number of updates per JDBC batch
+	 * @return an array containing for each batch another array containing the numbers
+	 * of rows affected by each update in the batch
+	 * @since 5.0.3
+	 */
+	default int[][] batchUpdate(String sql, Collection<? extends SqlParameterSource> batchArgs, int batchSize) {
+		return batchUpdate(sql, batchArgs.iterator(), batchSize);
+	}
+
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the arguments
+	 * obtained from the given Iterator, each batch being of the size indicated in
+	 * 'batchSize'.
+	 * <p>Arguments are only pulled from the Iterator while filling the current batch,
+	 * allowing for bulk updates from a lazily produced source (e.g. a
+	 * {@link java.util.stream.Stream#iterator() Stream}) without holding all
+	 * parameter sources in memory.
+	 * <p>The default implementation executes each batch through
+	 * {@link #batchUpdate(String, SqlParameterSource[])}, for existing
+	 * implementations of this interface; {@link NamedParameterJdbcTemplate}
+	 * reuses the parsed SQL and a single PreparedStatement for all batches.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the Iterator over {@link SqlParameterSource} containing the
+	 * arguments for the query
+	 * @param batchSize the maximum number of updates per JDBC batch
+	 * @return an array containing for each batch another array containing the numbers
+	 * of rows affected by each update in the batch
+	 * @since 5.0.3
+	 */
+	default int[][] batchUpdate(String sql, Iterator<? extends SqlParameterSource> batchArgs, int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		List<int[]> rowsAffected = new ArrayList<>();
+		while (batchArgs.hasNext()) {
+			List<SqlParameterSource> batch = new ArrayList<>(batchSize);
+			while (batchArgs.hasNext() && batch.size() < batchSize) {
+				batch.add(batchArgs.next());
+			}
+			rowsAffected.add(batchUpdate(sql, batch.toArray(new SqlParameterSource[batch.size()])));
+		}
+		return rowsAffected.toArray(new int[rowsAffected.size()][]);
+	}
+
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.junit.Assert.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * @author agent
+ */
+public class ReactiveQueryTemplateTests {
+
+	private static final String SQL = "SELECT NAME FROM T WHERE ID > ?";
+
+	private final JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+
+	private final AtomicInteger mappedRows = new AtomicInteger();
+
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private ReactiveQueryTemplate template;
+
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		Stream<Object> stream = IntStream.range(0, 100).boxed()
+				.map(i -> (Object) ("row" + this.mappedRows.incrementAndGet()))
+				.onClose(() -> this.closed.set(true));
+		given(this.jdbcOperations.queryForStream(eq(SQL), any(RowMapper.class), eq(1)))
+				.willReturn(stream);
+		this.template = new ReactiveQueryTemplate(this.jdbcOperations, 2);
+	}
+
+	@After
+	public void tearDown() {
+		this.template.destroy();
+	}
+
+
+	@Test
+	public void rowsEmittedOnDemand() {
+		StepVerifier.create(this.template.queryForFlux(SQL, (rs, rowNum) -> rs.getString(1), 1), 2)
+				.expectNext("row1", "row2")
+				.thenCancel()
+				.verify();
+		assertTrue(this.mappedRows.get() < 100);
+		assertTrue(this.closed.get());
+	}
+
+	@Test
+	public void allRowsEmitted() {
+		StepVerifier.create(this.template.queryForFlux(SQL, (rs, rowNum) -> rs.getString(1), 1))
+				.expectNextCount(100)
+				.verifyComplete();
+		assertTrue(this.closed.get());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void openCursorsBounded() throws Exception {
+		AtomicInteger openCursors = new AtomicInteger();
+		Semaphore opened = new Semaphore(0);
+		given(this.jdbcOperations.queryForStream(any(PreparedStatementCreator.class), any(RowMapper.class)))
+				.willAnswer(invocation -> {
+					openCursors.incrementAndGet();
+					opened.release();
+					return IntStream.range(0, 100).boxed().onClose(openCursors::decrementAndGet);
+				});
+		PreparedStatementCreator psc = con -> con.prepareStatement(SQL);
+		Flux<Object> flux = this.template.queryForFlux(psc, (rs, rowNum) -> rs.getObject(1));
+
+		// Each subscriber keeps its cursor open by requesting a single row only
+		Disposable first = flux.subscribe(null, null, null, subscription -> subscription.request(1));
+		Disposable second = flux.subscribe(null, null, null, subscription -> subscription.request(1));
+		Disposable third = flux.subscribe(null, null, null, subscription -> subscription.request(1));
+		try {
+			assertTrue(opened.tryAcquire(2, 5, TimeUnit.SECONDS));
+			assertFalse(opened.tryAcquire(500, TimeUnit.MILLISECONDS));
+			assertEquals(2, openCursors.get());
+
+			first.dispose();
+			assertTrue(opened.tryAcquire(5, TimeUnit.SECONDS));
+			assertEquals(2, openCursors.get());
+		}
+		finally {
+			second.dispose();
+			third.dispose();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void queuedQueryDoesNotHoldUpOpenCursor() throws Exception {
+		ReactiveQueryTemplate template = new ReactiveQueryTemplate(this.jdbcOperations, 1);
+		AtomicInteger openCursors = new AtomicInteger();
+		given(this.jdbcOperations.queryForStream(any(PreparedStatementCreator.class), any(RowMapper.class)))
+				.willAnswer(invocation -> {
+					openCursors.incrementAndGet();
+					return IntStream.range(0, 100).boxed().onClose(openCursors::decrementAndGet);
+				});
+		PreparedStatementCreator psc = con -> con.prepareStatement(SQL);
+		Flux<Object> flux = template.queryForFlux(psc, (rs, rowNum) -> rs.getObject(1));
+		try {
+			AtomicReference<Subscription> first = new AtomicReference<>();
+			Semaphore firstRows = new Semaphore(0);
+			flux.subscribe(row -> firstRows.release(), null, null, first::set);
+			first.get().request(1);
+			assertTrue(firstRows.tryAcquire(5, TimeUnit.SECONDS));
+
+			// Queued on the single permit; must not block the only scheduler thread
+			Semaphore secondRows = new Semaphore(0);
+			Disposable second = flux.subscribe(row -> secondRows.release(), null, null,
+					subscription -> subscription.request(1));
+			first.get().request(1);
+			assertTrue(firstRows.tryAcquire(5, TimeUnit.SECONDS));
+			assertFalse(secondRows.tryAcquire(200, TimeUnit.MILLISECONDS));
+
+			// Cancelled while queued: must not leak the permit
+			second.dispose();
+			first.get().cancel();
+			StepVerifier.create(flux.take(1)).expectNextCount(1).verifyComplete();
+			assertEquals(0, openCursors.get());
+		}
+		finally {
+			template.destroy();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unsupportedReactiveType() {
+		this.template.query(String.class, SQL, (rs, rowNum) -> rs.getString(1), 1);
+	}
+
+}
@@ -446,4 +446,41 @@ public class NamedParameterJdbcTemplateTests {
 		verify(connection, atLeastOnce()).close();
 	}
 
+	@Test
+	public void testBatchUpdateWithSqlParameterSourceIteratorInChunks() throws Exception {
+		List<SqlParameterSource> ids = new LinkedList<>();
+		ids.add(new MapSqlParameterSource("id", 100));
+		ids.add(new MapSqlParameterSource("id", 200));
+		ids.add(new MapSqlParameterSource("id", 300));
+
+		given(preparedStatement.executeBatch()).willReturn(new int[] {1, 1}, new int[] {1});
+		given(connection.getMetaData()).willReturn(databaseMetaData);
+
+		JdbcTemplate template = new JdbcTemplate(dataSource, false);
+		namedParameterTemplate = new NamedParameterJdbcTemplate(template);
+
+		int[][] actualRowsAffected = namedParameterTemplate.batchUpdate(
+				"UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = :id", ids.iterator(), 2);
+		assertEquals("executed 2 batches", 2, actualRowsAffected.length);
+		assertEquals(2, actualRowsAffected[0].length);
+		assertEquals(1, actualRowsAffected[1].length);
+		verify(connection).prepareStatement("UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?");
+		verify(preparedStatement).setObject(1, 100);
+		verify(preparedStatement).setObject(1, 200);
+		verify(preparedStatement).setObject(1, 300);
+		verify(preparedStatement, times(3)).addBatch();
+		verify(preparedStatement, times(2)).executeBatch();
+		verify(preparedStatement, atLeastOnce()).close();
+		verify(connection, atLeastOnce()).close();
+	}
+
+	@Test
+	public void testBatchUpdateWithEmptySqlParameterSourceCollectionInChunks() throws Exception {
+		int[][] actualRowsAffected = namedParameterTemplate.batchUpdate(
+				"UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = :id",
+				Collections.<SqlParameterSource>emptyList(), 2);
+		assertEquals(0, actualRowsAffected.length);
+		verify(connection, never()).prepareStatement(anyString());
+	}
+
 }
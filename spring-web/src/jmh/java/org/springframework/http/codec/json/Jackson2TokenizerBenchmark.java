@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+/**
+ * Benchmarks for {@link Jackson2Tokenizer}, tokenizing a large JSON array
+ * received in fixed size chunks, as for a streamed request body.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jackson2TokenizerBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"10000"})
+		public int elementCount;
+
+		@Param({"8192"})
+		public int chunkSize;
+
+		@Param({"false", "true"})
+		public boolean directBuffers;
+
+		public JsonFactory jsonFactory = new JsonFactory();
+
+		public List<byte[]> chunks = new ArrayList<>();
+
+		public DefaultDataBufferFactory bufferFactory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			StringBuilder builder = new StringBuilder("[");
+			for (int i = 0; i < this.elementCount; i++) {
+				if (i > 0) {
+					builder.append(',');
+				}
+				builder.append("{\"id\":").append(i).append(",\"name\":\"name").append(i)
+						.append("\",\"tags\":[\"a\",\"b\"],\"nested\":{\"value\":").append(i * 1.5).append("}}");
+			}
+			builder.append(']');
+			byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+			for (int offset = 0; offset < bytes.length; offset += this.chunkSize) {
+				int length = Math.min(this.chunkSize, bytes.length - offset);
+				byte[] chunk = new byte[length];
+				System.arraycopy(bytes, offset, chunk, 0, length);
+				this.chunks.add(chunk);
+			}
+			this.bufferFactory = new DefaultDataBufferFactory(this.directBuffers);
+		}
+
+		public Flux<DataBuffer> source() {
+			return Flux.fromIterable(this.chunks).map(chunk -> {
+				DataBuffer buffer = this.bufferFactory.allocateBuffer(chunk.length);
+				return buffer.write(chunk);
+			});
+		}
+	}
+
+
+	@Benchmark
+	public void tokenizeArrayElements(BenchmarkData data, Blackhole bh) throws IOException {
+		Jackson2Tokenizer tokenizer =
+				new Jackson2Tokenizer(data.jsonFactory.createNonBlockingByteArrayParser(), true);
+		List<TokenBuffer> tokenBuffers = data.source().flatMap(tokenizer).collectList().block();
+		bh.consume(tokenBuffers);
+	}
+
+	@Benchmark
+	public void tokenizeWholeDocument(BenchmarkData data, Blackhole bh) throws IOException {
+		Jackson2Tokenizer tokenizer =
+				new Jackson2Tokenizer(data.jsonFactory.createNonBlockingByteArrayParser(), false);
+		List<TokenBuffer> tokenBuffers = data.source().flatMap(tokenizer).collectList().block();
+		bh.consume(tokenBuffers);
+	}
+
+}
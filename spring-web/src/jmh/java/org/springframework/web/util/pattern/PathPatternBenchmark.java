@@ -0,0 +1,100 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.http.server.PathContainer;
+
+/**
+ * Benchmarks for {@link PathPattern} matching, using the same patterns and paths
+ * as the {@code AntPathMatcherBenchmark} in spring-core for comparison.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+public class PathPatternBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public List<PathPattern> patterns = new ArrayList<>();
+
+		public List<String> rawPaths = new ArrayList<>();
+
+		public List<PathContainer> paths = new ArrayList<>();
+
+		@Setup(Level.Trial)
+		public void setup() {
+			PathPatternParser parser = new PathPatternParser();
+			this.patterns.add(parser.parse("/"));
+			this.patterns.add(parser.parse("/resources/**"));
+			this.patterns.add(parser.parse("/api/users"));
+			this.patterns.add(parser.parse("/api/users/{id}"));
+			this.patterns.add(parser.parse("/api/users/{id}/orders/{orderId:\\d+}"));
+			this.patterns.add(parser.parse("/api/products/*.json"));
+			this.patterns.add(parser.parse("/api/*/settings/**"));
+			this.rawPaths.add("/");
+			this.rawPaths.add("/resources/css/main.css");
+			this.rawPaths.add("/api/users");
+			this.rawPaths.add("/api/users/42");
+			this.rawPaths.add("/api/users/42/orders/1234");
+			this.rawPaths.add("/api/products/catalog.json");
+			this.rawPaths.add("/api/accounts/settings/notifications/email");
+			this.rawPaths.add("/unknown/path/to/nowhere");
+			for (String path : this.rawPaths) {
+				this.paths.add(PathContainer.parsePath(path));
+			}
+		}
+	}
+
+
+	@Benchmark
+	public void matchAllPatterns(BenchmarkData data, Blackhole bh) {
+		for (PathContainer path : data.paths) {
+			for (PathPattern pattern : data.patterns) {
+				bh.consume(pattern.matches(path));
+			}
+		}
+	}
+
+	@Benchmark
+	public void parseAndMatchAllPatterns(BenchmarkData data, Blackhole bh) {
+		for (String rawPath : data.rawPaths) {
+			PathContainer path = PathContainer.parsePath(rawPath);
+			for (PathPattern pattern : data.patterns) {
+				bh.consume(pattern.matches(path));
+			}
+		}
+	}
+
+	@Benchmark
+	public void matchAndExtract(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.patterns.get(4).matchAndExtract(data.paths.get(4)));
+	}
+
+}
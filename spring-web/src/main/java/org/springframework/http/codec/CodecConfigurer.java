@@ -81,6 +81,40 @@ public interface CodecConfigurer {
 		 * @see org.springframework.http.codec.json.Jackson2JsonEncoder
 		 */
 		void jackson2JsonEncoder(Encoder<?> encoder);
+
+		/**
+		 * Override the default Protobuf {@code Decoder}, e.g. to register
+		 * message extensions.
+		 * @param decoder the decoder instance to use
+		 * @since 5.0.3
+		 * @see org.springframework.http.codec.protobuf.ProtobufDecoder
+		 */
+		void protobufDecoder(Decoder<?> decoder);
+
+		/**
+		 * Override the default Protobuf {@code Encoder}.
+		 * @param encoder the encoder instance to use
+		 * @since 5.0.3
+		 * @see org.springframework.http.codec.protobuf.ProtobufEncoder
+		 */
+		void protobufEncoder(Encoder<?> encoder);
+
+		/**
+		 * Configure a limit on the number of bytes that can be buffered whenever
+		 * the input stream needs to be aggregated. This can be a result of
+		 * decoding to a single object, e.g. {@code Mono<String>} or form data,
+		 * or of buffering a single element of a stream, e.g. a JSON array
+		 * element or a server-sent event. Once exceeded, reading fails with a
+		 * {@link org.springframework.core.io.buffer.DataBufferLimitException}.
+		 * <p>The limit is applied to all default codecs that buffer input,
+		 * including an overridden Jackson JSON decoder. Custom codecs need to
+		 * be configured individually.
+		 * <p>By default this is not set, i.e. the limit of each codec applies,
+		 * which is unlimited unless configured otherwise.
+		 * @param byteCount the max number of bytes to buffer, or -1 for unlimited
+		 * @since 5.0.3
+		 */
+		void maxInMemorySize(int byteCount);
 	}
 
 
@@ -34,6 +34,7 @@ import org.springframework.core.codec.Decoder;
 import org.springframework.core.codec.StringDecoder;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
@@ -62,6 +63,8 @@ public class ServerSentEventHttpMessageReader implements HttpMessageReader<Objec
 	@Nullable
 	private final Decoder<?> decoder;
 
+	private int maxInMemorySize = -1;
+
 
 	/**
 	 * Constructor without a {@code Decoder}. In this mode only {@code String}
@@ -88,6 +91,27 @@ public class ServerSentEventHttpMessageReader implements HttpMessageReader<Objec
 		return this.decoder;
 	}
 
+	/**
+	 * Configure a limit on the number of bytes that can be buffered for a
+	 * single event, i.e. the lines received until the blank line that ends
+	 * the event. If the limit is exceeded, reading fails with a
+	 * {@link DataBufferLimitException}.
+	 * <p>By default this is set to -1, i.e. unlimited.
+	 * @param byteCount the max number of bytes to buffer, or -1 for unlimited
+	 * @since 5.0.3
+	 */
+	public void setMaxInMemorySize(int byteCount) {
+		this.maxInMemorySize = byteCount;
+	}
+
+	/**
+	 * Return the {@link #setMaxInMemorySize configured} byte count limit.
+	 * @since 5.0.3
+	 */
+	public int getMaxInMemorySize() {
+		return this.maxInMemorySize;
+	}
+
 	@Override
 	public List<MediaType> getReadableMediaTypes() {
 		return Collections.singletonList(MediaType.TEXT_EVENT_STREAM);
@@ -111,12 +135,16 @@ public class ServerSentEventHttpMessageReader implements HttpMessageReader<Objec
 		boolean shouldWrap = isServerSentEvent(elementType);
 		ResolvableType valueType = (shouldWrap ? elementType.getGeneric(0) : elementType);
 
+		LimitTracker limitTracker = new LimitTracker();
 		return Flux.from(message.getBody())
 				.concatMap(ServerSentEventHttpMessageReader::splitOnNewline)
 				.map(buffer -> {
+					int byteCount = buffer.readableByteCount();
 					CharBuffer charBuffer = StandardCharsets.UTF_8.decode(buffer.asByteBuffer());
 					DataBufferUtils.release(buffer);
-					return charBuffer.toString();
+					String line = charBuffer.toString();
+					limitTracker.afterLineParsed(byteCount, line.equals("\n"));
+					return line;
 				})
 				.bufferUntil(line -> line.equals("\n"))
 				.concatMap(rawLines -> {
@@ -205,7 +233,7 @@ public class ServerSentEventHttpMessageReader implements HttpMessageReader<Objec
 		// Let's see if we can aggregate the output (lest we time out)...
 
 		if (String.class.equals(elementType.getRawClass())) {
-			Flux<DataBuffer> body = message.getBody();
+			Mono<DataBuffer> body = DataBufferUtils.join(message.getBody(), this.maxInMemorySize);
 			return stringDecoder.decodeToMono(body, elementType, null, null).cast(Object.class);
 		}
 
@@ -213,4 +241,28 @@ public class ServerSentEventHttpMessageReader implements HttpMessageReader<Objec
 				"ServerSentEventHttpMessageReader only supports reading stream of events as a Flux"));
 	}
 
+
+	/**
+	 * Tracks the bytes buffered for the event currently being read.
+	 */
+	private class LimitTracker {
+
+		private int accumulated = 0;
+
+		public void afterLineParsed(int byteCount, boolean endOfEvent) {
+			if (getMaxInMemorySize() < 0) {
+				return;
+			}
+			if (endOfEvent) {
+				this.accumulated = 0;
+				return;
+			}
+			this.accumulated += byteCount;
+			if (this.accumulated > getMaxInMemorySize()) {
+				throw new DataBufferLimitException(
+						"Exceeded limit on max bytes per SSE event: " + getMaxInMemorySize());
+			}
+		}
+	}
+
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.cbor;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import org.springframework.http.codec.json.AbstractJackson2Decoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+/**
+ * Decode bytes into CBOR and convert to Object's with Jackson 2.9.
+ *
+ * <p>Since Jackson 2.9 does not provide a non-blocking CBOR parser, the input
+ * is aggregated before it is parsed, within the limit configured through
+ * {@link #setMaxInMemorySize(int)}. When decoding to a stream, the elements
+ * of a top-level array, or a sequence of top-level values, are emitted.
+ *
+ * @author agent
+ * @since 5.0.3
+ * @see Jackson2CborEncoder
+ */
+public class Jackson2CborDecoder extends AbstractJackson2Decoder {
+
+	static final MimeType CBOR_MIME_TYPE = new MimeType("application", "cbor");
+
+
+	public Jackson2CborDecoder() {
+		this(Jackson2ObjectMapperBuilder.cbor().build(), CBOR_MIME_TYPE);
+	}
+
+	public Jackson2CborDecoder(ObjectMapper mapper, MimeType... mimeTypes) {
+		super(mapper, mimeTypes);
+		Assert.isAssignable(CBORFactory.class, mapper.getFactory().getClass());
+	}
+
+
+	@Override
+	public List<MimeType> getDecodableMimeTypes() {
+		return getMimeTypes();
+	}
+
+}
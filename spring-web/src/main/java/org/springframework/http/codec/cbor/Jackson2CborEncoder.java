@@ -0,0 +1,55 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.cbor;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+/**
+ * Encode from an {@code Object} to bytes of CBOR objects using Jackson 2.9.
+ * {@code Flux} elements are collected into a {@code List} before serialization,
+ * since CBOR streams cannot be decoded incrementally with Jackson 2.9.
+ *
+ * @author agent
+ * @since 5.0.3
+ * @see Jackson2CborDecoder
+ */
+public class Jackson2CborEncoder extends AbstractJackson2Encoder {
+
+	public Jackson2CborEncoder() {
+		this(Jackson2ObjectMapperBuilder.cbor().build(), Jackson2CborDecoder.CBOR_MIME_TYPE);
+	}
+
+	public Jackson2CborEncoder(ObjectMapper mapper, MimeType... mimeTypes) {
+		super(mapper, mimeTypes);
+		Assert.isAssignable(CBORFactory.class, mapper.getFactory().getClass());
+	}
+
+
+	@Override
+	public List<MimeType> getEncodableMimeTypes() {
+		return getMimeTypes();
+	}
+
+}
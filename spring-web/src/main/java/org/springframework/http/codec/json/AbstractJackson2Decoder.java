@@ -19,12 +19,14 @@ package org.springframework.http.codec.json;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
@@ -38,6 +40,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.CodecException;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.codec.HttpMessageDecoder;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -55,6 +58,9 @@ import org.springframework.util.MimeType;
  */
 public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport implements HttpMessageDecoder<Object> {
 
+	private int maxInMemorySize = -1;
+
+
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
 	 */
@@ -63,6 +69,31 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 	}
 
 
+	/**
+	 * Configure a limit on the number of bytes that can be buffered while
+	 * parsing a single JSON value, i.e. the whole input when decoding to a
+	 * single object, or each top-level array element when decoding to a
+	 * stream. Data formats without non-blocking parser support, such as CBOR,
+	 * are always aggregated, so the limit then applies to the whole input.
+	 * If the limit is exceeded, decoding fails with a
+	 * {@link org.springframework.core.io.buffer.DataBufferLimitException}.
+	 * <p>By default this is set to -1, i.e. unlimited.
+	 * @param byteCount the max number of bytes to buffer, or -1 for unlimited
+	 * @since 5.0.3
+	 */
+	public void setMaxInMemorySize(int byteCount) {
+		this.maxInMemorySize = byteCount;
+	}
+
+	/**
+	 * Return the {@link #setMaxInMemorySize configured} byte count limit.
+	 * @since 5.0.3
+	 */
+	public int getMaxInMemorySize() {
+		return this.maxInMemorySize;
+	}
+
+
 	@Override
 	public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		JavaType javaType = getObjectMapper().getTypeFactory().constructType(elementType.getType());
@@ -75,6 +106,11 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 	public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
+		if (!getObjectMapper().getFactory().canParseAsync()) {
+			ObjectReader reader = getObjectReader(elementType, hints);
+			return DataBufferUtils.join(input, this.maxInMemorySize)
+					.flatMapIterable(dataBuffer -> readValues(reader, dataBuffer));
+		}
 		Flux<TokenBuffer> tokens = tokenize(input, true);
 		return decodeInternal(tokens, elementType, mimeType, hints);
 	}
@@ -83,6 +119,11 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 	public Mono<Object> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
+		if (!getObjectMapper().getFactory().canParseAsync()) {
+			ObjectReader reader = getObjectReader(elementType, hints);
+			return DataBufferUtils.join(input, this.maxInMemorySize)
+					.map(dataBuffer -> readValue(reader, dataBuffer));
+		}
 		Flux<TokenBuffer> tokens = tokenize(input, false);
 		return decodeInternal(tokens, elementType, mimeType, hints).singleOrEmpty();
 	}
@@ -91,7 +132,8 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		try {
 			JsonFactory factory = getObjectMapper().getFactory();
 			JsonParser parser = factory.createNonBlockingByteArrayParser();
-			Jackson2Tokenizer tokenizer = new Jackson2Tokenizer(parser, tokenizeArrayElements);
+			Jackson2Tokenizer tokenizer =
+					new Jackson2Tokenizer(parser, tokenizeArrayElements, this.maxInMemorySize);
 			return Flux.from(input).flatMap(tokenizer).doFinally(t -> tokenizer.endOfInput());
 		}
 		catch (IOException ex) {
@@ -105,31 +147,70 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		Assert.notNull(tokens, "'tokens' must not be null");
 		Assert.notNull(elementType, "'elementType' must not be null");
 
-		MethodParameter param = getParameter(elementType);
-		Class<?> contextClass = (param != null ? param.getContainingClass() : null);
-		JavaType javaType = getJavaType(elementType.getType(), contextClass);
-		Class<?> jsonView = (hints != null ? (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT) : null);
-
-		ObjectReader reader = (jsonView != null ?
-				getObjectMapper().readerWithView(jsonView).forType(javaType) :
-				getObjectMapper().readerFor(javaType));
-
+		ObjectReader reader = getObjectReader(elementType, hints);
 		return tokens.map(tokenBuffer -> {
 			try {
 				return reader.readValue(tokenBuffer.asParser(getObjectMapper()));
 			}
-			catch (InvalidDefinitionException ex) {
-				throw new CodecException("Type definition error: " + ex.getType(), ex);
-			}
-			catch (JsonProcessingException ex) {
-				throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
-			}
 			catch (IOException ex) {
-				throw new DecodingException("I/O error while parsing input stream", ex);
+				throw processException(ex);
 			}
 		});
 	}
 
+	private ObjectReader getObjectReader(ResolvableType elementType, @Nullable Map<String, Object> hints) {
+		MethodParameter param = getParameter(elementType);
+		Class<?> contextClass = (param != null ? param.getContainingClass() : null);
+		JavaType javaType = getJavaType(elementType.getType(), contextClass);
+		Class<?> jsonView = (hints != null ? (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT) : null);
+		return (jsonView != null ?
+				getObjectMapper().readerWithView(jsonView).forType(javaType) :
+				getObjectMapper().readerFor(javaType));
+	}
+
+	/**
+	 * Read a single value from an aggregated buffer, for data formats that
+	 * do not support non-blocking parsing.
+	 */
+	private Object readValue(ObjectReader reader, DataBuffer dataBuffer) {
+		try {
+			return reader.readValue(dataBuffer.asInputStream());
+		}
+		catch (IOException ex) {
+			throw processException(ex);
+		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
+	/**
+	 * Read a sequence of values, or the elements of a top-level array, from
+	 * an aggregated buffer, for data formats that do not support non-blocking
+	 * parsing.
+	 */
+	private List<Object> readValues(ObjectReader reader, DataBuffer dataBuffer) {
+		try (MappingIterator<Object> iterator = reader.readValues(dataBuffer.asInputStream())) {
+			return iterator.readAll();
+		}
+		catch (IOException ex) {
+			throw processException(ex);
+		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
+	private CodecException processException(IOException ex) {
+		if (ex instanceof InvalidDefinitionException) {
+			return new CodecException("Type definition error: " + ((InvalidDefinitionException) ex).getType(), ex);
+		}
+		if (ex instanceof JsonProcessingException) {
+			return new DecodingException("JSON decoding error: " + ((JsonProcessingException) ex).getOriginalMessage(), ex);
+		}
+		return new DecodingException("I/O error while parsing input stream", ex);
+	}
+
 
 	// HttpMessageDecoder...
 
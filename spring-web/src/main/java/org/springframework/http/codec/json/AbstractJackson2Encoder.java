@@ -56,6 +56,9 @@ import org.springframework.util.MimeType;
  */
 public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport implements HttpMessageEncoder<Object> {
 
+	private static final byte[] NEWLINE_SEPARATOR = {'\n'};
+
+
 	protected final List<MediaType> streamingMediaTypes = new ArrayList<>(1);
 
 
@@ -100,9 +103,12 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 					encodeValue(value, mimeType, bufferFactory, elementType, hints));
 		}
 		else if (this.streamingMediaTypes.stream().anyMatch(mediaType -> mediaType.isCompatibleWith(mimeType))) {
+			byte[] separator = getStreamingMediaTypeSeparator(mimeType);
 			return Flux.from(inputStream).map(value -> {
 				DataBuffer buffer = encodeValue(value, mimeType, bufferFactory, elementType, hints);
-				buffer.write(new byte[]{'\n'});
+				if (separator.length > 0) {
+					buffer.write(separator);
+				}
 				return buffer;
 			});
 		}
@@ -151,6 +157,18 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		return writer;
 	}
 
+	/**
+	 * Return the separator to write after each value when encoding a stream
+	 * with one of the {@link #getStreamingMediaTypes() streaming media types}.
+	 * <p>By default this is a new line, as expected for line-delimited JSON.
+	 * Subclasses for self-delimiting binary formats may return an empty array.
+	 * @param mimeType the streaming mime type the stream is encoded with
+	 * @since 5.0.3
+	 */
+	protected byte[] getStreamingMediaTypeSeparator(@Nullable MimeType mimeType) {
+		return NEWLINE_SEPARATOR;
+	}
+
 
 	// HttpMessageEncoder...
 
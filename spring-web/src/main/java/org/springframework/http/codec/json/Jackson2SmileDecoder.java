@@ -16,13 +16,11 @@
 
 package org.springframework.http.codec.json;
 
-import java.util.Collections;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
-import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
@@ -37,11 +35,13 @@ import org.springframework.util.MimeType;
  */
 public class Jackson2SmileDecoder extends AbstractJackson2Decoder {
 
-	private static final MimeType SMILE_MIME_TYPE = new MediaType("application", "x-jackson-smile");
+	private static final MimeType[] SMILE_MIME_TYPES = {
+			new MimeType("application", "x-jackson-smile"),
+			new MimeType("application", "*+x-jackson-smile")};
 
 
 	public Jackson2SmileDecoder() {
-		this(Jackson2ObjectMapperBuilder.smile().build(), SMILE_MIME_TYPE);
+		this(Jackson2ObjectMapperBuilder.smile().build(), SMILE_MIME_TYPES);
 	}
 
 	public Jackson2SmileDecoder(ObjectMapper mapper, MimeType... mimeTypes) {
@@ -51,7 +51,7 @@ public class Jackson2SmileDecoder extends AbstractJackson2Decoder {
 
 	@Override
 	public List<MimeType> getDecodableMimeTypes() {
-		return Collections.singletonList(SMILE_MIME_TYPE);
+		return getMimeTypes();
 	}
 
 }
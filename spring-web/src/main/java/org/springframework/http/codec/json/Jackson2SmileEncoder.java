@@ -16,7 +16,6 @@
 
 package org.springframework.http.codec.json;
 
-import java.util.Collections;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,11 +23,17 @@ import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
 
 /**
  * Encode from an {@code Object} stream to a byte stream of Smile objects using Jackson 2.9.
+ * For non-streaming use cases, {@code Flux} elements are collected into a {@code List}
+ * before serialization for performance reason. When encoding a stream with the
+ * {@code "application/stream+x-jackson-smile"} media type, each element is written
+ * as a separate Smile value without any delimiter, since Smile values are
+ * self-delimiting.
  *
  * @author Sebastien Deleuze
  * @since 5.0
@@ -36,11 +41,15 @@ import org.springframework.util.MimeType;
  */
 public class Jackson2SmileEncoder extends AbstractJackson2Encoder {
 
-	private static final MimeType SMILE_MIME_TYPE = new MediaType("application", "x-jackson-smile");
-	
-	
+	private static final MimeType[] SMILE_MIME_TYPES = {
+			new MimeType("application", "x-jackson-smile"),
+			new MimeType("application", "*+x-jackson-smile")};
+
+	private static final byte[] STREAM_SEPARATOR = new byte[0];
+
+
 	public Jackson2SmileEncoder() {
-		this(Jackson2ObjectMapperBuilder.smile().build(), new MediaType("application", "x-jackson-smile"));
+		this(Jackson2ObjectMapperBuilder.smile().build(), SMILE_MIME_TYPES);
 	}
 
 	public Jackson2SmileEncoder(ObjectMapper mapper, MimeType... mimeTypes) {
@@ -50,9 +59,18 @@ public class Jackson2SmileEncoder extends AbstractJackson2Encoder {
 	}
 
 
+	/**
+	 * Smile values are self-delimiting, so no separator is written between
+	 * the elements of a stream.
+	 */
+	@Override
+	protected byte[] getStreamingMediaTypeSeparator(@Nullable MimeType mimeType) {
+		return STREAM_SEPARATOR;
+	}
+
 	@Override
 	public List<MimeType> getEncodableMimeTypes() {
-		return Collections.singletonList(SMILE_MIME_TYPE);
+		return getMimeTypes();
 	}
 
 }
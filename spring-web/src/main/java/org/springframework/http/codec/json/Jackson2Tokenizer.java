@@ -17,6 +17,7 @@
 package org.springframework.http.codec.json;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
@@ -30,7 +31,9 @@ import reactor.core.publisher.Flux;
 
 import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -47,12 +50,20 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 
 	private final boolean tokenizeArrayElements;
 
+	private final int maxInMemorySize;
+
 	private TokenBuffer tokenBuffer;
 
 	private int objectDepth;
 
 	private int arrayDepth;
 
+	/** Total number of bytes fed to the parser */
+	private long byteCount;
+
+	/** Byte offset at which the current token buffer started */
+	private long tokenBufferOffset;
+
 	// TODO: change to ByteBufferFeeder when supported by Jackson
 	private final ByteArrayFeeder inputFeeder;
 
@@ -66,10 +77,27 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 	 * after it is received.
 	 */
 	public Jackson2Tokenizer(JsonParser parser, boolean tokenizeArrayElements) {
+		this(parser, tokenizeArrayElements, -1);
+	}
+
+	/**
+	 * Create a new instance of the {@code Jackson2Tokenizer}.
+	 * @param parser the non-blocking parser, obtained via
+	 * {@link com.fasterxml.jackson.core.JsonFactory#createNonBlockingByteArrayParser}
+	 * @param tokenizeArrayElements if {@code true} and the "top level" JSON
+	 * object is an array, each element is returned individually, immediately
+	 * after it is received.
+	 * @param maxInMemorySize the max number of bytes to consume for a single
+	 * token buffer before failing with a {@link DataBufferLimitException},
+	 * or -1 for unlimited
+	 * @since 5.0.3
+	 */
+	public Jackson2Tokenizer(JsonParser parser, boolean tokenizeArrayElements, int maxInMemorySize) {
 		Assert.notNull(parser, "'parser' must not be null");
 
 		this.parser = parser;
 		this.tokenizeArrayElements = tokenizeArrayElements;
+		this.maxInMemorySize = maxInMemorySize;
 		this.tokenBuffer = new TokenBuffer(parser);
 		this.inputFeeder = (ByteArrayFeeder) this.parser.getNonBlockingInputFeeder();
 	}
@@ -77,13 +105,10 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 
 	@Override
 	public Flux<TokenBuffer> apply(DataBuffer dataBuffer) {
-		byte[] bytes = new byte[dataBuffer.readableByteCount()];
-		dataBuffer.read(bytes);
-		DataBufferUtils.release(dataBuffer);
-
+		this.byteCount += dataBuffer.readableByteCount();
 		try {
-			this.inputFeeder.feedInput(bytes, 0, bytes.length);
-			List<TokenBuffer> result = new ArrayList<>();
+			feedInput(dataBuffer);
+			List<TokenBuffer> result = null;
 
 			while (true) {
 				JsonToken token = this.parser.nextToken();
@@ -93,13 +118,20 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 				updateDepth(token);
 
 				if (!this.tokenizeArrayElements) {
-					processTokenNormal(token, result);
+					result = processTokenNormal(token, result);
 				}
 				else {
-					processTokenArray(token, result);
+					result = processTokenArray(token, result);
 				}
 			}
-			return Flux.fromIterable(result);
+
+			// Bytes of an incomplete token buffer, up to the end of the current chunk
+			assertInMemorySize(this.byteCount - this.tokenBufferOffset);
+
+			if (result == null) {
+				return Flux.empty();
+			}
+			return (result.size() == 1 ? Flux.just(result.get(0)) : Flux.fromIterable(result));
 		}
 		catch (JsonProcessingException ex) {
 			return Flux.error(new DecodingException(
@@ -108,6 +140,39 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 		catch (Exception ex) {
 			return Flux.error(ex);
 		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
+	/**
+	 * Feed the readable bytes of the given buffer to the parser. Heap buffers
+	 * are fed through their backing array without an intermediate copy: the
+	 * parser consumes all input before reporting {@link JsonToken#NOT_AVAILABLE},
+	 * so the buffer is only released once all available tokens have been read.
+	 */
+	private void feedInput(DataBuffer dataBuffer) throws IOException {
+		ByteBuffer byteBuffer = dataBuffer.asByteBuffer();
+		if (byteBuffer.hasArray()) {
+			int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+			this.inputFeeder.feedInput(byteBuffer.array(), offset, offset + byteBuffer.remaining());
+		}
+		else {
+			byte[] bytes = new byte[dataBuffer.readableByteCount()];
+			dataBuffer.read(bytes);
+			this.inputFeeder.feedInput(bytes, 0, bytes.length);
+		}
+	}
+
+	/**
+	 * Fail if the given number of bytes for a single token buffer, including
+	 * any whitespace or separators preceding it, exceeds the configured limit.
+	 */
+	private void assertInMemorySize(long tokenBufferSize) {
+		if (this.maxInMemorySize >= 0 && tokenBufferSize > this.maxInMemorySize) {
+			throw new DataBufferLimitException(
+					"Exceeded limit on max bytes per JSON object: " + this.maxInMemorySize);
+		}
 	}
 
 	private void updateDepth(JsonToken token) {
@@ -127,28 +192,48 @@ class Jackson2Tokenizer implements Function<DataBuffer, Flux<TokenBuffer>> {
 		}
 	}
 
-	private void processTokenNormal(JsonToken token, List<TokenBuffer> result) throws IOException {
+	@Nullable
+	private List<TokenBuffer> processTokenNormal(JsonToken token, @Nullable List<TokenBuffer> result)
+			throws IOException {
+
 		this.tokenBuffer.copyCurrentEvent(this.parser);
 
 		if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
 			if (this.objectDepth == 0 && this.arrayDepth == 0) {
-				result.add(this.tokenBuffer);
-				this.tokenBuffer = new TokenBuffer(this.parser);
+				result = addTokenBuffer(result);
 			}
 		}
-
+		return result;
 	}
 
-	private void processTokenArray(JsonToken token, List<TokenBuffer> result) throws IOException {
+	@Nullable
+	private List<TokenBuffer> processTokenArray(JsonToken token, @Nullable List<TokenBuffer> result)
+			throws IOException {
+
 		if (!isTopLevelArrayToken(token)) {
 			this.tokenBuffer.copyCurrentEvent(this.parser);
 		}
 
 		if (token == JsonToken.END_OBJECT && this.objectDepth == 0 &&
 				(this.arrayDepth == 1 || this.arrayDepth == 0)) {
-			result.add(this.tokenBuffer);
-			this.tokenBuffer = new TokenBuffer(this.parser);
+			result = addTokenBuffer(result);
+		}
+		return result;
+	}
+
+	private List<TokenBuffer> addTokenBuffer(@Nullable List<TokenBuffer> result) {
+		if (this.maxInMemorySize >= 0) {
+			// The parser is positioned right after the last token of the completed value
+			long offset = this.parser.getCurrentLocation().getByteOffset();
+			assertInMemorySize(offset - this.tokenBufferOffset);
+			this.tokenBufferOffset = offset;
+		}
+		if (result == null) {
+			result = new ArrayList<>();
 		}
+		result.add(this.tokenBuffer);
+		this.tokenBuffer = new TokenBuffer(this.parser);
+		return result;
 	}
 
 	private boolean isTopLevelArrayToken(JsonToken token) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.protobuf;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code HttpMessageWriter} that can write a protobuf {@link Message} and adds
+ * {@code X-Protobuf-Schema} and {@code X-Protobuf-Message} headers. A
+ * {@code delimited=true} parameter is added to the content type if a flux is
+ * serialized, so that each message is flushed as it is written.
+ *
+ * <p>For {@code HttpMessageReader}, just use
+ * {@code new DecoderHttpMessageReader(new ProtobufDecoder())}.
+ *
+ * @author agent
+ * @since 5.0.3
+ * @see ProtobufEncoder
+ */
+public class ProtobufHttpMessageWriter extends EncoderHttpMessageWriter<Message> {
+
+	private static final String X_PROTOBUF_SCHEMA_HEADER = "X-Protobuf-Schema";
+
+	private static final String X_PROTOBUF_MESSAGE_HEADER = "X-Protobuf-Message";
+
+	private static final MediaType DELIMITED_PROTOBUF =
+			new MediaType("application", "x-protobuf", Collections.singletonMap(
+					ProtobufCodecSupport.DELIMITED_KEY, ProtobufCodecSupport.DELIMITED_VALUE));
+
+	private static final ConcurrentHashMap<Class<?>, Descriptors.Descriptor> descriptorCache =
+			new ConcurrentHashMap<>();
+
+
+	/**
+	 * Create a new {@code ProtobufHttpMessageWriter} with a default {@link ProtobufEncoder}.
+	 */
+	public ProtobufHttpMessageWriter() {
+		super(new ProtobufEncoder());
+	}
+
+	/**
+	 * Create a new {@code ProtobufHttpMessageWriter} with the given encoder.
+	 * @param encoder the Protobuf message encoder to use
+	 */
+	public ProtobufHttpMessageWriter(Encoder<Message> encoder) {
+		super(encoder);
+	}
+
+
+	@Override
+	public Mono<Void> write(Publisher<? extends Message> inputStream, ResolvableType elementType,
+			@Nullable MediaType mediaType, ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+
+		try {
+			Descriptors.Descriptor descriptor = getDescriptor(elementType.resolve(Object.class));
+			HttpHeaders headers = message.getHeaders();
+			headers.set(X_PROTOBUF_SCHEMA_HEADER, descriptor.getFile().getName());
+			headers.set(X_PROTOBUF_MESSAGE_HEADER, descriptor.getFullName());
+			if (inputStream instanceof Flux && headers.getContentType() == null) {
+				headers.setContentType(getDelimitedMediaType(mediaType));
+			}
+		}
+		catch (Exception ex) {
+			return Mono.error(new EncodingException("Could not write Protobuf message: " + ex.getMessage(), ex));
+		}
+		return super.write(inputStream, elementType, mediaType, message, hints);
+	}
+
+	private static MediaType getDelimitedMediaType(@Nullable MediaType mediaType) {
+		if (mediaType == null || !mediaType.isConcrete() || MediaType.APPLICATION_OCTET_STREAM.equals(mediaType)) {
+			return DELIMITED_PROTOBUF;
+		}
+		Map<String, String> parameters = new LinkedHashMap<>(mediaType.getParameters());
+		parameters.put(ProtobufCodecSupport.DELIMITED_KEY, ProtobufCodecSupport.DELIMITED_VALUE);
+		return new MediaType(mediaType.getType(), mediaType.getSubtype(), parameters);
+	}
+
+	/**
+	 * Return the {@code Descriptor} of the given generated message class.
+	 * <p>This method uses a ConcurrentHashMap for caching descriptor lookups.
+	 */
+	private static Descriptors.Descriptor getDescriptor(Class<?> clazz) throws Exception {
+		Descriptors.Descriptor descriptor = descriptorCache.get(clazz);
+		if (descriptor == null) {
+			Method method = clazz.getMethod("getDescriptor");
+			descriptor = (Descriptors.Descriptor) method.invoke(clazz);
+			descriptorCache.put(clazz, descriptor);
+		}
+		return descriptor;
+	}
+
+}
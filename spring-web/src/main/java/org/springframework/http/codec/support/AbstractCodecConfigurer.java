@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import com.google.protobuf.Message;
+
 import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.ByteArrayDecoder;
 import org.springframework.core.codec.ByteArrayEncoder;
@@ -35,13 +37,20 @@ import org.springframework.core.codec.StringDecoder;
 import org.springframework.http.codec.CodecConfigurer;
 import org.springframework.http.codec.DecoderHttpMessageReader;
 import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.FormHttpMessageReader;
 import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.codec.HttpMessageWriter;
 import org.springframework.http.codec.ResourceHttpMessageWriter;
+import org.springframework.http.codec.ServerSentEventHttpMessageReader;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.AbstractJackson2Decoder;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.http.codec.json.Jackson2SmileDecoder;
 import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.codec.protobuf.ProtobufDecoder;
+import org.springframework.http.codec.protobuf.ProtobufHttpMessageWriter;
 import org.springframework.http.codec.xml.Jaxb2XmlDecoder;
 import org.springframework.http.codec.xml.Jaxb2XmlEncoder;
 import org.springframework.lang.Nullable;
@@ -66,9 +75,16 @@ abstract class AbstractCodecConfigurer implements CodecConfigurer {
 			ClassUtils.isPresent("com.fasterxml.jackson.dataformat.smile.SmileFactory",
 					AbstractCodecConfigurer.class.getClassLoader());
 
+	private static final boolean jackson2CborPresent =
+			ClassUtils.isPresent("com.fasterxml.jackson.dataformat.cbor.CBORFactory",
+					AbstractCodecConfigurer.class.getClassLoader());
+
 	private static final boolean jaxb2Present =
 			ClassUtils.isPresent("javax.xml.bind.Binder", AbstractCodecConfigurer.class.getClassLoader());
 
+	private static final boolean protobufPresent =
+			ClassUtils.isPresent("com.google.protobuf.Message", AbstractCodecConfigurer.class.getClassLoader());
+
 
 	private final AbstractDefaultCodecs defaultCodecs;
 
@@ -136,6 +152,15 @@ abstract class AbstractCodecConfigurer implements CodecConfigurer {
 		@Nullable
 		private Encoder<?> jackson2JsonEncoder;
 
+		@Nullable
+		private Decoder<?> protobufDecoder;
+
+		@Nullable
+		private Encoder<?> protobufEncoder;
+
+		@Nullable
+		private Integer maxInMemorySize;
+
 		@Nullable
 		private DefaultCustomCodecs customCodecs;
 
@@ -177,6 +202,71 @@ abstract class AbstractCodecConfigurer implements CodecConfigurer {
 			return (this.jackson2JsonEncoder != null ? this.jackson2JsonEncoder : new Jackson2JsonEncoder());
 		}
 
+		@Override
+		public void protobufDecoder(Decoder<?> decoder) {
+			this.protobufDecoder = decoder;
+		}
+
+		Decoder<?> getProtobufDecoder() {
+			return (this.protobufDecoder != null ? this.protobufDecoder : new ProtobufDecoder());
+		}
+
+		@Override
+		public void protobufEncoder(Encoder<?> encoder) {
+			this.protobufEncoder = encoder;
+		}
+
+		@SuppressWarnings("unchecked")
+		HttpMessageWriter<?> getProtobufWriter() {
+			return (this.protobufEncoder != null ?
+					new ProtobufHttpMessageWriter((Encoder<Message>) this.protobufEncoder) :
+					new ProtobufHttpMessageWriter());
+		}
+
+		@Override
+		public void maxInMemorySize(int byteCount) {
+			this.maxInMemorySize = byteCount;
+		}
+
+		@Nullable
+		Integer getMaxInMemorySize() {
+			return this.maxInMemorySize;
+		}
+
+		/**
+		 * Apply the {@link #maxInMemorySize(int) configured limit}, if any,
+		 * to a default codec that buffers input.
+		 */
+		<T> T initCodec(T codec) {
+			if (this.maxInMemorySize == null) {
+				return codec;
+			}
+			int byteCount = this.maxInMemorySize;
+			if (codec instanceof DecoderHttpMessageReader) {
+				initCodec(((DecoderHttpMessageReader<?>) codec).getDecoder());
+			}
+			else if (codec instanceof StringDecoder) {
+				((StringDecoder) codec).setMaxInMemorySize(byteCount);
+			}
+			else if (codec instanceof FormHttpMessageReader) {
+				((FormHttpMessageReader) codec).setMaxInMemorySize(byteCount);
+			}
+			else if (codec instanceof ServerSentEventHttpMessageReader) {
+				((ServerSentEventHttpMessageReader) codec).setMaxInMemorySize(byteCount);
+				initCodec(((ServerSentEventHttpMessageReader) codec).getDecoder());
+			}
+			else if (jackson2Present && codec instanceof AbstractJackson2Decoder) {
+				((AbstractJackson2Decoder) codec).setMaxInMemorySize(byteCount);
+			}
+			else if (jaxb2Present && codec instanceof Jaxb2XmlDecoder) {
+				((Jaxb2XmlDecoder) codec).setMaxInMemorySize(byteCount);
+			}
+			else if (protobufPresent && codec instanceof ProtobufDecoder) {
+				((ProtobufDecoder) codec).setMaxMessageSize(byteCount);
+			}
+			return codec;
+		}
+
 		// Readers...
 
 		List<HttpMessageReader<?>> getTypedReaders() {
@@ -188,7 +278,10 @@ abstract class AbstractCodecConfigurer implements CodecConfigurer {
 			result.add(new DecoderHttpMessageReader<>(new ByteBufferDecoder()));
 			result.add(new DecoderHttpMessageReader<>(new DataBufferDecoder()));
 			result.add(new DecoderHttpMessageReader<>(new ResourceDecoder()));
-			result.add(new DecoderHttpMessageReader<>(StringDecoder.textPlainOnly(splitTextOnNewLine())));
+			result.add(initCodec(new DecoderHttpMessageReader<>(StringDecoder.textPlainOnly(splitTextOnNewLine()))));
+			if (protobufPresent) {
+				result.add(initCodec(new DecoderHttpMessageReader<>(getProtobufDecoder())));
+			}
 			return result;
 		}
 
@@ -200,13 +293,16 @@ abstract class AbstractCodecConfigurer implements CodecConfigurer {
 			}
 			List<HttpMessageReader<?>> result = new ArrayList<>();
 			if (jackson2Present) {
-				result.add(new DecoderHttpMessageReader<>(getJackson2JsonDecoder()));
+				result.add(initCodec(new DecoderHttpMessageReader<>(getJackson2JsonDecoder())));
 			}
 			if (jackson2SmilePresent) {
-				result.add(new DecoderHttpMessageReader<>(new Jackson2SmileDecoder()));
+				result.add(initCodec(new DecoderHttpMessageReader<>(new Jackson2SmileDecoder())));
+			}
+			if (jackson2CborPresent) {
+				result.add(initCodec(new DecoderHttpMessageReader<>(new Jackson2CborDecoder())));
 			}
 			if (jaxb2Present) {
-				result.add(new DecoderHttpMessageReader<>(new Jaxb2XmlDecoder()));
+				result.add(initCodec(new DecoderHttpMessageReader<>(new Jaxb2XmlDecoder())));
 			}
 			return result;
 		}
@@ -216,7 +312,7 @@ abstract class AbstractCodecConfigurer implements CodecConfigurer {
 				return Collections.emptyList();
 			}
 			List<HttpMessageReader<?>> result = new ArrayList<>();
-			result.add(new DecoderHttpMessageReader<>(StringDecoder.allMimeTypes(splitTextOnNewLine())));
+			result.add(initCodec(new DecoderHttpMessageReader<>(StringDecoder.allMimeTypes(splitTextOnNewLine()))));
 			return result;
 		}
 
@@ -232,6 +328,9 @@ abstract class AbstractCodecConfigurer implements CodecConfigurer {
 			result.add(new EncoderHttpMessageWriter<>(new DataBufferEncoder()));
 			result.add(new ResourceHttpMessageWriter());
 			result.add(new EncoderHttpMessageWriter<>(CharSequenceEncoder.textPlainOnly()));
+			if (protobufPresent) {
+				result.add(getProtobufWriter());
+			}
 			return result;
 		}
 
@@ -246,6 +345,9 @@ abstract class AbstractCodecConfigurer implements CodecConfigurer {
 			if (jackson2SmilePresent) {
 				result.add(new EncoderHttpMessageWriter<>(new Jackson2SmileEncoder()));
 			}
+			if (jackson2CborPresent) {
+				result.add(new EncoderHttpMessageWriter<>(new Jackson2CborEncoder()));
+			}
 			if (jaxb2Present) {
 				result.add(new EncoderHttpMessageWriter<>(new Jaxb2XmlEncoder()));
 			}
@@ -81,7 +81,7 @@ public class DefaultClientCodecConfigurer extends AbstractCodecConfigurer implem
 				return Collections.emptyList();
 			}
 			List<HttpMessageReader<?>> result = super.getObjectReaders();
-			result.add(new ServerSentEventHttpMessageReader(getSseDecoder()));
+			result.add(initCodec(new ServerSentEventHttpMessageReader(getSseDecoder())));
 			return result;
 		}
 
@@ -77,7 +77,7 @@ public class DefaultServerCodecConfigurer extends AbstractCodecConfigurer implem
 				return Collections.emptyList();
 			}
 			List<HttpMessageReader<?>> result = super.getTypedReaders();
-			result.add(new FormHttpMessageReader());
+			result.add(initCodec(new FormHttpMessageReader()));
 			if (synchronossMultipartPresent) {
 				SynchronossPartHttpMessageReader partReader = new SynchronossPartHttpMessageReader();
 				result.add(partReader);
@@ -79,6 +79,27 @@ public class Jaxb2XmlDecoder extends AbstractDecoder<Object> {
 	}
 
 
+	/**
+	 * Configure a limit on the number of bytes that can be buffered, which
+	 * applies to each element that gets unmarshalled, including all of its
+	 * content, even if it is the root element of the input.
+	 * @param byteCount the max number of bytes to buffer, or -1 for unlimited
+	 * @since 5.0.3
+	 * @see XmlEventDecoder#setMaxInMemorySize(int)
+	 */
+	public void setMaxInMemorySize(int byteCount) {
+		this.xmlEventDecoder.setMaxInMemorySize(byteCount);
+	}
+
+	/**
+	 * Return the {@link #setMaxInMemorySize configured} byte count limit.
+	 * @since 5.0.3
+	 */
+	public int getMaxInMemorySize() {
+		return this.xmlEventDecoder.getMaxInMemorySize();
+	}
+
+
 	@Override
 	public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		if (super.canDecode(elementType, mimeType)) {
@@ -98,10 +119,8 @@ public class Jaxb2XmlDecoder extends AbstractDecoder<Object> {
 		Class<?> outputClass = elementType.getRawClass();
 		Assert.state(outputClass != null, "Unresolvable output class");
 
-		Flux<XMLEvent> xmlEventFlux = this.xmlEventDecoder.decode(
-				inputStream, ResolvableType.forClass(XMLEvent.class), mimeType, hints);
-
 		QName typeName = toQName(outputClass);
+		Flux<XMLEvent> xmlEventFlux = this.xmlEventDecoder.decode(inputStream, typeName);
 		Flux<List<XMLEvent>> splitEvents = split(xmlEventFlux, typeName);
 
 		return splitEvents.map(events -> unmarshal(events, outputClass));
@@ -22,6 +22,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import javax.xml.namespace.QName;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.XMLEvent;
@@ -39,6 +40,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.AbstractDecoder;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
@@ -85,25 +87,64 @@ public class XmlEventDecoder extends AbstractDecoder<XMLEvent> {
 
 	boolean useAalto = aaltoPresent;
 
+	private int maxInMemorySize = -1;
+
 
 	public XmlEventDecoder() {
 		super(MimeTypeUtils.APPLICATION_XML, MimeTypeUtils.TEXT_XML);
 	}
 
 
+	/**
+	 * Configure a limit on the number of bytes that can be buffered. When
+	 * Aalto is not present, this applies to the entire input which is
+	 * aggregated before parsing. With Aalto's async parser, it applies to the
+	 * bytes consumed for each top-level child element of the root; when used by
+	 * {@link Jaxb2XmlDecoder}, to the bytes consumed for each element that gets
+	 * unmarshalled, which may be the root element itself.
+	 * If the limit is exceeded, decoding fails with a {@link DataBufferLimitException}.
+	 * <p>By default this is set to -1, i.e. unlimited.
+	 * @param byteCount the max number of bytes to buffer, or -1 for unlimited
+	 * @since 5.0.3
+	 */
+	public void setMaxInMemorySize(int byteCount) {
+		this.maxInMemorySize = byteCount;
+	}
+
+	/**
+	 * Return the {@link #setMaxInMemorySize configured} byte count limit.
+	 * @since 5.0.3
+	 */
+	public int getMaxInMemorySize() {
+		return this.maxInMemorySize;
+	}
+
+
 	@Override
-	@SuppressWarnings({"rawtypes", "unchecked"})  // on JDK 9 where XMLEventReader is Iterator<Object>
 	public Flux<XMLEvent> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
+		return decode(inputStream, null);
+	}
+
+	/**
+	 * Decode the given input into XMLEvents, applying the
+	 * {@link #setMaxInMemorySize limit} to each element with the given name,
+	 * and otherwise to each top-level child element of the root.
+	 * @param inputStream the input to decode
+	 * @param elementName the name of the elements that get aggregated
+	 * by the caller, or {@code null} if none
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})  // on JDK 9 where XMLEventReader is Iterator<Object>
+	Flux<XMLEvent> decode(Publisher<DataBuffer> inputStream, @Nullable QName elementName) {
 		Flux<DataBuffer> flux = Flux.from(inputStream);
 		if (useAalto) {
-			AaltoDataBufferToXmlEvent aaltoMapper = new AaltoDataBufferToXmlEvent();
+			AaltoDataBufferToXmlEvent aaltoMapper = new AaltoDataBufferToXmlEvent(this.maxInMemorySize, elementName);
 			return flux.flatMap(aaltoMapper)
 					.doFinally(signalType -> aaltoMapper.endOfInput());
 		}
 		else {
-			Mono<DataBuffer> singleBuffer = flux.reduce(DataBuffer::write);
+			Mono<DataBuffer> singleBuffer = DataBufferUtils.join(flux, this.maxInMemorySize);
 			return singleBuffer.
 					flatMapMany(dataBuffer -> {
 						try {
@@ -134,9 +175,26 @@ public class XmlEventDecoder extends AbstractDecoder<XMLEvent> {
 
 		private final XMLEventAllocator eventAllocator = EventAllocatorImpl.getDefaultInstance();
 
+		private final int maxInMemorySize;
+
+		@Nullable
+		private final QName elementName;
+
+		private int byteCount;
+
+		private int elementDepth;
+
+		private int barrier = Integer.MAX_VALUE;
+
+		public AaltoDataBufferToXmlEvent(int maxInMemorySize, @Nullable QName elementName) {
+			this.maxInMemorySize = maxInMemorySize;
+			this.elementName = elementName;
+		}
+
 		@Override
 		public Publisher<? extends XMLEvent> apply(DataBuffer dataBuffer) {
 			try {
+				increaseByteCount(dataBuffer);
 				streamReader.getInputFeeder().feedInput(dataBuffer.asByteBuffer());
 				List<XMLEvent> events = new ArrayList<>();
 				while (true) {
@@ -150,6 +208,7 @@ public class XmlEventDecoder extends AbstractDecoder<XMLEvent> {
 						if (event.isEndDocument()) {
 							break;
 						}
+						checkDepthAndResetByteCount(event);
 					}
 				}
 				return Flux.fromIterable(events);
@@ -157,11 +216,51 @@ public class XmlEventDecoder extends AbstractDecoder<XMLEvent> {
 			catch (XMLStreamException ex) {
 				return Mono.error(ex);
 			}
+			catch (DataBufferLimitException ex) {
+				return Mono.error(ex);
+			}
 			finally {
 				DataBufferUtils.release(dataBuffer);
 			}
 		}
 
+		private void increaseByteCount(DataBuffer dataBuffer) {
+			if (this.maxInMemorySize < 0) {
+				return;
+			}
+			if (dataBuffer.readableByteCount() > Integer.MAX_VALUE - this.byteCount) {
+				raiseLimitException();
+			}
+			this.byteCount += dataBuffer.readableByteCount();
+			if (this.byteCount > this.maxInMemorySize) {
+				raiseLimitException();
+			}
+		}
+
+		private void checkDepthAndResetByteCount(XMLEvent event) {
+			if (event.isStartElement()) {
+				if (this.barrier == Integer.MAX_VALUE && this.elementName != null &&
+						this.elementName.equals(event.asStartElement().getName())) {
+					this.barrier = this.elementDepth;
+				}
+				this.elementDepth++;
+			}
+			else if (event.isEndElement()) {
+				this.elementDepth--;
+				// Keep counting for an element with the given name up to its end, even if it is the root
+				if (this.elementDepth == this.barrier ||
+						(this.barrier == Integer.MAX_VALUE && this.elementDepth <= 1)) {
+					this.barrier = Integer.MAX_VALUE;
+					this.byteCount = 0;
+				}
+			}
+		}
+
+		private void raiseLimitException() {
+			throw new DataBufferLimitException(
+					"Exceeded limit on max bytes per XML element: " + this.maxInMemorySize);
+		}
+
 		public void endOfInput() {
 			this.streamReader.getInputFeeder().endOfInput();
 		}
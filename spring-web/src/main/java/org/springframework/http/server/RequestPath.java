@@ -60,4 +60,13 @@ public interface RequestPath extends PathContainer {
 		return new DefaultRequestPath(uri, contextPath);
 	}
 
+	/**
+	 * Create a new {@code RequestPath} from the given raw (encoded) path,
+	 * e.g. as obtained from {@code HttpServletRequest#getRequestURI()}.
+	 * @since 5.0.3
+	 */
+	static RequestPath parse(String rawPath, @Nullable String contextPath) {
+		return new DefaultRequestPath(rawPath, contextPath);
+	}
+
 }
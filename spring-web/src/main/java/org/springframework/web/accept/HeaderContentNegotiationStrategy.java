@@ -16,25 +16,39 @@
 
 package org.springframework.web.accept;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.context.request.NativeWebRequest;
 
 /**
  * A {@code ContentNegotiationStrategy} that checks the 'Accept' request header.
  *
+ * <p>Parsed and sorted media types are cached by raw header value, since
+ * the number of distinct 'Accept' headers seen by an application is
+ * typically small. The cache is cleared once it exceeds its limit.
+ *
  * @author Rossen Stoyanchev
  * @author Juergen Hoeller
  * @since 3.2
  */
 public class HeaderContentNegotiationStrategy implements ContentNegotiationStrategy {
 
+	private static final int CACHE_LIMIT = 256;
+
+
+	private final Map<String, List<MediaType>> mediaTypesCache = new ConcurrentHashMap<>(64);
+
+
 	/**
 	 * {@inheritDoc}
 	 * @throws HttpMediaTypeNotAcceptableException if the 'Accept' header cannot be parsed
@@ -48,10 +62,20 @@ public class HeaderContentNegotiationStrategy implements ContentNegotiationStrat
 			return Collections.emptyList();
 		}
 
+		String cacheKey = StringUtils.arrayToDelimitedString(headerValueArray, ", ");
+		List<MediaType> cached = this.mediaTypesCache.get(cacheKey);
+		if (cached != null) {
+			return new ArrayList<>(cached);
+		}
+
 		List<String> headerValues = Arrays.asList(headerValueArray);
 		try {
 			List<MediaType> mediaTypes = MediaType.parseMediaTypes(headerValues);
 			MediaType.sortBySpecificityAndQuality(mediaTypes);
+			if (this.mediaTypesCache.size() >= CACHE_LIMIT) {
+				this.mediaTypesCache.clear();
+			}
+			this.mediaTypesCache.put(cacheKey, new ArrayList<>(mediaTypes));
 			return mediaTypes;
 		}
 		catch (InvalidMediaTypeException ex) {
@@ -19,13 +19,18 @@ package org.springframework.web.cors;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.servlet.http.HttpServletRequest;
 
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.Assert;
 import org.springframework.util.PathMatcher;
+import org.springframework.web.util.ServletRequestPathUtils;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Provide a per request {@link CorsConfiguration} instance based on a
@@ -45,6 +50,11 @@ public class UrlBasedCorsConfigurationSource implements CorsConfigurationSource
 
 	private UrlPathHelper urlPathHelper = new UrlPathHelper();
 
+	@Nullable
+	private PathPatternParser patternParser;
+
+	private final Map<String, PathPattern> pathPatternCache = new ConcurrentHashMap<>();
+
 
 	/**
 	 * Set the PathMatcher implementation to use for matching URL paths
@@ -89,6 +99,28 @@ public class UrlBasedCorsConfigurationSource implements CorsConfigurationSource
 		this.urlPathHelper = urlPathHelper;
 	}
 
+	/**
+	 * Set a {@link PathPatternParser} to match the request path, parsed once and
+	 * cached via {@link ServletRequestPathUtils#parseAndCache}, against parsed
+	 * {@link PathPattern PathPatterns} instead of using the configured
+	 * {@link #setPathMatcher PathMatcher} and {@link #setUrlPathHelper UrlPathHelper}.
+	 * <p>By default this is not set.
+	 * @since 5.0.3
+	 */
+	public void setPatternParser(@Nullable PathPatternParser patternParser) {
+		this.patternParser = patternParser;
+		this.pathPatternCache.clear();
+	}
+
+	/**
+	 * Return the configured {@link PathPatternParser}, if any.
+	 * @since 5.0.3
+	 */
+	@Nullable
+	public PathPatternParser getPatternParser() {
+		return this.patternParser;
+	}
+
 	/**
 	 * Set CORS configuration based on URL patterns.
 	 */
@@ -117,6 +149,17 @@ public class UrlBasedCorsConfigurationSource implements CorsConfigurationSource
 	@Override
 	@Nullable
 	public CorsConfiguration getCorsConfiguration(HttpServletRequest request) {
+		PathPatternParser parser = this.patternParser;
+		if (parser != null) {
+			PathContainer path = ServletRequestPathUtils.parseAndCache(request).pathWithinApplication();
+			for (Map.Entry<String, CorsConfiguration> entry : this.corsConfigurations.entrySet()) {
+				PathPattern pattern = this.pathPatternCache.computeIfAbsent(entry.getKey(), parser::parse);
+				if (pattern.matches(path)) {
+					return entry.getValue();
+				}
+			}
+			return null;
+		}
 		String lookupPath = this.urlPathHelper.getLookupPathForRequest(request);
 		for (Map.Entry<String, CorsConfiguration> entry : this.corsConfigurations.entrySet()) {
 			if (this.pathMatcher.match(entry.getKey(), lookupPath)) {
@@ -18,17 +18,30 @@ package org.springframework.web.filter;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.ServletOutputStream;
 import javax.servlet.ServletRequest;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.DigestUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.util.ContentCachingResponseWrapper;
 import org.springframework.web.util.WebUtils;
 
@@ -42,6 +55,14 @@ import org.springframework.web.util.WebUtils;
  * (e.g. a {@link org.springframework.web.servlet.View}) is still rendered.
  * As such, this filter only saves bandwidth, not server performance.
  *
+ * <p>By default the complete response body is buffered in order to compute the
+ * ETag. For large responses, a {@link #setStreamingThreshold streaming threshold}
+ * can be configured: once the body exceeds it, the buffered content is written
+ * out and the remainder is streamed straight to the client, without an ETag
+ * or, on Servlet 4.0 containers, with the ETag sent as an HTTP trailer
+ * (see {@link #setWriteETagTrailer}). Responses below the threshold keep the
+ * {@code If-None-Match} / {@code 304 "Not Modified"} behavior.
+ *
  * <p><b>NOTE:</b> As of Spring Framework 5.0, this filter uses request/response
  * decorators built on the Servlet 3.1 API.
  *
@@ -59,13 +80,31 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 
 	private static final String HEADER_CACHE_CONTROL = "Cache-Control";
 
+	private static final String HEADER_TRAILER = "Trailer";
+
+	private static final String HEADER_CONTENT_LENGTH = "Content-Length";
+
 	private static final String DIRECTIVE_NO_STORE = "no-store";
 
 	private static final String STREAMING_ATTRIBUTE = ShallowEtagHeaderFilter.class.getName() + ".STREAMING";
 
+	private static final String MD5_ALGORITHM_NAME = "MD5";
+
+	private static final char[] HEX_CHARS =
+			{'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+	// Servlet 4.0 HttpServletResponse#setTrailerFields(Supplier)
+	@Nullable
+	private static final Method setTrailerFieldsMethod =
+			ClassUtils.getMethodIfAvailable(HttpServletResponse.class, "setTrailerFields", Supplier.class);
+
 
 	private boolean writeWeakETag = false;
 
+	private int streamingThreshold = -1;
+
+	private boolean writeETagTrailer = false;
+
 
 	/**
 	 * Set whether the ETag value written to the response should be weak, as per RFC 7232.
@@ -86,6 +125,51 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 		return this.writeWeakETag;
 	}
 
+	/**
+	 * Set the number of response body bytes to buffer for ETag generation,
+	 * beyond which the response is streamed directly to the client instead.
+	 * <p>This bounds the memory used per response and lets large responses
+	 * start being sent before the body has been fully generated. Streamed
+	 * responses do not get an {@code ETag} header and never result in a
+	 * {@code 304 "Not Modified"} status, unless {@link #setWriteETagTrailer}
+	 * is enabled and supported by the container.
+	 * <p>By default this is set to -1, i.e. the entire response is buffered.
+	 * @since 5.0.3
+	 */
+	public void setStreamingThreshold(int streamingThreshold) {
+		this.streamingThreshold = streamingThreshold;
+	}
+
+	/**
+	 * Return the configured streaming threshold, or -1 if not set.
+	 * @since 5.0.3
+	 */
+	public int getStreamingThreshold() {
+		return this.streamingThreshold;
+	}
+
+	/**
+	 * Set whether responses exceeding the {@link #setStreamingThreshold streaming
+	 * threshold} should have their ETag computed incrementally while streaming
+	 * and sent as an HTTP trailer field.
+	 * <p>Requires a Servlet 4.0 container and a chunked response; on older
+	 * containers, or if a {@code Content-Length} has been set, streamed
+	 * responses are sent without an ETag.
+	 * Default is "false".
+	 * @since 5.0.3
+	 */
+	public void setWriteETagTrailer(boolean writeETagTrailer) {
+		this.writeETagTrailer = writeETagTrailer;
+	}
+
+	/**
+	 * Return whether the ETag of streamed responses is sent as an HTTP trailer.
+	 * @since 5.0.3
+	 */
+	public boolean isWriteETagTrailer() {
+		return this.writeETagTrailer;
+	}
+
 
 	/**
 	 * The default value is {@code false} so that the filter may delay the generation
@@ -102,7 +186,9 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 
 		HttpServletResponse responseToUse = response;
 		if (!isAsyncDispatch(request) && !(response instanceof ContentCachingResponseWrapper)) {
-			responseToUse = new HttpStreamingAwareContentCachingResponseWrapper(response, request);
+			responseToUse = new HttpStreamingAwareContentCachingResponseWrapper(response, request,
+					this.streamingThreshold, this.writeETagTrailer,
+					this.writeWeakETag);
 		}
 
 		filterChain.doFilter(request, responseToUse);
@@ -119,7 +205,7 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 		HttpServletResponse rawResponse = (HttpServletResponse) responseWrapper.getResponse();
 		int statusCode = responseWrapper.getStatusCode();
 
-		if (rawResponse.isCommitted()) {
+		if (rawResponse.isCommitted() || isStreaming(responseWrapper)) {
 			responseWrapper.copyBodyToResponse();
 		}
 		else if (isEligibleForEtag(request, responseWrapper, statusCode, responseWrapper.getContentInputStream())) {
@@ -217,29 +303,284 @@ public class ShallowEtagHeaderFilter extends OncePerRequestFilter {
 		return (request.getAttribute(STREAMING_ATTRIBUTE) != null);
 	}
 
+	private static boolean isStreaming(ContentCachingResponseWrapper responseWrapper) {
+		return (responseWrapper instanceof HttpStreamingAwareContentCachingResponseWrapper &&
+				((HttpStreamingAwareContentCachingResponseWrapper) responseWrapper).isStreaming());
+	}
+
+	private static String formatETag(byte[] digest, boolean isWeak) {
+		StringBuilder builder = new StringBuilder(37);
+		if (isWeak) {
+			builder.append("W/");
+		}
+		builder.append("\"0");
+		for (byte b : digest) {
+			builder.append(HEX_CHARS[(b & 0xF0) >>> 4]);
+			builder.append(HEX_CHARS[b & 0x0F]);
+		}
+		builder.append('"');
+		return builder.toString();
+	}
+
 
 	private static class HttpStreamingAwareContentCachingResponseWrapper extends ContentCachingResponseWrapper {
 
 		private final HttpServletRequest request;
 
-		public HttpStreamingAwareContentCachingResponseWrapper(HttpServletResponse response, HttpServletRequest request) {
+		private final int streamingThreshold;
+
+		private final boolean writeETagTrailer;
+
+		private final boolean writeWeakETag;
+
+		@Nullable
+		private ServletOutputStream thresholdOutputStream;
+
+		@Nullable
+		private PrintWriter thresholdWriter;
+
+		@Nullable
+		private MessageDigest digest;
+
+		private boolean streaming;
+
+		@Nullable
+		private Integer contentLength;
+
+		public HttpStreamingAwareContentCachingResponseWrapper(HttpServletResponse response, HttpServletRequest request,
+				int streamingThreshold, boolean writeETagTrailer, boolean writeWeakETag) {
+
 			super(response);
 			this.request = request;
+			this.streamingThreshold = streamingThreshold;
+			this.writeETagTrailer = writeETagTrailer;
+			this.writeWeakETag = writeWeakETag;
+		}
+
+		@Override
+		public void setContentLength(int len) {
+			super.setContentLength(len);
+			this.contentLength = len;
+		}
+
+		@Override
+		public void setContentLengthLong(long len) {
+			super.setContentLengthLong(len);
+			this.contentLength = (int) len;
+		}
+
+		@Override
+		public void reset() {
+			super.reset();
+			this.contentLength = null;
 		}
 
 		@Override
 		public ServletOutputStream getOutputStream() throws IOException {
-			return (useRawResponse() ? getResponse().getOutputStream() : super.getOutputStream());
+			if (useRawResponse()) {
+				return getResponse().getOutputStream();
+			}
+			if (this.streamingThreshold < 0) {
+				return super.getOutputStream();
+			}
+			if (this.thresholdOutputStream == null) {
+				this.thresholdOutputStream = new ThresholdServletOutputStream(super.getOutputStream());
+			}
+			return this.thresholdOutputStream;
 		}
 
 		@Override
 		public PrintWriter getWriter() throws IOException {
-			return (useRawResponse() ? getResponse().getWriter() : super.getWriter());
+			if (useRawResponse()) {
+				return getResponse().getWriter();
+			}
+			if (this.streamingThreshold < 0) {
+				return super.getWriter();
+			}
+			if (this.thresholdWriter == null) {
+				String characterEncoding = getCharacterEncoding();
+				this.thresholdWriter = new ThresholdPrintWriter(getOutputStream(),
+						(characterEncoding != null ? characterEncoding : WebUtils.DEFAULT_CHARACTER_ENCODING));
+			}
+			return this.thresholdWriter;
 		}
 
 		private boolean useRawResponse() {
 			return isContentCachingDisabled(this.request);
 		}
+
+		public boolean isStreaming() {
+			return this.streaming;
+		}
+
+		private void startStreaming() throws IOException {
+			HttpServletResponse rawResponse = (HttpServletResponse) getResponse();
+			Method setTrailerFields = (this.writeETagTrailer ? getSetTrailerFieldsMethod(rawResponse) : null);
+			if (setTrailerFields != null && !rawResponse.isCommitted() && isEligibleForTrailer(rawResponse)) {
+				MessageDigest digest = createDigest();
+				InputStream content = getContentInputStream();
+				byte[] buffer = new byte[StreamUtils.BUFFER_SIZE];
+				int bytesRead;
+				while ((bytesRead = content.read(buffer)) != -1) {
+					digest.update(buffer, 0, bytesRead);
+				}
+				Supplier<Map<String, String>> trailerFields =
+						() -> Collections.singletonMap(HEADER_ETAG, formatETag(digest.digest(), this.writeWeakETag));
+				rawResponse.setHeader(HEADER_TRAILER, HEADER_ETAG);
+				ReflectionUtils.invokeMethod(setTrailerFields, rawResponse, trailerFields);
+				this.digest = digest;
+			}
+			if (this.contentLength != null && !rawResponse.isCommitted()) {
+				// Not propagated by copyBodyToResponse if nothing has been buffered yet
+				rawResponse.setContentLength(this.contentLength);
+			}
+			copyBodyToResponse(false);
+			this.streaming = true;
+		}
+
+		@Nullable
+		private Method getSetTrailerFieldsMethod(HttpServletResponse rawResponse) {
+			return (setTrailerFieldsMethod != null ? setTrailerFieldsMethod :
+					ClassUtils.getMethodIfAvailable(rawResponse.getClass(), "setTrailerFields", Supplier.class));
+		}
+
+		private boolean isEligibleForTrailer(HttpServletResponse rawResponse) {
+			// Trailers require a chunked response, i.e. no Content-Length
+			if (this.contentLength != null || rawResponse.containsHeader(HEADER_CONTENT_LENGTH)) {
+				return false;
+			}
+			int statusCode = getStatusCode();
+			return (statusCode >= 200 && statusCode < 300 && HttpMethod.GET.matches(this.request.getMethod()));
+		}
+
+		private MessageDigest createDigest() {
+			try {
+				return MessageDigest.getInstance(MD5_ALGORITHM_NAME);
+			}
+			catch (NoSuchAlgorithmException ex) {
+				throw new IllegalStateException("Could not find MessageDigest with algorithm \"" +
+						MD5_ALGORITHM_NAME + "\"", ex);
+			}
+		}
+
+
+		private class ThresholdServletOutputStream extends ServletOutputStream {
+
+			private final ServletOutputStream cachingStream;
+
+			public ThresholdServletOutputStream(ServletOutputStream cachingStream) {
+				this.cachingStream = cachingStream;
+			}
+
+			@Override
+			public void write(int b) throws IOException {
+				if (!streaming && getContentSize() + 1 > streamingThreshold) {
+					startStreaming();
+				}
+				if (streaming) {
+					if (digest != null) {
+						digest.update((byte) b);
+					}
+					getResponse().getOutputStream().write(b);
+				}
+				else {
+					this.cachingStream.write(b);
+				}
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				if (!streaming && getContentSize() + len > streamingThreshold) {
+					startStreaming();
+				}
+				if (streaming) {
+					if (digest != null) {
+						digest.update(b, off, len);
+					}
+					getResponse().getOutputStream().write(b, off, len);
+				}
+				else {
+					this.cachingStream.write(b, off, len);
+				}
+			}
+
+			@Override
+			public void flush() throws IOException {
+				if (streaming) {
+					getResponse().getOutputStream().flush();
+				}
+			}
+
+			@Override
+			public boolean isReady() {
+				if (streaming) {
+					try {
+						return getResponse().getOutputStream().isReady();
+					}
+					catch (IOException ex) {
+						return false;
+					}
+				}
+				return this.cachingStream.isReady();
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+				this.cachingStream.setWriteListener(writeListener);
+			}
+		}
+
+
+		private static class ThresholdPrintWriter extends PrintWriter {
+
+			private final ServletOutputStream outputStream;
+
+			public ThresholdPrintWriter(ServletOutputStream outputStream, String characterEncoding)
+					throws IOException {
+
+				// Encode eagerly on every write but only flush the target stream on explicit flush()
+				super(new OutputStreamWriter(new OutputStream() {
+					@Override
+					public void write(int b) throws IOException {
+						outputStream.write(b);
+					}
+					@Override
+					public void write(byte[] b, int off, int len) throws IOException {
+						outputStream.write(b, off, len);
+					}
+				}, characterEncoding));
+				this.outputStream = outputStream;
+			}
+
+			@Override
+			public void write(char[] buf, int off, int len) {
+				super.write(buf, off, len);
+				super.flush();
+			}
+
+			@Override
+			public void write(String s, int off, int len) {
+				super.write(s, off, len);
+				super.flush();
+			}
+
+			@Override
+			public void write(int c) {
+				super.write(c);
+				super.flush();
+			}
+
+			@Override
+			public void flush() {
+				super.flush();
+				try {
+					this.outputStream.flush();
+				}
+				catch (IOException ex) {
+					setError();
+				}
+			}
+		}
 	}
 
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.web.method.support;
 
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -47,6 +48,9 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 	private final Map<MethodParameter, HandlerMethodArgumentResolver> argumentResolverCache =
 			new ConcurrentHashMap<>(256);
 
+	private final Map<Method, HandlerMethodArgumentResolver[]> methodArgumentResolverCache =
+			new ConcurrentHashMap<>(64);
+
 
 	/**
 	 * Add the given {@link HandlerMethodArgumentResolver}.
@@ -96,6 +100,7 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 	 */
 	public void clear() {
 		this.argumentResolvers.clear();
+		this.methodArgumentResolverCache.clear();
 	}
 
 
@@ -124,6 +129,35 @@ public class HandlerMethodArgumentResolverComposite implements HandlerMethodArgu
 		return resolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
 	}
 
+	/**
+	 * Find the registered {@link HandlerMethodArgumentResolver}s for all parameters of
+	 * the given method at once, for repeated invocations of the same handler method.
+	 * <p>The returned array is shared and must not be modified. An element is
+	 * {@code null} if no resolver supports the corresponding parameter, in which
+	 * case the resolvers are looked up again on the next call.
+	 * @param method the method to find the resolvers for
+	 * @param parameters the parameters of the method
+	 * @return the resolvers, indexed like the given parameters
+	 * @since 5.0.3
+	 */
+	HandlerMethodArgumentResolver[] getArgumentResolvers(Method method, MethodParameter[] parameters) {
+		HandlerMethodArgumentResolver[] result = this.methodArgumentResolverCache.get(method);
+		if (result == null) {
+			result = new HandlerMethodArgumentResolver[parameters.length];
+			boolean complete = true;
+			for (int i = 0; i < parameters.length; i++) {
+				result[i] = getArgumentResolver(parameters[i]);
+				if (result[i] == null) {
+					complete = false;
+				}
+			}
+			if (complete) {
+				this.methodArgumentResolverCache.put(method, result);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Find a registered {@link HandlerMethodArgumentResolver} that supports the given method parameter.
 	 */
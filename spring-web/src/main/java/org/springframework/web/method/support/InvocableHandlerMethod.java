@@ -16,15 +16,22 @@
 
 package org.springframework.web.method.support;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Map;
 
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.SpringProperties;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.support.SessionStatus;
@@ -48,6 +55,23 @@ import org.springframework.web.method.HandlerMethod;
  */
 public class InvocableHandlerMethod extends HandlerMethod {
 
+	/**
+	 * System property that instructs Spring to invoke handler methods through
+	 * a {@link MethodHandle} per method instead of reflective
+	 * {@link Method#invoke} calls: "spring.handlermethod.methodhandle".
+	 * <p>The default is "false", as reflective invocation is commonly just as
+	 * fast once the JVM has generated its accessor for a frequently invoked method.
+	 * Consider switching this flag to "true" for many thin handler methods.
+	 * @since 5.0.3
+	 */
+	public static final String METHOD_HANDLE_INVOCATION_PROPERTY_NAME = "spring.handlermethod.methodhandle";
+
+	private static final boolean shouldUseMethodHandles =
+			SpringProperties.getFlag(METHOD_HANDLE_INVOCATION_PROPERTY_NAME);
+
+	private static final Map<Method, MethodHandle> methodHandleCache = new ConcurrentReferenceHashMap<>(256);
+
+
 	@Nullable
 	private WebDataBinderFactory dataBinderFactory;
 
@@ -148,6 +172,7 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			Object... providedArgs) throws Exception {
 
 		MethodParameter[] parameters = getMethodParameters();
+		HandlerMethodArgumentResolver[] resolvers = getArgumentResolvers(parameters);
 		Object[] args = new Object[parameters.length];
 		for (int i = 0; i < parameters.length; i++) {
 			MethodParameter parameter = parameters[i];
@@ -156,10 +181,11 @@ public class InvocableHandlerMethod extends HandlerMethod {
 			if (args[i] != null) {
 				continue;
 			}
-			if (this.argumentResolvers.supportsParameter(parameter)) {
+			HandlerMethodArgumentResolver resolver = (resolvers != null ? resolvers[i] :
+					(this.argumentResolvers.supportsParameter(parameter) ? this.argumentResolvers : null));
+			if (resolver != null) {
 				try {
-					args[i] = this.argumentResolvers.resolveArgument(
-							parameter, mavContainer, request, this.dataBinderFactory);
+					args[i] = resolver.resolveArgument(parameter, mavContainer, request, this.dataBinderFactory);
 					continue;
 				}
 				catch (Exception ex) {
@@ -178,6 +204,19 @@ public class InvocableHandlerMethod extends HandlerMethod {
 		return args;
 	}
 
+	/**
+	 * Obtain the argument resolvers for all parameters of this handler method from
+	 * the composite, bypassing per-parameter lookups, unless the composite is a
+	 * custom subclass which might intercept {@code resolveArgument} calls.
+	 */
+	@Nullable
+	private HandlerMethodArgumentResolver[] getArgumentResolvers(MethodParameter[] parameters) {
+		if (this.argumentResolvers.getClass() != HandlerMethodArgumentResolverComposite.class) {
+			return null;
+		}
+		return this.argumentResolvers.getArgumentResolvers(getMethod(), parameters);
+	}
+
 	private String getArgumentResolutionErrorMessage(String text, int index) {
 		Class<?> paramType = getMethodParameters()[index].getParameterType();
 		return text + " argument " + index + " of type '" + paramType.getName() + "'";
@@ -188,7 +227,7 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	 */
 	@Nullable
 	private Object resolveProvidedArgument(MethodParameter parameter, @Nullable Object... providedArgs) {
-		if (providedArgs == null) {
+		if (ObjectUtils.isEmpty(providedArgs)) {
 			return null;
 		}
 		for (Object providedArg : providedArgs) {
@@ -204,6 +243,9 @@ public class InvocableHandlerMethod extends HandlerMethod {
 	 * Invoke the handler method with the given argument values.
 	 */
 	protected Object doInvoke(Object... args) throws Exception {
+		if (shouldUseMethodHandles) {
+			return doInvokeMethodHandle(args);
+		}
 		ReflectionUtils.makeAccessible(getBridgedMethod());
 		try {
 			return getBridgedMethod().invoke(getBean(), args);
@@ -232,6 +274,59 @@ public class InvocableHandlerMethod extends HandlerMethod {
 		}
 	}
 
+	/**
+	 * Invoke the handler method through a cached {@link MethodHandle} that takes
+	 * the bean and the argument array, with the same exception handling as
+	 * reflective invocation.
+	 */
+	private Object doInvokeMethodHandle(Object[] args) throws Exception {
+		Method method = getBridgedMethod();
+		MethodHandle methodHandle = methodHandleCache.get(method);
+		if (methodHandle == null) {
+			methodHandle = createMethodHandle(method);
+			methodHandleCache.put(method, methodHandle);
+		}
+		try {
+			return (Object) methodHandle.invokeExact(getBean(), args);
+		}
+		catch (ClassCastException | NullPointerException ex) {
+			// Not necessarily thrown by the handler method itself: check bean and arguments
+			assertTargetBean(method, getBean(), args);
+			Class<?>[] paramTypes = method.getParameterTypes();
+			for (int i = 0; i < paramTypes.length; i++) {
+				if (!ClassUtils.isAssignableValue(paramTypes[i], args[i])) {
+					throw new IllegalStateException(getInvocationErrorMessage("argument type mismatch", args), ex);
+				}
+			}
+			throw ex;
+		}
+		catch (Exception | Error ex) {
+			throw ex;
+		}
+		catch (Throwable ex) {
+			String text = getInvocationErrorMessage("Failed to invoke handler method", args);
+			throw new IllegalStateException(text, ex);
+		}
+	}
+
+	/**
+	 * Create a {@link MethodHandle} of type {@code (Object, Object[])Object} for
+	 * the given method, boxing primitive return values and returning {@code null}
+	 * for {@code void} methods.
+	 */
+	private static MethodHandle createMethodHandle(Method method) {
+		ReflectionUtils.makeAccessible(method);
+		try {
+			int parameterCount = method.getParameterCount();
+			return MethodHandles.lookup().unreflect(method)
+					.asType(MethodType.genericMethodType(parameterCount + 1))
+					.asSpreader(Object[].class, parameterCount);
+		}
+		catch (IllegalAccessException ex) {
+			throw new IllegalStateException("Failed to create MethodHandle for handler method [" + method + "]", ex);
+		}
+	}
+
 	/**
 	 * Assert that the target bean class is an instance of the class where the given
 	 * method is declared. In some cases the actual controller instance at request-
@@ -137,9 +137,7 @@ public class ContentCachingResponseWrapper extends HttpServletResponseWrapper {
 
 	@Override
 	public void setContentLength(int len) {
-		if (len > this.content.size()) {
-			this.content.resize(len);
-		}
+		preallocate(len);
 		this.contentLength = len;
 	}
 
@@ -150,16 +148,24 @@ public class ContentCachingResponseWrapper extends HttpServletResponseWrapper {
 					Integer.MAX_VALUE + "): " + len);
 		}
 		int lenInt = (int) len;
-		if (lenInt > this.content.size()) {
-			this.content.resize(lenInt);
-		}
+		preallocate(lenInt);
 		this.contentLength = lenInt;
 	}
 
 	@Override
 	public void setBufferSize(int size) {
-		if (size > this.content.size()) {
-			this.content.resize(size);
+		preallocate(size);
+	}
+
+	/**
+	 * Size the first block of the cached content for the given capacity hint.
+	 * <p>Content that has already been written is left in its current blocks:
+	 * consolidating it into a single array would copy the entire body once more,
+	 * while subsequent writes simply continue in additional blocks.
+	 */
+	private void preallocate(int capacity) {
+		if (this.content.size() == 0 && capacity > 0) {
+			this.content.resize(capacity);
 		}
 	}
 
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.http.server.RequestPath;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Utility methods for parsing the path of a Servlet request once into a
+ * {@link RequestPath} and caching it as a request attribute, for further
+ * matching against parsed {@link org.springframework.web.util.pattern.PathPattern
+ * PathPatterns} by handler mappings, interceptors and CORS configuration sources.
+ *
+ * <p>The {@link RequestPath#contextPath() context path} of the parsed path covers
+ * the Servlet context path and, for prefix-mapped Servlets (e.g. "/app/*"), the
+ * Servlet path as well, so that {@link RequestPath#pathWithinApplication()} is
+ * the path to match, analogous to the default lookup path of {@link UrlPathHelper}.
+ *
+ * @author agent
+ * @since 5.0.3
+ * @see org.springframework.web.util.pattern.PathPatternParser
+ */
+public abstract class ServletRequestPathUtils {
+
+	/**
+	 * Name of the request attribute that holds the parsed {@link RequestPath}.
+	 */
+	public static final String PATH_ATTRIBUTE = ServletRequestPathUtils.class.getName() + ".PATH";
+
+
+	/**
+	 * Return the parsed {@link RequestPath} for the given request, parsing it and
+	 * caching it in the {@link #PATH_ATTRIBUTE} request attribute unless a
+	 * previously cached path still corresponds to the current request URI
+	 * (which is not the case after a forward or within an include).
+	 * @param request the current request
+	 * @return the parsed request path
+	 */
+	public static RequestPath parseAndCache(HttpServletRequest request) {
+		String requestUri = (String) request.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE);
+		if (requestUri == null) {
+			requestUri = request.getRequestURI();
+		}
+		RequestPath requestPath = getParsedRequestPath(request);
+		if (requestPath == null || !requestPath.value().equals(requestUri)) {
+			requestPath = RequestPath.parse(requestUri, getApplicationPath(request, requestUri));
+			request.setAttribute(PATH_ATTRIBUTE, requestPath);
+		}
+		return requestPath;
+	}
+
+	/**
+	 * Return a previously {@link #parseAndCache parsed} request path, if any.
+	 * @param request the current request
+	 * @return the cached request path, or {@code null} if none
+	 */
+	@Nullable
+	public static RequestPath getParsedRequestPath(ServletRequest request) {
+		Object path = request.getAttribute(PATH_ATTRIBUTE);
+		return (path instanceof RequestPath ? (RequestPath) path : null);
+	}
+
+	/**
+	 * Check for a previously {@link #parseAndCache parsed} request path.
+	 * @param request the current request
+	 */
+	public static boolean hasParsedRequestPath(ServletRequest request) {
+		return (request.getAttribute(PATH_ATTRIBUTE) instanceof RequestPath);
+	}
+
+	/**
+	 * Remove the cached request path, if any.
+	 * @param request the current request
+	 */
+	public static void clearParsedRequestPath(ServletRequest request) {
+		request.removeAttribute(PATH_ATTRIBUTE);
+	}
+
+
+	/**
+	 * Determine the leading part of the (encoded) request URI that is not subject
+	 * to path matching: the context path plus the Servlet path of a Servlet that is
+	 * mapped by prefix, i.e. with a non-null path info.
+	 */
+	@Nullable
+	private static String getApplicationPath(HttpServletRequest request, String requestUri) {
+		boolean include = (request.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE) != null);
+		String contextPath = (include ?
+				(String) request.getAttribute(WebUtils.INCLUDE_CONTEXT_PATH_ATTRIBUTE) : request.getContextPath());
+		String servletPath = (include ?
+				(String) request.getAttribute(WebUtils.INCLUDE_SERVLET_PATH_ATTRIBUTE) : request.getServletPath());
+		String pathInfo = (include ?
+				(String) request.getAttribute(WebUtils.INCLUDE_PATH_INFO_ATTRIBUTE) : request.getPathInfo());
+
+		String applicationPath = (StringUtils.hasLength(contextPath) && requestUri.startsWith(contextPath) ?
+				contextPath : "");
+		if (pathInfo != null && StringUtils.hasLength(servletPath) && !"/".equals(servletPath) &&
+				requestUri.startsWith(applicationPath + servletPath)) {
+			applicationPath = applicationPath + servletPath;
+		}
+		return (StringUtils.hasLength(applicationPath) ? applicationPath : null);
+	}
+
+}
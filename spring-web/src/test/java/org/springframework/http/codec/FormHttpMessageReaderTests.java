@@ -22,6 +22,7 @@ import java.util.Map;
 import org.junit.Test;
 
 import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
@@ -96,6 +97,13 @@ public class FormHttpMessageReaderTests {
 		assertNull("Invalid result", result.getFirst("name 3"));
 	}
 
+	@Test(expected = DataBufferLimitException.class)
+	public void readFormExceedingLimit() {
+		String body = "name+1=value+1&name+2=value+2%2B1&name+2=value+2%2B2&name+3";
+		this.reader.setMaxInMemorySize(10);
+		this.reader.readMono(null, request(body), null).block();
+	}
+
 
 	private MockServerHttpRequest request(String body) {
 		return MockServerHttpRequest
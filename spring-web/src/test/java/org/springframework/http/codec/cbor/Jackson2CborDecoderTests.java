@@ -0,0 +1,142 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.cbor;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.codec.Pojo;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.core.ResolvableType.forClass;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Unit tests for {@link Jackson2CborDecoder}.
+ *
+ * @author agent
+ */
+public class Jackson2CborDecoderTests extends AbstractDataBufferAllocatingTestCase {
+
+	private static final MimeType CBOR_MIME_TYPE = new MimeType("application", "cbor");
+
+	private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.cbor().build();
+
+	private final Jackson2CborDecoder decoder = new Jackson2CborDecoder();
+
+
+	@Test
+	public void canDecode() {
+		assertTrue(this.decoder.canDecode(forClass(Pojo.class), CBOR_MIME_TYPE));
+		assertTrue(this.decoder.canDecode(forClass(Pojo.class), null));
+
+		assertFalse(this.decoder.canDecode(forClass(String.class), null));
+		assertFalse(this.decoder.canDecode(forClass(Pojo.class), APPLICATION_JSON));
+	}
+
+	@Test
+	public void decodeToMono() throws Exception {
+		Pojo pojo = new Pojo("foo", "bar");
+		byte[] serializedPojo = this.mapper.writer().writeValueAsBytes(pojo);
+		Flux<DataBuffer> source = Flux.just(serializedPojo).map(this::dataBuffer);
+
+		Mono<Object> mono = this.decoder.decodeToMono(source, forClass(Pojo.class), null, emptyMap());
+
+		StepVerifier.create(mono)
+				.expectNext(pojo)
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodeChunksToList() throws Exception {
+		List<Pojo> list = asList(new Pojo("f1", "b1"), new Pojo("f2", "b2"));
+		byte[] serializedList = this.mapper.writer().writeValueAsBytes(list);
+		Flux<DataBuffer> source = Flux.just(serializedList).flatMapIterable(this::split).map(this::dataBuffer);
+
+		ResolvableType elementType = ResolvableType.forClassWithGenerics(List.class, Pojo.class);
+		Mono<Object> mono = this.decoder.decodeToMono(source, elementType, null, emptyMap());
+
+		StepVerifier.create(mono)
+				.expectNext(list)
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodeToFlux() throws Exception {
+		List<Pojo> list = asList(new Pojo("f1", "b1"), new Pojo("f2", "b2"));
+		byte[] serializedList = this.mapper.writer().writeValueAsBytes(list);
+		Flux<DataBuffer> source = Flux.just(serializedList).flatMapIterable(this::split).map(this::dataBuffer);
+
+		Flux<Object> flux = this.decoder.decode(source, forClass(Pojo.class), null, emptyMap());
+
+		StepVerifier.create(flux)
+				.expectNext(new Pojo("f1", "b1"))
+				.expectNext(new Pojo("f2", "b2"))
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodePojoWithError() throws Exception {
+		byte[] serializedValue = this.mapper.writer().writeValueAsBytes(123);
+		Flux<DataBuffer> source = Flux.just(serializedValue).map(this::dataBuffer);
+
+		Mono<Object> mono = this.decoder.decodeToMono(source, forClass(Pojo.class), null, emptyMap());
+
+		StepVerifier.create(mono).verifyError(CodecException.class);
+	}
+
+	@Test
+	public void decodeExceedingLimit() throws Exception {
+		this.decoder.setMaxInMemorySize(10);
+		byte[] serializedPojo = this.mapper.writer().writeValueAsBytes(new Pojo("foofoofoo", "barbarbar"));
+		Flux<DataBuffer> source = Flux.just(serializedPojo).flatMapIterable(this::split).map(this::dataBuffer);
+
+		Mono<Object> mono = this.decoder.decodeToMono(source, forClass(Pojo.class), null, emptyMap());
+
+		StepVerifier.create(mono).verifyError(DataBufferLimitException.class);
+	}
+
+
+	private DataBuffer dataBuffer(byte[] bytes) {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(bytes.length);
+		buffer.write(bytes);
+		return buffer;
+	}
+
+	private List<byte[]> split(byte[] bytes) {
+		int half = bytes.length / 2;
+		return asList(Arrays.copyOfRange(bytes, 0, half),
+				Arrays.copyOfRange(bytes, half, bytes.length));
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.cbor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.support.DataBufferTestUtils;
+import org.springframework.http.codec.Pojo;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.http.MediaType.APPLICATION_XML;
+
+/**
+ * Unit tests for {@link Jackson2CborEncoder}.
+ *
+ * @author agent
+ */
+public class Jackson2CborEncoderTests extends AbstractDataBufferAllocatingTestCase {
+
+	private static final MimeType CBOR_MIME_TYPE = new MimeType("application", "cbor");
+
+	private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.cbor().build();
+
+	private final Jackson2CborEncoder encoder = new Jackson2CborEncoder();
+
+
+	@Test
+	public void canEncode() {
+		ResolvableType pojoType = ResolvableType.forClass(Pojo.class);
+		assertTrue(this.encoder.canEncode(pojoType, CBOR_MIME_TYPE));
+		assertTrue(this.encoder.canEncode(pojoType, null));
+	}
+
+	@Test
+	public void canNotEncode() {
+		assertFalse(this.encoder.canEncode(ResolvableType.forClass(String.class), null));
+		assertFalse(this.encoder.canEncode(ResolvableType.forClass(Pojo.class), APPLICATION_XML));
+
+		ResolvableType sseType = ResolvableType.forClass(ServerSentEvent.class);
+		assertFalse(this.encoder.canEncode(sseType, CBOR_MIME_TYPE));
+	}
+
+	@Test
+	public void encodeMono() {
+		Pojo pojo = new Pojo("foo", "bar");
+		ResolvableType type = ResolvableType.forClass(Pojo.class);
+		Flux<DataBuffer> output = this.encoder.encode(Mono.just(pojo), this.bufferFactory, type, CBOR_MIME_TYPE, emptyMap());
+
+		StepVerifier.create(output)
+				.consumeNextWith(dataBuffer -> assertEquals(pojo, read(dataBuffer, new TypeReference<Pojo>() {})))
+				.verifyComplete();
+	}
+
+	@Test
+	public void encodeFlux() {
+		List<Pojo> list = asList(new Pojo("foo", "bar"), new Pojo("foofoo", "barbar"));
+		ResolvableType type = ResolvableType.forClass(Pojo.class);
+		Flux<DataBuffer> output = this.encoder.encode(Flux.fromIterable(list), this.bufferFactory, type, null, emptyMap());
+
+		StepVerifier.create(output)
+				.consumeNextWith(dataBuffer -> assertEquals(list, read(dataBuffer, new TypeReference<List<Pojo>>() {})))
+				.verifyComplete();
+	}
+
+
+	private <T> T read(DataBuffer dataBuffer, TypeReference<T> typeReference) {
+		try {
+			return this.mapper.readValue(DataBufferTestUtils.dumpBytes(dataBuffer), typeReference);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.http.codec.json;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -115,4 +116,22 @@ public class Jackson2SmileDecoderTests extends AbstractDataBufferAllocatingTestC
 				.verifyComplete();
 	}
 
+	@Test
+	public void decodeStream() throws Exception {
+		ObjectMapper mapper = Jackson2ObjectMapperBuilder.smile().build();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		outputStream.write(mapper.writer().writeValueAsBytes(new Pojo("f1", "b1")));
+		outputStream.write(mapper.writer().writeValueAsBytes(new Pojo("f2", "b2")));
+		Flux<DataBuffer> source = Flux.just(this.bufferFactory.wrap(outputStream.toByteArray()));
+
+		MimeType streamType = new MimeType("application", "stream+x-jackson-smile");
+		assertTrue(decoder.canDecode(forClass(Pojo.class), streamType));
+		Flux<Object> flux = decoder.decode(source, forClass(Pojo.class), streamType, emptyMap());
+
+		StepVerifier.create(flux)
+				.expectNext(new Pojo("f1", "b1"))
+				.expectNext(new Pojo("f2", "b2"))
+				.verifyComplete();
+	}
+
 }
@@ -37,6 +37,7 @@ import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.util.MimeType;
 
 import static java.util.Collections.emptyMap;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.springframework.http.MediaType.APPLICATION_XML;
@@ -106,6 +107,23 @@ public class Jackson2SmileEncoderTests extends AbstractDataBufferAllocatingTestC
 				.consumeNextWith(dataBuffer -> readPojo(mapper, Pojo.class, dataBuffer))
 				.verifyComplete();
 	}
+
+	@Test
+	public void encodeAsStreamWithoutSeparator() throws Exception {
+		Pojo pojo = new Pojo("foo", "bar");
+		ResolvableType type = ResolvableType.forClass(Pojo.class);
+		MediaType mediaType = new MediaType("application", "stream+x-jackson-smile");
+		assertTrue(this.encoder.canEncode(type, mediaType));
+		Flux<DataBuffer> output = this.encoder.encode(Flux.just(pojo), this.bufferFactory, type, mediaType, emptyMap());
+
+		byte[] expected = Jackson2ObjectMapperBuilder.smile().build().writeValueAsBytes(pojo);
+		StepVerifier.create(output)
+				.consumeNextWith(dataBuffer -> {
+					assertArrayEquals(expected, DataBufferTestUtils.dumpBytes(dataBuffer));
+					DataBufferUtils.release(dataBuffer);
+				})
+				.verifyComplete();
+	}
 	
 	public <T> T readPojo(ObjectMapper mapper, Class<T> valueType, DataBuffer dataBuffer) {
 		try {
@@ -25,6 +25,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.json.JSONException;
 import org.junit.Before;
 import org.junit.Test;
@@ -34,6 +35,7 @@ import reactor.test.StepVerifier;
 
 import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -153,10 +155,57 @@ public class Jackson2TokenizerTests extends AbstractDataBufferAllocatingTestCase
 						"{\"id\":3,\"name\":\"Ford\"}"));
 	}
 
+	@Test
+	public void tokenizeBufferWithReadPosition() {
+		this.tokenizer = new Jackson2Tokenizer(this.jsonParser, true);
+
+		DataBuffer buffer = stringBuffer("xx[{\"foo\": \"bar\"},{\"foo\": \"baz\"}]");
+		buffer.readPosition(2);
+
+		testTokenize(Flux.just(buffer),
+				asList("{\"foo\": \"bar\"}",
+						"{\"foo\": \"baz\"}"));
+	}
+
+	@Test
+	public void tokenizeExceedingLimit() {
+		this.tokenizer = new Jackson2Tokenizer(this.jsonParser, true, 10);
+
+		Flux<TokenBuffer> result = Flux.just("[{\"foo\": ", "\"foofoofoo\"", "}]")
+				.map(this::stringBuffer)
+				.flatMap(this.tokenizer);
+
+		StepVerifier.create(result)
+				.expectError(DataBufferLimitException.class)
+				.verify();
+	}
+
+	@Test
+	public void tokenizeExceedingLimitInCompletingChunk() {
+		this.tokenizer = new Jackson2Tokenizer(this.jsonParser, true, 20);
+
+		Flux<TokenBuffer> result = Flux.just("[{\"foo\": \"foo", "foofoofoofoofoo\"}, {\"a\": 1}]")
+				.map(this::stringBuffer)
+				.flatMap(this.tokenizer);
+
+		StepVerifier.create(result)
+				.expectError(DataBufferLimitException.class)
+				.verify();
+	}
+
+	@Test
+	public void tokenizeWithinLimitPerObject() {
+		this.tokenizer = new Jackson2Tokenizer(this.jsonParser, true, 10);
+
+		testTokenize(singletonList("[{\"a\":1},{\"a\":2},{\"a\":3}]"),
+				asList("{\"a\":1}", "{\"a\":2}", "{\"a\":3}"));
+	}
+
 	private void testTokenize(List<String> source, List<String> expected) {
-		Flux<DataBuffer> sourceFlux = Flux.fromIterable(source)
-				.map(this::stringBuffer);
+		testTokenize(Flux.fromIterable(source).map(this::stringBuffer), expected);
+	}
 
+	private void testTokenize(Flux<DataBuffer> sourceFlux, List<String> expected) {
 		Flux<String> result = sourceFlux
 				.flatMap(this.tokenizer)
 				.map(tokenBuffer -> {
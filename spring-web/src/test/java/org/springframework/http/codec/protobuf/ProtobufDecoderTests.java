@@ -0,0 +1,221 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.protobuf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.protobuf.Message;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.MediaType;
+import org.springframework.protobuf.Msg;
+import org.springframework.protobuf.SecondMsg;
+import org.springframework.util.MimeType;
+
+import static org.junit.Assert.*;
+import static org.springframework.core.ResolvableType.*;
+
+/**
+ * Unit tests for {@link ProtobufDecoder}.
+ *
+ * @author agent
+ */
+public class ProtobufDecoderTests extends AbstractDataBufferAllocatingTestCase {
+
+	private static final MimeType PROTOBUF_MIME_TYPE = new MimeType("application", "x-protobuf");
+
+	private final Msg testMsg = Msg.newBuilder().setFoo("Foo").setBlah(SecondMsg.newBuilder().setBlah(123).build()).build();
+
+	private final Msg testMsg2 = Msg.newBuilder().setFoo("Bar").setBlah(SecondMsg.newBuilder().setBlah(456).build()).build();
+
+	private final ProtobufDecoder decoder = new ProtobufDecoder();
+
+
+	@Test
+	public void canDecode() {
+		assertTrue(this.decoder.canDecode(forClass(Msg.class), null));
+		assertTrue(this.decoder.canDecode(forClass(Msg.class), PROTOBUF_MIME_TYPE));
+		assertTrue(this.decoder.canDecode(forClass(Msg.class), MediaType.APPLICATION_OCTET_STREAM));
+		assertFalse(this.decoder.canDecode(forClass(Msg.class), MediaType.APPLICATION_JSON));
+		assertFalse(this.decoder.canDecode(forClass(Object.class), PROTOBUF_MIME_TYPE));
+	}
+
+	@Test
+	public void decodeToMono() {
+		Mono<Message> output = this.decoder.decodeToMono(
+				Flux.just(this.testMsg.toByteArray()).map(this::dataBuffer),
+				forClass(Msg.class), null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.expectNext(this.testMsg)
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodeChunksToMono() {
+		byte[] bytes = this.testMsg.toByteArray();
+		Flux<DataBuffer> input = Flux.fromIterable(split(bytes, 4)).map(this::dataBuffer);
+		Mono<Message> output = this.decoder.decodeToMono(input, forClass(Msg.class), null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.expectNext(this.testMsg)
+				.verifyComplete();
+	}
+
+	@Test
+	public void decode() throws IOException {
+		byte[] bytes = delimited(this.testMsg, this.testMsg2);
+		Flux<Message> messages = this.decoder.decode(Flux.just(bytes).map(this::dataBuffer),
+				forClass(Msg.class), null, Collections.emptyMap());
+
+		StepVerifier.create(messages)
+				.expectNext(this.testMsg)
+				.expectNext(this.testMsg2)
+				.verifyComplete();
+	}
+
+	@Test
+	public void decodeSplitChunks() throws IOException {
+		byte[] bytes = delimited(this.testMsg, this.testMsg2, this.testMsg);
+		for (int chunkSize = 1; chunkSize <= bytes.length; chunkSize++) {
+			Flux<DataBuffer> input = Flux.fromIterable(split(bytes, chunkSize)).map(this::dataBuffer);
+			Flux<Message> messages = this.decoder.decode(input, forClass(Msg.class), null, Collections.emptyMap());
+
+			StepVerifier.create(messages)
+					.expectNext(this.testMsg)
+					.expectNext(this.testMsg2)
+					.expectNext(this.testMsg)
+					.verifyComplete();
+		}
+	}
+
+	@Test
+	public void decodeEmptyMessage() throws IOException {
+		Msg emptyMsg = Msg.getDefaultInstance();
+		byte[] bytes = delimited(this.testMsg, emptyMsg, this.testMsg2);
+		Flux<Message> messages = this.decoder.decode(Flux.just(bytes).map(this::dataBuffer),
+				forClass(Msg.class), null, Collections.emptyMap());
+
+		StepVerifier.create(messages)
+				.expectNext(this.testMsg)
+				.expectNext(emptyMsg)
+				.expectNext(this.testMsg2)
+				.verifyComplete();
+	}
+
+	@Test
+	public void exceedMaxMessageSize() throws IOException {
+		this.decoder.setMaxMessageSize(1);
+		byte[] bytes = delimited(this.testMsg, this.testMsg2);
+		Flux<DataBuffer> input = Flux.fromIterable(split(bytes, 3)).map(this::dataBuffer);
+		Flux<Message> messages = this.decoder.decode(input, forClass(Msg.class), null, Collections.emptyMap());
+
+		StepVerifier.create(messages)
+				.verifyError(DataBufferLimitException.class);
+	}
+
+	@Test
+	public void exceedMaxMessageSizeToMono() {
+		this.decoder.setMaxMessageSize(1);
+		Flux<DataBuffer> input = Flux.fromIterable(split(this.testMsg.toByteArray(), 3)).map(this::dataBuffer);
+		Mono<Message> output = this.decoder.decodeToMono(input, forClass(Msg.class), null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.verifyError(DataBufferLimitException.class);
+	}
+
+	@Test
+	public void decodeMalformedMessage() {
+		byte[] bytes = new byte[] {0x05, 0x7f, 0x7f, 0x7f, 0x7f, 0x7f};
+		Flux<Message> messages = this.decoder.decode(Flux.just(bytes).map(this::dataBuffer),
+				forClass(Msg.class), null, Collections.emptyMap());
+
+		StepVerifier.create(messages)
+				.verifyError(DecodingException.class);
+	}
+
+	@Test
+	public void decodeTruncatedMessage() throws IOException {
+		byte[] bytes = delimited(this.testMsg, this.testMsg2);
+		bytes = Arrays.copyOf(bytes, bytes.length - 1);
+		Flux<DataBuffer> input = Flux.fromIterable(split(bytes, 3)).map(this::dataBuffer);
+		Flux<Message> messages = this.decoder.decode(input, forClass(Msg.class), null, Collections.emptyMap());
+
+		StepVerifier.create(messages)
+				.expectNext(this.testMsg)
+				.verifyError(DecodingException.class);
+	}
+
+	@Test
+	public void decodeTruncatedMessageSize() {
+		byte[] bytes = new byte[] {(byte) 0x80};
+		Flux<Message> messages = this.decoder.decode(Flux.just(bytes).map(this::dataBuffer),
+				forClass(Msg.class), null, Collections.emptyMap());
+
+		StepVerifier.create(messages)
+				.verifyError(DecodingException.class);
+	}
+
+	@Test
+	public void cancelMidMessage() throws IOException {
+		byte[] bytes = delimited(this.testMsg, this.testMsg2);
+		bytes = Arrays.copyOf(bytes, bytes.length - 1);
+		Flux<DataBuffer> input = Flux.just(bytes).map(this::dataBuffer).concatWith(Flux.never());
+		Flux<Message> messages = this.decoder.decode(input, forClass(Msg.class), null, Collections.emptyMap());
+
+		StepVerifier.create(messages)
+				.expectNext(this.testMsg)
+				.thenCancel()
+				.verify();
+	}
+
+
+	private DataBuffer dataBuffer(byte[] bytes) {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(bytes.length);
+		buffer.write(bytes);
+		return buffer;
+	}
+
+	private static byte[] delimited(Message... messages) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		for (Message message : messages) {
+			message.writeDelimitedTo(outputStream);
+		}
+		return outputStream.toByteArray();
+	}
+
+	private static List<byte[]> split(byte[] bytes, int chunkSize) {
+		byte[][] chunks = new byte[(bytes.length + chunkSize - 1) / chunkSize][];
+		for (int i = 0; i < chunks.length; i++) {
+			int from = i * chunkSize;
+			chunks[i] = Arrays.copyOfRange(bytes, from, Math.min(from + chunkSize, bytes.length));
+		}
+		return Arrays.asList(chunks);
+	}
+
+}
@@ -28,6 +28,7 @@ import reactor.test.StepVerifier;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.Pojo;
 import org.springframework.http.codec.xml.jaxb.XmlRootElement;
@@ -168,6 +169,20 @@ public class Jaxb2XmlDecoderTests extends AbstractDataBufferAllocatingTestCase {
 				.verify();
 	}
 
+	@Test
+	public void decodeSingleXmlRootElementExceedingLimit() throws Exception {
+		this.decoder.setMaxInMemorySize(70);
+		Flux<DataBuffer> source = Flux.just(
+				stringBuffer("<?xml version=\"1.0\" encoding=\"UTF-8\"?><pojo><foo>foofoo</foo>"),
+				stringBuffer("<bar>barbar</bar></pojo>"));
+		Flux<Object> output = this.decoder.decode(source, ResolvableType.forClass(Pojo.class),
+				null, Collections.emptyMap());
+
+		StepVerifier.create(output)
+				.expectError(DataBufferLimitException.class)
+				.verify();
+	}
+
 	@Test
 	public void decodeSingleXmlTypeElement() throws Exception {
 		Flux<DataBuffer> source = Flux.just(stringBuffer(POJO_ROOT));
@@ -68,6 +68,21 @@ public class HeaderContentNegotiationStrategyTests {
 		assertEquals("text/plain;q=0.5", mediaTypes.get(3).toString());
 	}
 
+	@Test
+	public void resolveMediaTypesFromCache() throws Exception {
+		this.servletRequest.addHeader("Accept", "text/plain; q=0.5, text/html");
+		List<MediaType> mediaTypes = this.strategy.resolveMediaTypes(this.webRequest);
+		mediaTypes.clear();
+
+		MockHttpServletRequest otherRequest = new MockHttpServletRequest();
+		otherRequest.addHeader("Accept", "text/plain; q=0.5, text/html");
+		mediaTypes = this.strategy.resolveMediaTypes(new ServletWebRequest(otherRequest));
+
+		assertEquals(2, mediaTypes.size());
+		assertEquals("text/html", mediaTypes.get(0).toString());
+		assertEquals("text/plain;q=0.5", mediaTypes.get(1).toString());
+	}
+
 	@Test(expected = HttpMediaTypeNotAcceptableException.class)
 	public void resolveMediaTypesParseError() throws Exception {
 		this.servletRequest.addHeader("Accept", "textplain; q=0.5");
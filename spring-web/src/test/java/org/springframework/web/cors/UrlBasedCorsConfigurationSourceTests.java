@@ -21,6 +21,8 @@ import org.junit.Test;
 
 import org.springframework.http.HttpMethod;
 import org.springframework.mock.web.test.MockHttpServletRequest;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Unit tests for {@link UrlBasedCorsConfigurationSource}.
@@ -48,6 +50,22 @@ public class UrlBasedCorsConfigurationSourceTests {
 		assertEquals(config, this.configSource.getCorsConfiguration(request));
 	}
 
+	@Test
+	public void registerAndMatchWithPathPatterns() {
+		this.configSource.setPatternParser(new PathPatternParser());
+		CorsConfiguration config = new CorsConfiguration();
+		this.configSource.registerCorsConfiguration("/bar/**", config);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/foo/test.html");
+		request.setContextPath("/app");
+		assertNull(this.configSource.getCorsConfiguration(request));
+
+		request.setRequestURI("/app/bar/test.html");
+		assertEquals(config, this.configSource.getCorsConfiguration(request));
+		assertEquals("/bar/test.html", ServletRequestPathUtils.getParsedRequestPath(request)
+				.pathWithinApplication().value());
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void unmodifiableConfigurationsMap() {
 		this.configSource.getCorsConfigurations().put("/**", new CorsConfiguration());
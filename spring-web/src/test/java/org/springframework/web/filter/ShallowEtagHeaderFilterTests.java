@@ -16,6 +16,8 @@
 
 package org.springframework.web.filter;
 
+import java.util.Map;
+import java.util.function.Supplier;
 import javax.servlet.FilterChain;
 import javax.servlet.http.HttpServletResponse;
 
@@ -262,4 +264,141 @@ public class ShallowEtagHeaderFilterTests {
 		assertArrayEquals("Invalid content", responseBody, response.getContentAsByteArray());
 	}
 
+	@Test
+	public void filterBufferSizeHintsAfterWriting() throws Exception {
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		final byte[] responseBody = "Hello World".getBytes("UTF-8");
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			filterResponse.setBufferSize(4);
+			filterResponse.getOutputStream().write(responseBody, 0, 5);
+			filterResponse.setBufferSize(1024);
+			filterResponse.setContentLength(responseBody.length);
+			filterResponse.getOutputStream().write(responseBody, 5, responseBody.length - 5);
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertEquals("Invalid status", 200, response.getStatus());
+		assertEquals("Invalid ETag header", "\"0b10a8db164e0754105b7a99be72e3fe5\"", response.getHeader("ETag"));
+		assertEquals("Invalid Content-Length header", responseBody.length, response.getContentLength());
+		assertArrayEquals("Invalid content", responseBody, response.getContentAsByteArray());
+	}
+
+	@Test
+	public void filterBelowStreamingThreshold() throws Exception {
+		filter.setStreamingThreshold(1024);
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		request.addHeader("If-None-Match", "\"0b10a8db164e0754105b7a99be72e3fe5\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			byte[] responseBody = "Hello World".getBytes("UTF-8");
+			FileCopyUtils.copy(responseBody, filterResponse.getOutputStream());
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertEquals("Invalid status", 304, response.getStatus());
+		assertEquals("Invalid ETag header", "\"0b10a8db164e0754105b7a99be72e3fe5\"", response.getHeader("ETag"));
+		assertArrayEquals("Invalid content", new byte[0], response.getContentAsByteArray());
+	}
+
+	@Test
+	public void filterAboveStreamingThreshold() throws Exception {
+		filter.setStreamingThreshold(8);
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		request.addHeader("If-None-Match", "\"0b10a8db164e0754105b7a99be72e3fe5\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		final byte[] responseBody = "Hello World".getBytes("UTF-8");
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			filterResponse.getOutputStream().write(responseBody, 0, 6);
+			assertEquals("Content streamed before threshold", 0, response.getContentAsByteArray().length);
+			filterResponse.getOutputStream().write(responseBody, 6, responseBody.length - 6);
+			assertArrayEquals("Content not streamed", responseBody, response.getContentAsByteArray());
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertEquals("Invalid status", 200, response.getStatus());
+		assertNull("Invalid ETag header", response.getHeader("ETag"));
+		assertArrayEquals("Invalid content", responseBody, response.getContentAsByteArray());
+	}
+
+	@Test
+	public void filterWriterAboveStreamingThreshold() throws Exception {
+		filter.setStreamingThreshold(8);
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		final String responseBody = "Hello World";
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			filterResponse.setCharacterEncoding("UTF-8");
+			filterResponse.getWriter().write(responseBody);
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertEquals("Invalid status", 200, response.getStatus());
+		assertNull("Invalid ETag header", response.getHeader("ETag"));
+		assertEquals("Invalid content", responseBody, response.getContentAsString());
+	}
+
+	@Test
+	public void filterAboveStreamingThresholdWithETagTrailer() throws Exception {
+		filter.setStreamingThreshold(8);
+		filter.setWriteETagTrailer(true);
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		TrailerFieldsHttpServletResponse response = new TrailerFieldsHttpServletResponse();
+
+		final byte[] responseBody = "Hello World".getBytes("UTF-8");
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			filterResponse.getOutputStream().write(responseBody, 0, 6);
+			filterResponse.getOutputStream().write(responseBody, 6, 3);
+			filterResponse.getOutputStream().write(responseBody, 9, responseBody.length - 9);
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertEquals("Invalid status", 200, response.getStatus());
+		assertNull("Invalid ETag header", response.getHeader("ETag"));
+		assertEquals("Invalid Trailer header", "ETag", response.getHeader("Trailer"));
+		assertNotNull("Trailer fields not set", response.trailerFields);
+		assertEquals("Invalid ETag trailer", "\"0b10a8db164e0754105b7a99be72e3fe5\"",
+				response.trailerFields.get().get("ETag"));
+		assertArrayEquals("Invalid content", responseBody, response.getContentAsByteArray());
+	}
+
+	@Test
+	public void filterAboveStreamingThresholdWithETagTrailerAndContentLength() throws Exception {
+		filter.setStreamingThreshold(8);
+		filter.setWriteETagTrailer(true);
+		final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/hotels");
+		TrailerFieldsHttpServletResponse response = new TrailerFieldsHttpServletResponse();
+
+		final byte[] responseBody = "Hello World".getBytes("UTF-8");
+		FilterChain filterChain = (filterRequest, filterResponse) -> {
+			filterResponse.setContentLength(responseBody.length);
+			filterResponse.getOutputStream().write(responseBody);
+		};
+		filter.doFilter(request, response, filterChain);
+
+		assertEquals("Invalid status", 200, response.getStatus());
+		assertNull("Invalid ETag header", response.getHeader("ETag"));
+		assertNull("Invalid Trailer header", response.getHeader("Trailer"));
+		assertNull("Trailer fields set", response.trailerFields);
+		assertEquals("Invalid Content-Length header", responseBody.length, response.getContentLength());
+		assertArrayEquals("Invalid content", responseBody, response.getContentAsByteArray());
+	}
+
+
+	/**
+	 * Exposes the Servlet 4.0 {@code setTrailerFields(Supplier)} method.
+	 */
+	public static class TrailerFieldsHttpServletResponse extends MockHttpServletResponse {
+
+		Supplier<Map<String, String>> trailerFields;
+
+		public void setTrailerFields(Supplier<Map<String, String>> supplier) {
+			this.trailerFields = supplier;
+		}
+	}
+
 }
@@ -119,6 +119,30 @@ public class InvocableHandlerMethodTests {
 		assertEquals("2-value2", returnValue);
 	}
 
+	@Test
+	public void resolveArgWithResolversPerMethod() throws Exception {
+		StubArgumentResolver intResolver = new StubArgumentResolver(Integer.class, 99);
+		StubArgumentResolver stringResolver = new StubArgumentResolver(String.class, "value");
+
+		HandlerMethodArgumentResolverComposite composite = new HandlerMethodArgumentResolverComposite();
+		composite.addResolver(intResolver);
+		composite.addResolver(stringResolver);
+		handlerMethod.setHandlerMethodArgumentResolvers(composite);
+		assertEquals("99-value", handlerMethod.invokeForRequest(webRequest, null));
+
+		InvocableHandlerMethod otherHandlerMethod = new InvocableHandlerMethod(handlerMethod);
+		otherHandlerMethod.setHandlerMethodArgumentResolvers(composite);
+		assertEquals("99-value", otherHandlerMethod.invokeForRequest(webRequest, null));
+
+		HandlerMethodArgumentResolver[] resolvers = composite.getArgumentResolvers(
+				handlerMethod.getMethod(), handlerMethod.getMethodParameters());
+		assertArrayEquals(new HandlerMethodArgumentResolver[] {intResolver, stringResolver}, resolvers);
+		assertSame(resolvers, composite.getArgumentResolvers(
+				otherHandlerMethod.getMethod(), otherHandlerMethod.getMethodParameters()));
+		assertEquals(2, intResolver.getResolvedParameters().size());
+		assertEquals(2, stringResolver.getResolvedParameters().size());
+	}
+
 	@Test
 	public void exceptionInResolvingArg() throws Exception {
 		HandlerMethodArgumentResolverComposite composite = new HandlerMethodArgumentResolverComposite();
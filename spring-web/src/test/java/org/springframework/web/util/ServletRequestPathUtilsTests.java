@@ -0,0 +1,137 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util;
+
+import org.junit.Test;
+
+import org.springframework.http.server.RequestPath;
+import org.springframework.mock.web.test.MockHttpServletRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link ServletRequestPathUtils}.
+ *
+ * @author agent
+ */
+public class ServletRequestPathUtilsTests {
+
+	private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+
+	@Test
+	public void parseAndCache() {
+		this.request.setRequestURI("/welcome.html");
+
+		assertFalse(ServletRequestPathUtils.hasParsedRequestPath(this.request));
+		RequestPath path = ServletRequestPathUtils.parseAndCache(this.request);
+
+		assertEquals("/welcome.html", path.value());
+		assertEquals("", path.contextPath().value());
+		assertEquals("/welcome.html", path.pathWithinApplication().value());
+		assertTrue(ServletRequestPathUtils.hasParsedRequestPath(this.request));
+		assertSame(path, ServletRequestPathUtils.getParsedRequestPath(this.request));
+		assertSame(path, ServletRequestPathUtils.parseAndCache(this.request));
+	}
+
+	@Test
+	public void contextPath() {
+		this.request.setContextPath("/petclinic");
+		this.request.setRequestURI("/petclinic/welcome.html");
+
+		RequestPath path = ServletRequestPathUtils.parseAndCache(this.request);
+		assertEquals("/petclinic", path.contextPath().value());
+		assertEquals("/welcome.html", path.pathWithinApplication().value());
+	}
+
+	@Test
+	public void prefixMappedServletPath() {
+		this.request.setContextPath("/petclinic");
+		this.request.setServletPath("/main");
+		this.request.setPathInfo("/welcome.html");
+		this.request.setRequestURI("/petclinic/main/welcome.html");
+
+		RequestPath path = ServletRequestPathUtils.parseAndCache(this.request);
+		assertEquals("/petclinic/main", path.contextPath().value());
+		assertEquals("/welcome.html", path.pathWithinApplication().value());
+	}
+
+	@Test
+	public void defaultServletPath() {
+		this.request.setContextPath("/petclinic");
+		this.request.setServletPath("/welcome.html");
+		this.request.setRequestURI("/petclinic/welcome.html");
+
+		RequestPath path = ServletRequestPathUtils.parseAndCache(this.request);
+		assertEquals("/petclinic", path.contextPath().value());
+		assertEquals("/welcome.html", path.pathWithinApplication().value());
+	}
+
+	@Test
+	public void rootServletPath() {
+		this.request.setContextPath("/petclinic");
+		this.request.setServletPath("/");
+		this.request.setPathInfo("/welcome.html");
+		this.request.setRequestURI("/petclinic/welcome.html");
+
+		RequestPath path = ServletRequestPathUtils.parseAndCache(this.request);
+		assertEquals("/petclinic", path.contextPath().value());
+		assertEquals("/welcome.html", path.pathWithinApplication().value());
+	}
+
+	@Test
+	public void include() {
+		this.request.setContextPath("/petclinic");
+		this.request.setRequestURI("/petclinic/welcome.html");
+		RequestPath path = ServletRequestPathUtils.parseAndCache(this.request);
+
+		this.request.setAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE, "/petclinic/main/included.html");
+		this.request.setAttribute(WebUtils.INCLUDE_CONTEXT_PATH_ATTRIBUTE, "/petclinic");
+		this.request.setAttribute(WebUtils.INCLUDE_SERVLET_PATH_ATTRIBUTE, "/main");
+		this.request.setAttribute(WebUtils.INCLUDE_PATH_INFO_ATTRIBUTE, "/included.html");
+
+		RequestPath includePath = ServletRequestPathUtils.parseAndCache(this.request);
+		assertNotSame(path, includePath);
+		assertEquals("/petclinic/main/included.html", includePath.value());
+		assertEquals("/petclinic/main", includePath.contextPath().value());
+		assertEquals("/included.html", includePath.pathWithinApplication().value());
+	}
+
+	@Test
+	public void reparseAfterRequestUriChange() {
+		this.request.setRequestURI("/welcome.html");
+		RequestPath path = ServletRequestPathUtils.parseAndCache(this.request);
+
+		this.request.setRequestURI("/forwarded.html");
+		RequestPath forwardedPath = ServletRequestPathUtils.parseAndCache(this.request);
+
+		assertNotSame(path, forwardedPath);
+		assertEquals("/forwarded.html", forwardedPath.value());
+		assertSame(forwardedPath, ServletRequestPathUtils.getParsedRequestPath(this.request));
+	}
+
+	@Test
+	public void clearParsedRequestPath() {
+		this.request.setRequestURI("/welcome.html");
+		ServletRequestPathUtils.parseAndCache(this.request);
+
+		ServletRequestPathUtils.clearParsedRequestPath(this.request);
+		assertFalse(ServletRequestPathUtils.hasParsedRequestPath(this.request));
+		assertNull(ServletRequestPathUtils.getParsedRequestPath(this.request));
+	}
+
+}
@@ -20,7 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.cache.Cache;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.BoundedConcurrentMapCache;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -61,7 +61,7 @@ public class ResourceChainRegistration {
 
 
 	public ResourceChainRegistration(boolean cacheResources) {
-		this(cacheResources, cacheResources ? new ConcurrentMapCache(DEFAULT_CACHE_NAME) : null);
+		this(cacheResources, cacheResources ? new BoundedConcurrentMapCache(DEFAULT_CACHE_NAME) : null);
 	}
 
 	public ResourceChainRegistration(boolean cacheResources, @Nullable Cache cache) {
@@ -122,10 +122,10 @@ public class ResourceHandlerRegistration {
 	 * setting this to "true" is recommended for production (and "false" for
 	 * development, especially when applying a version strategy
 	 * @param cache the cache to use for storing resolved and transformed resources;
-	 * by default a {@link org.springframework.cache.concurrent.ConcurrentMapCache}
-	 * is used. Since Resources aren't serializable and can be dependent on the
-	 * application host, one should not use a distributed cache but rather an
-	 * in-memory cache.
+	 * by default a {@link org.springframework.cache.concurrent.BoundedConcurrentMapCache}
+	 * holding up to 1024 entries is used. Since Resources aren't serializable and
+	 * can be dependent on the application host, one should not use a distributed
+	 * cache but rather an in-memory cache.
 	 * @return the same {@link ResourceHandlerRegistration} instance, for chained method invocation
 	 */
 	public ResourceChainRegistration resourceChain(boolean cacheResources, Cache cache) {
@@ -31,7 +31,7 @@ import org.springframework.beans.factory.support.ManagedMap;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.factory.xml.BeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.BoundedConcurrentMapCache;
 import org.springframework.core.Ordered;
 import org.springframework.http.CacheControl;
 import org.springframework.lang.Nullable;
@@ -290,7 +290,7 @@ class ResourcesBeanDefinitionParser implements BeanDefinitionParser {
 			else {
 				ConstructorArgumentValues cacheCavs = new ConstructorArgumentValues();
 				cacheCavs.addIndexedArgumentValue(0, RESOURCE_CHAIN_CACHE);
-				RootBeanDefinition cacheDef = new RootBeanDefinition(ConcurrentMapCache.class);
+				RootBeanDefinition cacheDef = new RootBeanDefinition(BoundedConcurrentMapCache.class);
 				cacheDef.setSource(source);
 				cacheDef.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
 				cacheDef.setConstructorArgumentValues(cacheCavs);
@@ -19,6 +19,7 @@ package org.springframework.web.servlet.config.annotation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.PathMatcher;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Helps with configuring HandlerMappings path matching options such as trailing
@@ -53,6 +54,9 @@ public class PathMatchConfigurer {
 	@Nullable
 	private PathMatcher pathMatcher;
 
+	@Nullable
+	private PathPatternParser patternParser;
+
 
 	/**
 	 * Whether to use suffix pattern match (".*") when matching patterns to
@@ -110,6 +114,22 @@ public class PathMatchConfigurer {
 		return this;
 	}
 
+	/**
+	 * Set a PathPatternParser to match request paths, parsed once per request,
+	 * against pre-parsed {@link org.springframework.web.util.pattern.PathPattern
+	 * PathPatterns} in RequestMappings and ViewControllerMappings, including
+	 * mapped interceptors and CORS configuration, instead of String path matching
+	 * with the {@link #setPathMatcher PathMatcher}.
+	 * <p>Note that suffix pattern matching does not apply in that case, and that
+	 * trailing slash matching is determined by the parser.
+	 * <p>By default this is not set.
+	 * @since 5.0.3
+	 */
+	public PathMatchConfigurer setPatternParser(PathPatternParser patternParser) {
+		this.patternParser = patternParser;
+		return this;
+	}
+
 
 	@Nullable
 	public Boolean isUseSuffixPatternMatch() {
@@ -136,4 +156,9 @@ public class PathMatchConfigurer {
 		return this.pathMatcher;
 	}
 
+	@Nullable
+	public PathPatternParser getPatternParser() {
+		return this.patternParser;
+	}
+
 }
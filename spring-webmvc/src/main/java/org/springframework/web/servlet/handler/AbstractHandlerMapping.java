@@ -27,6 +27,7 @@ import javax.servlet.http.HttpServletResponse;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.core.Ordered;
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.Assert;
@@ -43,7 +44,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.servlet.HandlerExecutionChain;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Abstract base class for {@link org.springframework.web.servlet.HandlerMapping}
@@ -76,6 +79,9 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 
 	private PathMatcher pathMatcher = new AntPathMatcher();
 
+	@Nullable
+	private PathPatternParser patternParser;
+
 	private final List<Object> interceptors = new ArrayList<>();
 
 	private final List<HandlerInterceptor> adaptedInterceptors = new ArrayList<>();
@@ -182,6 +188,44 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 		return this.pathMatcher;
 	}
 
+	/**
+	 * Enable matching of the request path against pre-parsed
+	 * {@link org.springframework.web.util.pattern.PathPattern PathPatterns}
+	 * created with the given parser, as an alternative to String path matching
+	 * with the configured {@link #setPathMatcher PathMatcher}.
+	 * <p>When set, the request path is parsed once per request and cached via
+	 * {@link ServletRequestPathUtils#parseAndCache}, and then used for matching
+	 * in this handler mapping (as far as supported by the subclass), for
+	 * {@link MappedInterceptor MappedInterceptors} and for the global
+	 * {@link #setCorsConfigurations CORS configuration}.
+	 * <p>By default this is not set.
+	 * @since 5.0.3
+	 * @see #usesPathPatterns()
+	 */
+	public void setPatternParser(@Nullable PathPatternParser patternParser) {
+		this.patternParser = patternParser;
+		this.globalCorsConfigSource.setPatternParser(patternParser);
+	}
+
+	/**
+	 * Return the {@link #setPatternParser configured} {@code PathPatternParser}, if any.
+	 * @since 5.0.3
+	 */
+	@Nullable
+	public PathPatternParser getPatternParser() {
+		return this.patternParser;
+	}
+
+	/**
+	 * Whether this handler mapping matches requests against parsed
+	 * {@link org.springframework.web.util.pattern.PathPattern PathPatterns},
+	 * i.e. whether a {@link #setPatternParser PathPatternParser} has been set.
+	 * @since 5.0.3
+	 */
+	public boolean usesPathPatterns() {
+		return (this.patternParser != null);
+	}
+
 	/**
 	 * Set the interceptors to apply for all handlers mapped by this handler mapping.
 	 * <p>Supported interceptor types are HandlerInterceptor, WebRequestInterceptor, and MappedInterceptor.
@@ -272,6 +316,8 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 	/**
 	 * Initialize the specified interceptors, checking for {@link MappedInterceptor}s and
 	 * adapting {@link HandlerInterceptor}s and {@link WebRequestInterceptor}s if necessary.
+	 * <p>With a {@link #setPatternParser PathPatternParser} set, the patterns of
+	 * {@link MappedInterceptor}s are parsed upfront.
 	 * @see #setInterceptors
 	 * @see #adaptInterceptor
 	 */
@@ -285,6 +331,13 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 				this.adaptedInterceptors.add(adaptInterceptor(interceptor));
 			}
 		}
+		if (this.patternParser != null) {
+			for (HandlerInterceptor interceptor : this.adaptedInterceptors) {
+				if (interceptor instanceof MappedInterceptor) {
+					((MappedInterceptor) interceptor).parsePatterns(this.patternParser);
+				}
+			}
+		}
 	}
 
 	/**
@@ -348,6 +401,9 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 	@Override
 	@Nullable
 	public final HandlerExecutionChain getHandler(HttpServletRequest request) throws Exception {
+		if (usesPathPatterns()) {
+			ServletRequestPathUtils.parseAndCache(request);
+		}
 		Object handler = getHandlerInternal(request);
 		if (handler == null) {
 			handler = getDefaultHandler();
@@ -414,11 +470,25 @@ public abstract class AbstractHandlerMapping extends WebApplicationObjectSupport
 		HandlerExecutionChain chain = (handler instanceof HandlerExecutionChain ?
 				(HandlerExecutionChain) handler : new HandlerExecutionChain(handler));
 
-		String lookupPath = this.urlPathHelper.getLookupPathForRequest(request);
+		String lookupPath = null;
+		PathContainer path = null;
 		for (HandlerInterceptor interceptor : this.adaptedInterceptors) {
 			if (interceptor instanceof MappedInterceptor) {
 				MappedInterceptor mappedInterceptor = (MappedInterceptor) interceptor;
-				if (mappedInterceptor.matches(lookupPath, this.pathMatcher)) {
+				boolean matches;
+				if (this.patternParser != null && mappedInterceptor.getPathMatcher() == null) {
+					if (path == null) {
+						path = ServletRequestPathUtils.parseAndCache(request).pathWithinApplication();
+					}
+					matches = mappedInterceptor.matches(path, this.patternParser, this.pathMatcher);
+				}
+				else {
+					if (lookupPath == null) {
+						lookupPath = this.urlPathHelper.getLookupPathForRequest(request);
+					}
+					matches = mappedInterceptor.matches(lookupPath, this.pathMatcher);
+				}
+				if (matches) {
 					chain.addInterceptor(mappedInterceptor.getInterceptor());
 				}
 			}
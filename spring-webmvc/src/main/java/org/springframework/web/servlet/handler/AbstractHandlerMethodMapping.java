@@ -23,7 +23,9 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -347,8 +349,14 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, request);
 		}
 		if (matches.isEmpty()) {
-			// No choice but to go through all mappings...
-			addMatchingMappings(this.mappingRegistry.getMappings().keySet(), matches, request);
+			if (isPathPatternIndexSupported()) {
+				// Only go through mappings that may match the first path segment...
+				addMatchingMappings(this.mappingRegistry.getMappingsByPathIndex(lookupPath), matches, request);
+			}
+			else {
+				// No choice but to go through all mappings...
+				addMatchingMappings(this.mappingRegistry.getMappings().keySet(), matches, request);
+			}
 		}
 
 		if (!matches.isEmpty()) {
@@ -454,6 +462,19 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	protected abstract Set<String> getMappingPathPatterns(T mapping);
 
+	/**
+	 * Whether the mapping path patterns returned by {@link #getMappingPathPatterns}
+	 * are matched against the lookup path in {@link #getMatchingMapping} according
+	 * to {@link org.springframework.util.AntPathMatcher} rules, which allows for
+	 * narrowing down the mappings to check by the first segment of the lookup path
+	 * when there is no direct URL match.
+	 * <p>The default is {@code false}, always checking all registered mappings.
+	 * @since 5.0.3
+	 */
+	protected boolean isPathPatternIndexSupported() {
+		return false;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -487,12 +508,18 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> urlLookup = new LinkedMultiValueMap<>();
 
+		private final Map<String, List<MappingRegistration<T>>> pathIndex = new HashMap<>();
+
+		private final List<MappingRegistration<T>> unindexedRegistrations = new ArrayList<>();
+
 		private final Map<String, List<HandlerMethod>> nameLookup = new ConcurrentHashMap<>();
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
 
+		private long registrationCount;
+
 		/**
 		 * Return all mappings and handler methods. Not thread-safe.
 		 * @see #acquireReadLock()
@@ -510,6 +537,51 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.urlLookup.get(urlPath);
 		}
 
+		/**
+		 * Return all mappings that may match the given lookup path, in registration
+		 * order: mappings with a path pattern whose first segment is a literal that
+		 * matches the first segment of the lookup path (possibly followed by a suffix),
+		 * plus all mappings without such a literal first segment. Not thread-safe.
+		 * @since 5.0.3
+		 * @see #acquireReadLock()
+		 * @see #isPathPatternIndexSupported()
+		 */
+		public List<T> getMappingsByPathIndex(String lookupPath) {
+			List<MappingRegistration<T>> candidates = new ArrayList<>(this.unindexedRegistrations);
+			String segment = getFirstPathSegment(lookupPath);
+			if (segment != null) {
+				// Path parameters are ignored by PathPattern matching
+				int semicolonIndex = segment.indexOf(';');
+				if (semicolonIndex != -1) {
+					segment = segment.substring(0, semicolonIndex);
+				}
+				addIndexedRegistrations(segment, candidates);
+				// Suffix pattern match: "/path" also matches "/path.json"
+				for (int i = segment.indexOf('.'); i != -1; i = segment.indexOf('.', i + 1)) {
+					addIndexedRegistrations(segment.substring(0, i), candidates);
+				}
+			}
+			if (candidates.size() > 1) {
+				candidates.sort((r1, r2) -> Long.compare(r1.getOrder(), r2.getOrder()));
+			}
+			List<T> result = new ArrayList<>(candidates.size());
+			MappingRegistration<T> previous = null;
+			for (MappingRegistration<T> candidate : candidates) {
+				if (candidate != previous) {
+					result.add(candidate.getMapping());
+					previous = candidate;
+				}
+			}
+			return result;
+		}
+
+		private void addIndexedRegistrations(String key, List<MappingRegistration<T>> candidates) {
+			List<MappingRegistration<T>> registrations = this.pathIndex.get(key);
+			if (registrations != null) {
+				candidates.addAll(registrations);
+			}
+		}
+
 		/**
 		 * Return handler methods by mapping name. Thread-safe for concurrent use.
 		 */
@@ -566,7 +638,13 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.corsLookup.put(handlerMethod, corsConfig);
 				}
 
-				this.registry.put(mapping, new MappingRegistration<>(mapping, handlerMethod, directUrls, name));
+				MappingRegistration<T> registration = new MappingRegistration<>(
+						mapping, handlerMethod, directUrls, name, this.registrationCount++);
+				MappingRegistration<T> existing = this.registry.put(mapping, registration);
+				if (existing != null) {
+					removeFromPathIndex(existing);
+				}
+				addToPathIndex(registration);
 			}
 			finally {
 				this.readWriteLock.writeLock().unlock();
@@ -583,6 +661,76 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			}
 		}
 
+		private void addToPathIndex(MappingRegistration<T> registration) {
+			Set<String> keys = getPathIndexKeys(registration.getMapping());
+			if (keys == null) {
+				this.unindexedRegistrations.add(registration);
+			}
+			else {
+				for (String key : keys) {
+					this.pathIndex.computeIfAbsent(key, k -> new ArrayList<>(1)).add(registration);
+				}
+			}
+		}
+
+		private void removeFromPathIndex(MappingRegistration<T> registration) {
+			this.unindexedRegistrations.remove(registration);
+			Set<String> keys = getPathIndexKeys(registration.getMapping());
+			if (keys != null) {
+				for (String key : keys) {
+					List<MappingRegistration<T>> registrations = this.pathIndex.get(key);
+					if (registrations != null) {
+						registrations.remove(registration);
+						if (registrations.isEmpty()) {
+							this.pathIndex.remove(key);
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * Determine the literal first path segments of the given mapping's patterns,
+		 * or {@code null} if the mapping needs to be checked for any lookup path
+		 * (no patterns, or a pattern with a wildcard or URI variable in its first
+		 * segment, or a pattern without any segments).
+		 */
+		@Nullable
+		private Set<String> getPathIndexKeys(T mapping) {
+			Set<String> patterns = getMappingPathPatterns(mapping);
+			if (patterns.isEmpty()) {
+				return null;
+			}
+			Set<String> keys = new LinkedHashSet<>(patterns.size());
+			for (String pattern : patterns) {
+				String segment = getFirstPathSegment(pattern);
+				if (segment == null || segment.indexOf('*') != -1 || segment.indexOf('?') != -1 ||
+						segment.indexOf('{') != -1) {
+					return null;
+				}
+				keys.add(segment);
+			}
+			return keys;
+		}
+
+		/**
+		 * Extract the first non-empty segment of the given path or pattern, trimmed
+		 * and in lower case in order to cover all AntPathMatcher variants.
+		 */
+		@Nullable
+		private String getFirstPathSegment(String path) {
+			int start = 0;
+			while (start < path.length() && path.charAt(start) == '/') {
+				start++;
+			}
+			if (start == path.length()) {
+				return null;
+			}
+			int end = path.indexOf('/', start);
+			String segment = path.substring(start, (end != -1 ? end : path.length())).trim();
+			return (!segment.isEmpty() ? segment.toLowerCase(Locale.ENGLISH) : null);
+		}
+
 		private List<String> getDirectUrls(T mapping) {
 			List<String> urls = new ArrayList<>(1);
 			for (String path : getMappingPathPatterns(mapping)) {
@@ -631,6 +779,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				}
 
 				this.mappingLookup.remove(definition.getMapping());
+				removeFromPathIndex(definition);
 
 				for (String url : definition.getDirectUrls()) {
 					List<T> list = this.urlLookup.get(url);
@@ -687,8 +836,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		@Nullable
 		private final String mappingName;
 
+		private final long order;
+
 		public MappingRegistration(T mapping, HandlerMethod handlerMethod,
-				@Nullable List<String> directUrls, @Nullable String mappingName) {
+				@Nullable List<String> directUrls, @Nullable String mappingName, long order) {
 
 			Assert.notNull(mapping, "Mapping must not be null");
 			Assert.notNull(handlerMethod, "HandlerMethod must not be null");
@@ -696,6 +847,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			this.handlerMethod = handlerMethod;
 			this.directUrls = (directUrls != null ? directUrls : Collections.emptyList());
 			this.mappingName = mappingName;
+			this.order = order;
 		}
 
 		public T getMapping() {
@@ -714,6 +866,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		public String getMappingName() {
 			return this.mappingName;
 		}
+
+		public long getOrder() {
+			return this.order;
+		}
 	}
 
 
@@ -22,16 +22,21 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Abstract base class for URL-mapped {@link org.springframework.web.servlet.HandlerMapping}
@@ -63,6 +68,8 @@ public abstract class AbstractUrlHandlerMapping extends AbstractHandlerMapping i
 
 	private final Map<String, Object> handlerMap = new LinkedHashMap<>();
 
+	private final Map<String, PathPattern> pathPatternCache = new ConcurrentHashMap<>();
+
 
 	/**
 	 * Set the root handler for this handler mapping, that is,
@@ -179,6 +186,9 @@ public abstract class AbstractUrlHandlerMapping extends AbstractHandlerMapping i
 		}
 
 		// Pattern match?
+		if (usesPathPatterns()) {
+			return lookupHandlerByPathPattern(request);
+		}
 		List<String> matchingPatterns = new ArrayList<>();
 		for (String registeredPattern : this.handlerMap.keySet()) {
 			if (getPathMatcher().match(registeredPattern, urlPath)) {
@@ -239,6 +249,66 @@ public abstract class AbstractUrlHandlerMapping extends AbstractHandlerMapping i
 		return null;
 	}
 
+	/**
+	 * Look up a handler by matching the parsed request path against the registered
+	 * patterns, parsed into {@link PathPattern PathPatterns} on first use.
+	 * <p>Trailing slash matching is determined by the configured
+	 * {@link #setPatternParser PathPatternParser} in this case.
+	 */
+	@Nullable
+	private Object lookupHandlerByPathPattern(HttpServletRequest request) throws Exception {
+		PathPatternParser parser = getPatternParser();
+		Assert.state(parser != null, "No PathPatternParser set");
+		PathContainer path = ServletRequestPathUtils.parseAndCache(request).pathWithinApplication();
+
+		List<PathPattern> matchingPatterns = new ArrayList<>();
+		for (String registeredPattern : this.handlerMap.keySet()) {
+			PathPattern pattern = this.pathPatternCache.computeIfAbsent(registeredPattern, parser::parse);
+			if (pattern.matches(path)) {
+				matchingPatterns.add(pattern);
+			}
+		}
+		if (matchingPatterns.isEmpty()) {
+			return null;
+		}
+		Collections.sort(matchingPatterns);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Matching patterns for request [" + path.value() + "] are " + matchingPatterns);
+		}
+		PathPattern bestMatch = matchingPatterns.get(0);
+
+		Object handler = this.handlerMap.get(bestMatch.getPatternString());
+		if (handler == null) {
+			throw new IllegalStateException(
+					"Could not find handler for best pattern match [" + bestMatch.getPatternString() + "]");
+		}
+		// Bean name or resolved handler?
+		if (handler instanceof String) {
+			String handlerName = (String) handler;
+			handler = obtainApplicationContext().getBean(handlerName);
+		}
+		validateHandler(handler, request);
+
+		String pathWithinMapping = getUrlPathHelper().decodeRequestString(
+				request, bestMatch.extractPathWithinPattern(path).value());
+
+		// There might be multiple 'best patterns', let's make sure we have the correct URI template variables
+		// for all of them
+		Map<String, String> uriTemplateVariables = new LinkedHashMap<>();
+		for (PathPattern matchingPattern : matchingPatterns) {
+			if (PathPattern.SPECIFICITY_COMPARATOR.compare(bestMatch, matchingPattern) == 0) {
+				PathPattern.PathMatchInfo matchInfo = matchingPattern.matchAndExtract(path);
+				if (matchInfo != null) {
+					uriTemplateVariables.putAll(matchInfo.getUriVariables());
+				}
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("URI Template variables for request [" + path.value() + "] are " + uriTemplateVariables);
+		}
+		return buildPathExposingHandler(handler, bestMatch.getPatternString(), pathWithinMapping, uriTemplateVariables);
+	}
+
 	/**
 	 * Validate the given handler against the current request.
 	 * <p>The default implementation is empty. Can be overridden in subclasses,
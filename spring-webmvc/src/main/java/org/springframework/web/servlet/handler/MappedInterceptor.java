@@ -19,12 +19,17 @@ package org.springframework.web.servlet.handler;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.PathMatcher;
 import org.springframework.web.context.request.WebRequestInterceptor;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
 
 /**
  * Contains and delegates calls to a {@link HandlerInterceptor} along with
@@ -45,6 +50,8 @@ import org.springframework.web.servlet.ModelAndView;
  */
 public final class MappedInterceptor implements HandlerInterceptor {
 
+	private static final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
 	@Nullable
 	private final String[] includePatterns;
 
@@ -56,6 +63,9 @@ public final class MappedInterceptor implements HandlerInterceptor {
 	@Nullable
 	private PathMatcher pathMatcher;
 
+	@Nullable
+	private volatile ParsedPatterns parsedPatterns;
+
 
 	/**
 	 * Create a new MappedInterceptor instance.
@@ -164,6 +174,63 @@ public final class MappedInterceptor implements HandlerInterceptor {
 		}
 	}
 
+	/**
+	 * Parse the include and exclude patterns with the given parser, ahead of
+	 * {@link #matches(PathContainer, PathPatternParser, PathMatcher) matching}
+	 * request paths. Patterns not supported by the parser, e.g. Ant-style
+	 * patterns with {@code "**"} in the middle, are matched as Strings instead.
+	 * @param patternParser the parser to parse the include and exclude patterns with
+	 * @since 5.0.3
+	 */
+	public void parsePatterns(PathPatternParser patternParser) {
+		obtainParsedPatterns(patternParser);
+	}
+
+	/**
+	 * Returns {@code true} if the interceptor applies to the given parsed request path,
+	 * matching it against {@link PathPattern PathPatterns} parsed from the include and
+	 * exclude patterns with the given parser. The parsed patterns are kept for
+	 * subsequent calls with the same parser.
+	 * <p>Patterns that cannot be parsed are matched against the path value with the
+	 * given PathMatcher instead. If a PathMatcher has been
+	 * {@link #setPathMatcher configured} on this MappedInterceptor, it is used to
+	 * match all patterns, without parsing them.
+	 * @param path the current path within the application
+	 * @param patternParser the parser to parse the include and exclude patterns with
+	 * @param pathMatcher a path matcher for patterns that cannot be parsed
+	 * @since 5.0.3
+	 * @see #parsePatterns
+	 */
+	public boolean matches(PathContainer path, PathPatternParser patternParser, PathMatcher pathMatcher) {
+		if (this.pathMatcher != null) {
+			return matches(urlPathHelper.removeSemicolonContent(path.value()), this.pathMatcher);
+		}
+		ParsedPatterns parsedPatterns = obtainParsedPatterns(patternParser);
+		for (ParsedPattern pattern : parsedPatterns.excludePatterns) {
+			if (pattern.matches(path, pathMatcher)) {
+				return false;
+			}
+		}
+		if (parsedPatterns.includePatterns.length == 0) {
+			return true;
+		}
+		for (ParsedPattern pattern : parsedPatterns.includePatterns) {
+			if (pattern.matches(path, pathMatcher)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private ParsedPatterns obtainParsedPatterns(PathPatternParser patternParser) {
+		ParsedPatterns parsedPatterns = this.parsedPatterns;
+		if (parsedPatterns == null || parsedPatterns.parser != patternParser) {
+			parsedPatterns = new ParsedPatterns(patternParser, this.includePatterns, this.excludePatterns);
+			this.parsedPatterns = parsedPatterns;
+		}
+		return parsedPatterns;
+	}
+
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
 			throws Exception {
@@ -185,4 +252,71 @@ public final class MappedInterceptor implements HandlerInterceptor {
 		this.interceptor.afterCompletion(request, response, handler, ex);
 	}
 
+
+	/**
+	 * Include and exclude patterns parsed with a specific {@link PathPatternParser}.
+	 */
+	private static class ParsedPatterns {
+
+		final PathPatternParser parser;
+
+		final ParsedPattern[] includePatterns;
+
+		final ParsedPattern[] excludePatterns;
+
+		ParsedPatterns(PathPatternParser parser, @Nullable String[] includePatterns,
+				@Nullable String[] excludePatterns) {
+
+			this.parser = parser;
+			this.includePatterns = parse(parser, includePatterns);
+			this.excludePatterns = parse(parser, excludePatterns);
+		}
+
+		private static ParsedPattern[] parse(PathPatternParser parser, @Nullable String[] patterns) {
+			if (patterns == null) {
+				return new ParsedPattern[0];
+			}
+			ParsedPattern[] result = new ParsedPattern[patterns.length];
+			for (int i = 0; i < patterns.length; i++) {
+				result[i] = new ParsedPattern(parser, patterns[i]);
+			}
+			return result;
+		}
+	}
+
+
+	/**
+	 * A pattern along with its parsed {@link PathPattern}, if supported by the parser.
+	 */
+	private static class ParsedPattern {
+
+		private final String patternString;
+
+		@Nullable
+		private final PathPattern pathPattern;
+
+		ParsedPattern(PathPatternParser parser, String patternString) {
+			this.patternString = patternString;
+			this.pathPattern = parse(parser, patternString);
+		}
+
+		@Nullable
+		private static PathPattern parse(PathPatternParser parser, String patternString) {
+			try {
+				return parser.parse(patternString);
+			}
+			catch (PatternParseException ex) {
+				return null;
+			}
+		}
+
+		boolean matches(PathContainer path, PathMatcher pathMatcher) {
+			if (this.pathPattern != null) {
+				return this.pathPattern.matches(path);
+			}
+			String lookupPath = urlPathHelper.removeSemicolonContent(path.value());
+			return pathMatcher.match(this.patternString, lookupPath);
+		}
+	}
+
 }
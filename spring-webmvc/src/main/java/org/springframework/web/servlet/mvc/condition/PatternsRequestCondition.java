@@ -21,17 +21,24 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.servlet.http.HttpServletRequest;
 
+import org.springframework.http.server.PathContainer;
 import org.springframework.lang.Nullable;
 import org.springframework.util.AntPathMatcher;
+import org.springframework.util.Assert;
 import org.springframework.util.PathMatcher;
 import org.springframework.util.StringUtils;
+import org.springframework.web.util.ServletRequestPathUtils;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * A logical disjunction (' || ') request condition that matches a request
@@ -54,6 +61,12 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 
 	private final List<String> fileExtensions = new ArrayList<>();
 
+	@Nullable
+	private final PathPatternParser patternParser;
+
+	@Nullable
+	private final Map<String, PathPattern> pathPatterns;
+
 
 	/**
 	 * Creates a new instance with the given URL patterns.
@@ -61,7 +74,7 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 	 * @param patterns 0 or more URL patterns; if 0 the condition will match to every request.
 	 */
 	public PatternsRequestCondition(String... patterns) {
-		this(Arrays.asList(patterns), null, null, true, true, null);
+		this(Arrays.asList(patterns), null, null, true, true, null, null, null);
 	}
 
 	/**
@@ -76,7 +89,8 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 	public PatternsRequestCondition(String[] patterns, @Nullable UrlPathHelper urlPathHelper,
 			@Nullable PathMatcher pathMatcher, boolean useSuffixPatternMatch, boolean useTrailingSlashMatch) {
 
-		this(Arrays.asList(patterns), urlPathHelper, pathMatcher, useSuffixPatternMatch, useTrailingSlashMatch, null);
+		this(Arrays.asList(patterns), urlPathHelper, pathMatcher, useSuffixPatternMatch, useTrailingSlashMatch,
+				null, null, null);
 	}
 
 	/**
@@ -94,15 +108,42 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 			boolean useTrailingSlashMatch, @Nullable List<String> fileExtensions) {
 
 		this(Arrays.asList(patterns), urlPathHelper, pathMatcher, useSuffixPatternMatch,
-				useTrailingSlashMatch, fileExtensions);
+				useTrailingSlashMatch, fileExtensions, null, null);
+	}
+
+	/**
+	 * Variant of {@link #PatternsRequestCondition(String[], UrlPathHelper, PathMatcher,
+	 * boolean, boolean, List)} with a {@link PathPatternParser} to pre-parse the patterns
+	 * with. If specified, requests are matched by their
+	 * {@link ServletRequestPathUtils#parseAndCache parsed path} against the parsed
+	 * {@link PathPattern PathPatterns}, without suffix pattern matching, and with
+	 * trailing slash matching determined by the parser.
+	 * @param patterns the URL patterns to use; if 0, the condition will match to every request.
+	 * @param urlPathHelper a {@link UrlPathHelper} for determining the lookup path for a request
+	 * @param pathMatcher a {@link PathMatcher} for combining patterns
+	 * @param useSuffixPatternMatch whether to enable matching by suffix (".*")
+	 * @param useTrailingSlashMatch whether to match irrespective of a trailing slash
+	 * @param fileExtensions a list of file extensions to consider for path matching
+	 * @param patternParser the parser for the patterns, or {@code null} for String
+	 * path matching via the given {@link PathMatcher}
+	 * @since 5.0.3
+	 */
+	public PatternsRequestCondition(String[] patterns, @Nullable UrlPathHelper urlPathHelper,
+			@Nullable PathMatcher pathMatcher, boolean useSuffixPatternMatch, boolean useTrailingSlashMatch,
+			@Nullable List<String> fileExtensions, @Nullable PathPatternParser patternParser) {
+
+		this(Arrays.asList(patterns), urlPathHelper, pathMatcher, useSuffixPatternMatch,
+				useTrailingSlashMatch, fileExtensions, patternParser, null);
 	}
 
 	/**
-	 * Private constructor accepting a collection of patterns.
+	 * Private constructor accepting a collection of patterns, and optionally
+	 * previously parsed PathPatterns to reuse.
 	 */
 	private PatternsRequestCondition(Collection<String> patterns, @Nullable UrlPathHelper urlPathHelper,
 			@Nullable PathMatcher pathMatcher, boolean useSuffixPatternMatch,
-			boolean useTrailingSlashMatch, @Nullable List<String> fileExtensions) {
+			boolean useTrailingSlashMatch, @Nullable List<String> fileExtensions,
+			@Nullable PathPatternParser patternParser, @Nullable Map<String, PathPattern> parsedPatterns) {
 
 		this.patterns = Collections.unmodifiableSet(prependLeadingSlash(patterns));
 		this.pathHelper = (urlPathHelper != null ? urlPathHelper : new UrlPathHelper());
@@ -118,6 +159,18 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 				this.fileExtensions.add(fileExtension);
 			}
 		}
+
+		this.patternParser = patternParser;
+		if (patternParser != null) {
+			this.pathPatterns = new HashMap<>(this.patterns.size());
+			for (String pattern : this.patterns) {
+				PathPattern pathPattern = (parsedPatterns != null ? parsedPatterns.get(pattern) : null);
+				this.pathPatterns.put(pattern, (pathPattern != null ? pathPattern : patternParser.parse(pattern)));
+			}
+		}
+		else {
+			this.pathPatterns = null;
+		}
 	}
 
 
@@ -136,6 +189,16 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 		return this.patterns;
 	}
 
+	/**
+	 * Return the parsed {@link PathPattern} for the given pattern of this condition,
+	 * or {@code null} if this condition does not use a {@link PathPatternParser}.
+	 * @since 5.0.3
+	 */
+	@Nullable
+	public PathPattern getPathPattern(String pattern) {
+		return (this.pathPatterns != null ? this.pathPatterns.get(pattern) : null);
+	}
+
 	@Override
 	protected Collection<String> getContent() {
 		return this.patterns;
@@ -176,7 +239,7 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 			result.add("");
 		}
 		return new PatternsRequestCondition(result, this.pathHelper, this.pathMatcher, this.useSuffixPatternMatch,
-				this.useTrailingSlashMatch, this.fileExtensions);
+				this.useTrailingSlashMatch, this.fileExtensions, this.patternParser, null);
 	}
 
 	/**
@@ -203,12 +266,33 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 			return this;
 		}
 
+		if (this.pathPatterns != null) {
+			PathContainer path = ServletRequestPathUtils.parseAndCache(request).pathWithinApplication();
+			List<PathPattern> matches = new ArrayList<>();
+			for (PathPattern pathPattern : this.pathPatterns.values()) {
+				if (pathPattern.matches(path)) {
+					matches.add(pathPattern);
+				}
+			}
+			if (matches.isEmpty()) {
+				return null;
+			}
+			Collections.sort(matches);
+			List<String> matchingPatterns = new ArrayList<>(matches.size());
+			for (PathPattern match : matches) {
+				matchingPatterns.add(match.getPatternString());
+			}
+			return new PatternsRequestCondition(matchingPatterns, this.pathHelper, this.pathMatcher,
+					this.useSuffixPatternMatch, this.useTrailingSlashMatch, this.fileExtensions,
+					this.patternParser, this.pathPatterns);
+		}
+
 		String lookupPath = this.pathHelper.getLookupPathForRequest(request);
 		List<String> matches = getMatchingPatterns(lookupPath);
 
 		return matches.isEmpty() ? null :
 			new PatternsRequestCondition(matches, this.pathHelper, this.pathMatcher, this.useSuffixPatternMatch,
-					this.useTrailingSlashMatch, this.fileExtensions);
+					this.useTrailingSlashMatch, this.fileExtensions, null, null);
 	}
 
 	/**
@@ -276,6 +360,9 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 	 */
 	@Override
 	public int compareTo(PatternsRequestCondition other, HttpServletRequest request) {
+		if (this.pathPatterns != null && other.pathPatterns != null) {
+			return compareParsedPatterns(other);
+		}
 		String lookupPath = this.pathHelper.getLookupPathForRequest(request);
 		Comparator<String> patternComparator = this.pathMatcher.getPatternComparator(lookupPath);
 		Iterator<String> iterator = this.patterns.iterator();
@@ -297,4 +384,27 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 		}
 	}
 
+	private int compareParsedPatterns(PatternsRequestCondition other) {
+		Assert.state(this.pathPatterns != null && other.pathPatterns != null, "No parsed patterns");
+		Iterator<String> iterator = this.patterns.iterator();
+		Iterator<String> iteratorOther = other.patterns.iterator();
+		while (iterator.hasNext() && iteratorOther.hasNext()) {
+			PathPattern pattern = this.pathPatterns.get(iterator.next());
+			PathPattern patternOther = other.pathPatterns.get(iteratorOther.next());
+			int result = PathPattern.SPECIFICITY_COMPARATOR.compare(pattern, patternOther);
+			if (result != 0) {
+				return result;
+			}
+		}
+		if (iterator.hasNext()) {
+			return -1;
+		}
+		else if (iteratorOther.hasNext()) {
+			return 1;
+		}
+		else {
+			return 0;
+		}
+	}
+
 }
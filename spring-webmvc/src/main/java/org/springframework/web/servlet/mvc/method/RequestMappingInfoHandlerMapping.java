@@ -33,8 +33,11 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -45,7 +48,9 @@ import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.handler.AbstractHandlerMethodMapping;
 import org.springframework.web.servlet.mvc.condition.NameValueExpression;
+import org.springframework.web.util.ServletRequestPathUtils;
 import org.springframework.web.util.WebUtils;
+import org.springframework.web.util.pattern.PathPattern;
 
 /**
  * Abstract base class for classes for which {@link RequestMappingInfo} defines
@@ -83,6 +88,23 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 		return info.getPatternsCondition().getPatterns();
 	}
 
+	/**
+	 * Narrow down the mappings to check by the first segment of the lookup path
+	 * as long as patterns are matched as {@link #usesPathPatterns() PathPatterns}
+	 * or the configured {@link #getPathMatcher() PathMatcher} is a plain
+	 * {@link AntPathMatcher} with the default "/" path separator.
+	 * @since 5.0.3
+	 */
+	@Override
+	protected boolean isPathPatternIndexSupported() {
+		if (usesPathPatterns()) {
+			return true;
+		}
+		PathMatcher pathMatcher = getPathMatcher();
+		// The index splits on '/': AntPathMatcher joins patterns with its path separator
+		return (pathMatcher.getClass() == AntPathMatcher.class && "a/b".equals(pathMatcher.combine("a", "b")));
+	}
+
 	/**
 	 * Check if the given RequestMappingInfo matches the current request and
 	 * return a (potentially new) instance with conditions that match the
@@ -117,11 +139,27 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 	protected void handleMatch(RequestMappingInfo info, String lookupPath, HttpServletRequest request) {
 		super.handleMatch(info, lookupPath, request);
 
+		Set<String> patterns = info.getPatternsCondition().getPatterns();
+		PathPattern pathPattern = (!patterns.isEmpty() ?
+				info.getPatternsCondition().getPathPattern(patterns.iterator().next()) : null);
+		if (pathPattern != null) {
+			handlePathPatternMatch(pathPattern, request);
+		}
+		else {
+			handleLookupPathMatch(patterns, lookupPath, request);
+		}
+
+		if (!info.getProducesCondition().getProducibleMediaTypes().isEmpty()) {
+			Set<MediaType> mediaTypes = info.getProducesCondition().getProducibleMediaTypes();
+			request.setAttribute(PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, mediaTypes);
+		}
+	}
+
+	private void handleLookupPathMatch(Set<String> patterns, String lookupPath, HttpServletRequest request) {
 		String bestPattern;
 		Map<String, String> uriVariables;
 		Map<String, String> decodedUriVariables;
 
-		Set<String> patterns = info.getPatternsCondition().getPatterns();
 		if (patterns.isEmpty()) {
 			bestPattern = lookupPath;
 			uriVariables = Collections.emptyMap();
@@ -140,10 +178,20 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 			Map<String, MultiValueMap<String, String>> matrixVars = extractMatrixVariables(request, uriVariables);
 			request.setAttribute(HandlerMapping.MATRIX_VARIABLES_ATTRIBUTE, matrixVars);
 		}
+	}
 
-		if (!info.getProducesCondition().getProducibleMediaTypes().isEmpty()) {
-			Set<MediaType> mediaTypes = info.getProducesCondition().getProducibleMediaTypes();
-			request.setAttribute(PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, mediaTypes);
+	/**
+	 * Expose URI template variables and matrix variables as extracted by the
+	 * given parsed pattern from the parsed request path.
+	 */
+	private void handlePathPatternMatch(PathPattern pathPattern, HttpServletRequest request) {
+		PathContainer path = ServletRequestPathUtils.parseAndCache(request).pathWithinApplication();
+		PathPattern.PathMatchInfo matchInfo = pathPattern.matchAndExtract(path);
+		Map<String, String> uriVariables = (matchInfo != null ? matchInfo.getUriVariables() : Collections.emptyMap());
+		request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, pathPattern.getPatternString());
+		request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, uriVariables);
+		if (matchInfo != null) {
+			request.setAttribute(HandlerMapping.MATRIX_VARIABLES_ATTRIBUTE, matchInfo.getMatrixVariables());
 		}
 	}
 
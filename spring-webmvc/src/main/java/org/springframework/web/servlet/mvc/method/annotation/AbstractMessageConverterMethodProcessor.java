@@ -25,7 +25,9 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -83,6 +85,8 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 	private static final Type RESOURCE_REGION_LIST_TYPE =
 			new ParameterizedTypeReference<List<ResourceRegion>>() { }.getType();
 
+	private static final int MEDIA_TYPE_CACHE_LIMIT = 256;
+
 
 	private static final UrlPathHelper decodingUrlPathHelper = new UrlPathHelper();
 
@@ -100,6 +104,8 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 
 	private final Set<String> safeExtensions = new HashSet<>();
 
+	private final Map<MediaTypeNegotiationKey, MediaType> selectedMediaTypeCache = new ConcurrentHashMap<>(64);
+
 
 	/**
 	 * Constructor with list of converters only.
@@ -221,38 +227,49 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 			throw new HttpMessageNotWritableException("No converter found for return value of type: " + valueType);
 		}
 
-		Set<MediaType> compatibleMediaTypes = new LinkedHashSet<>();
-		for (MediaType requestedType : requestedMediaTypes) {
-			for (MediaType producibleType : producibleMediaTypes) {
-				if (requestedType.isCompatibleWith(producibleType)) {
-					compatibleMediaTypes.add(getMostSpecificMediaType(requestedType, producibleType));
+		MediaTypeNegotiationKey cacheKey = new MediaTypeNegotiationKey(requestedMediaTypes, producibleMediaTypes);
+		MediaType selectedMediaType = this.selectedMediaTypeCache.get(cacheKey);
+		if (selectedMediaType == null) {
+			Set<MediaType> compatibleMediaTypes = new LinkedHashSet<>();
+			for (MediaType requestedType : requestedMediaTypes) {
+				for (MediaType producibleType : producibleMediaTypes) {
+					if (requestedType.isCompatibleWith(producibleType)) {
+						compatibleMediaTypes.add(getMostSpecificMediaType(requestedType, producibleType));
+					}
 				}
 			}
-		}
-		if (compatibleMediaTypes.isEmpty()) {
-			if (outputValue != null) {
-				throw new HttpMediaTypeNotAcceptableException(producibleMediaTypes);
+			if (compatibleMediaTypes.isEmpty()) {
+				if (outputValue != null) {
+					throw new HttpMediaTypeNotAcceptableException(producibleMediaTypes);
+				}
+				return;
 			}
-			return;
-		}
 
-		List<MediaType> mediaTypes = new ArrayList<>(compatibleMediaTypes);
-		MediaType.sortBySpecificityAndQuality(mediaTypes);
+			List<MediaType> mediaTypes = new ArrayList<>(compatibleMediaTypes);
+			MediaType.sortBySpecificityAndQuality(mediaTypes);
 
-		MediaType selectedMediaType = null;
-		for (MediaType mediaType : mediaTypes) {
-			if (mediaType.isConcrete()) {
-				selectedMediaType = mediaType;
-				break;
+			for (MediaType mediaType : mediaTypes) {
+				if (mediaType.isConcrete()) {
+					selectedMediaType = mediaType;
+					break;
+				}
+				else if (mediaType.equals(MediaType.ALL) || mediaType.equals(MEDIA_TYPE_APPLICATION)) {
+					selectedMediaType = MediaType.APPLICATION_OCTET_STREAM;
+					break;
+				}
 			}
-			else if (mediaType.equals(MediaType.ALL) || mediaType.equals(MEDIA_TYPE_APPLICATION)) {
-				selectedMediaType = MediaType.APPLICATION_OCTET_STREAM;
-				break;
+
+			if (selectedMediaType != null) {
+				selectedMediaType = selectedMediaType.removeQualityValue();
+				if (this.selectedMediaTypeCache.size() >= MEDIA_TYPE_CACHE_LIMIT) {
+					this.selectedMediaTypeCache.clear();
+				}
+				this.selectedMediaTypeCache.put(new MediaTypeNegotiationKey(
+						new ArrayList<>(requestedMediaTypes), new ArrayList<>(producibleMediaTypes)), selectedMediaType);
 			}
 		}
 
 		if (selectedMediaType != null) {
-			selectedMediaType = selectedMediaType.removeQualityValue();
 			for (HttpMessageConverter<?> converter : this.messageConverters) {
 				GenericHttpMessageConverter genericConverter =
 						(converter instanceof GenericHttpMessageConverter ? (GenericHttpMessageConverter<?>) converter : null);
@@ -470,4 +487,42 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 				mediaType.getSubtype().endsWith("+xml"));
 	}
 
+
+	/**
+	 * Cache key for the media type selected for a combination of acceptable
+	 * and producible media types.
+	 */
+	private static final class MediaTypeNegotiationKey {
+
+		private final List<MediaType> acceptableMediaTypes;
+
+		private final List<MediaType> producibleMediaTypes;
+
+		private final int hashCode;
+
+		public MediaTypeNegotiationKey(List<MediaType> acceptableMediaTypes, List<MediaType> producibleMediaTypes) {
+			this.acceptableMediaTypes = acceptableMediaTypes;
+			this.producibleMediaTypes = producibleMediaTypes;
+			this.hashCode = acceptableMediaTypes.hashCode() * 31 + producibleMediaTypes.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof MediaTypeNegotiationKey)) {
+				return false;
+			}
+			MediaTypeNegotiationKey otherKey = (MediaTypeNegotiationKey) other;
+			return (this.acceptableMediaTypes.equals(otherKey.acceptableMediaTypes) &&
+					this.producibleMediaTypes.equals(otherKey.producibleMediaTypes));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
 }
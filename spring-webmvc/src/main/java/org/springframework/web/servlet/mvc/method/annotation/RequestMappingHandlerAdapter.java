@@ -154,6 +154,8 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 
 	private ReactiveAdapterRegistry reactiveRegistry = ReactiveAdapterRegistry.getSharedInstance();
 
+	private int emitterNonBlockingWriteLimit = -1;
+
 	private boolean ignoreDefaultModelOnRedirect = false;
 
 	private int cacheSecondsForSessionAttributeHandlers = 0;
@@ -442,6 +444,19 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		return this.reactiveRegistry;
 	}
 
+	/**
+	 * Enable Servlet 3.1 non-blocking writes for {@link ResponseBodyEmitter} and
+	 * {@link SseEmitter} return values, buffering up to the given number of
+	 * bytes per emitter while the client is not ready for more data.
+	 * <p>By default this is set to -1, i.e. emitted objects are written with
+	 * blocking I/O.
+	 * @since 5.0.3
+	 * @see ResponseBodyEmitterReturnValueHandler#setNonBlockingWriteLimit
+	 */
+	public void setEmitterNonBlockingWriteLimit(int emitterNonBlockingWriteLimit) {
+		this.emitterNonBlockingWriteLimit = emitterNonBlockingWriteLimit;
+	}
+
 	/**
 	 * By default the content of the "default" model is used both during
 	 * rendering and redirect scenarios. Alternatively a controller method
@@ -702,8 +717,10 @@ public class RequestMappingHandlerAdapter extends AbstractHandlerMethodAdapter
 		handlers.add(new ModelAndViewMethodReturnValueHandler());
 		handlers.add(new ModelMethodProcessor());
 		handlers.add(new ViewMethodReturnValueHandler());
-		handlers.add(new ResponseBodyEmitterReturnValueHandler(getMessageConverters(),
-				this.reactiveRegistry, this.taskExecutor, this.contentNegotiationManager));
+		ResponseBodyEmitterReturnValueHandler emitterHandler = new ResponseBodyEmitterReturnValueHandler(
+				getMessageConverters(), this.reactiveRegistry, this.taskExecutor, this.contentNegotiationManager);
+		emitterHandler.setNonBlockingWriteLimit(this.emitterNonBlockingWriteLimit);
+		handlers.add(emitterHandler);
 		handlers.add(new StreamingResponseBodyReturnValueHandler());
 		handlers.add(new HttpEntityMethodProcessor(getMessageConverters(),
 				this.contentNegotiationManager, this.requestResponseBodyAdvice));
@@ -169,6 +169,31 @@ public class ResponseBodyEmitter {
 		sendInternal(object, mediaType);
 	}
 
+	/**
+	 * Write a set of objects, e.g. the parts of an SSE event, as a single unit:
+	 * the handler writes them all before flushing the response once.
+	 * @param items the objects to write along with their MediaType hints
+	 * @throws IOException raised when an I/O error occurs
+	 * @since 5.0.3
+	 */
+	synchronized void send(Set<DataWithMediaType> items) throws IOException {
+		Assert.state(!this.complete, "ResponseBodyEmitter is already set complete");
+		if (this.handler != null) {
+			try {
+				this.handler.send(items);
+			}
+			catch (IOException ex) {
+				throw ex;
+			}
+			catch (Throwable ex) {
+				throw new IllegalStateException("Failed to send " + items, ex);
+			}
+		}
+		else {
+			this.earlySendAttempts.addAll(items);
+		}
+	}
+
 	private void sendInternal(Object object, @Nullable MediaType mediaType) throws IOException {
 		if (this.handler != null) {
 			try {
@@ -253,6 +278,12 @@ public class ResponseBodyEmitter {
 
 		void send(Object data, @Nullable MediaType mediaType) throws IOException;
 
+		default void send(Set<DataWithMediaType> items) throws IOException {
+			for (DataWithMediaType item : items) {
+				send(item.getData(), item.getMediaType());
+			}
+		}
+
 		void complete();
 
 		void completeWithError(Throwable failure);
@@ -16,12 +16,18 @@
 
 package org.springframework.web.servlet.mvc.method.annotation;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
+import javax.servlet.ServletOutputStream;
 import javax.servlet.ServletRequest;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.logging.Log;
@@ -47,6 +53,7 @@ import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
 
 /**
  * Handler for return values of type {@link ResponseBodyEmitter} and sub-classes
@@ -56,6 +63,9 @@ import org.springframework.web.method.support.ModelAndViewContainer;
  * <p>As of 5.0 also supports reactive return value types for any reactive
  * library with registered adapters in {@link ReactiveAdapterRegistry}.
  *
+ * <p>As of 5.0.3, emitted objects may optionally be written with Servlet 3.1
+ * non-blocking I/O, see {@link #setNonBlockingWriteLimit(int)}.
+ *
  * @author Rossen Stoyanchev
  * @since 4.2
  */
@@ -68,6 +78,8 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 
 	private final ReactiveTypeHandler reactiveHandler;
 
+	private int nonBlockingWriteLimit = -1;
+
 
 	/**
 	 * Simple constructor with reactive type support based on a default instance of
@@ -101,6 +113,38 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 	}
 
 
+	/**
+	 * Enable Servlet 3.1 non-blocking writes for emitted objects, buffering up
+	 * to the given number of bytes per emitter while the client is not ready
+	 * to receive more data.
+	 * <p>Each emitted object is serialized into memory and written from a
+	 * {@link WriteListener} whenever the container reports the connection as
+	 * ready, so that {@link ResponseBodyEmitter#send} does not block on slow
+	 * clients. If earlier writes for an emitter are still pending and the new
+	 * bytes would exceed the limit, {@code send} fails with an {@link IOException},
+	 * allowing the application to detect and drop clients that cannot keep up.
+	 * A write is always accepted when nothing is pending, so a limit of 0 allows
+	 * one emitted object in flight at a time. For an {@link SseEmitter}, the
+	 * limit applies to each event as a whole rather than to its individual lines.
+	 * <p>By default this is set to -1, in which case emitted objects are written
+	 * with blocking I/O from the thread that calls {@code send}.
+	 * @param nonBlockingWriteLimit the maximum number of bytes to buffer per
+	 * emitter, or -1 for blocking writes
+	 * @since 5.0.3
+	 */
+	public void setNonBlockingWriteLimit(int nonBlockingWriteLimit) {
+		this.nonBlockingWriteLimit = nonBlockingWriteLimit;
+	}
+
+	/**
+	 * Return the configured non-blocking write limit, or -1 if not enabled.
+	 * @since 5.0.3
+	 */
+	public int getNonBlockingWriteLimit() {
+		return this.nonBlockingWriteLimit;
+	}
+
+
 	@Override
 	public boolean supportsReturnType(MethodParameter returnType) {
 
@@ -160,12 +204,20 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 		// Commit the response and wrap to ignore further header changes
 		outputMessage.getBody();
 		outputMessage.flush();
-		outputMessage = new StreamingServletServerHttpResponse(outputMessage);
 
 		DeferredResult<?> deferredResult = new DeferredResult<>(emitter.getTimeout());
 		WebAsyncUtils.getAsyncManager(webRequest).startDeferredResultProcessing(deferredResult, mavContainer);
 
-		HttpMessageConvertingHandler handler = new HttpMessageConvertingHandler(outputMessage, deferredResult);
+		NonBlockingServletServerHttpResponse nonBlockingResponse = null;
+		if (this.nonBlockingWriteLimit >= 0 && request.isAsyncStarted()) {
+			nonBlockingResponse = NonBlockingServletServerHttpResponse.create(
+					outputMessage, response, this.nonBlockingWriteLimit, deferredResult::setErrorResult);
+		}
+		outputMessage = (nonBlockingResponse != null ? nonBlockingResponse :
+				new StreamingServletServerHttpResponse(outputMessage));
+
+		HttpMessageConvertingHandler handler =
+				new HttpMessageConvertingHandler(outputMessage, nonBlockingResponse, deferredResult);
 		emitter.initialize(handler);
 	}
 
@@ -177,16 +229,32 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 
 		private final ServerHttpResponse outputMessage;
 
+		@Nullable
+		private final NonBlockingServletServerHttpResponse nonBlockingResponse;
+
 		private final DeferredResult<?> deferredResult;
 
-		public HttpMessageConvertingHandler(ServerHttpResponse outputMessage, DeferredResult<?> deferredResult) {
+		public HttpMessageConvertingHandler(ServerHttpResponse outputMessage,
+				@Nullable NonBlockingServletServerHttpResponse nonBlockingResponse, DeferredResult<?> deferredResult) {
+
 			this.outputMessage = outputMessage;
+			this.nonBlockingResponse = nonBlockingResponse;
 			this.deferredResult = deferredResult;
 		}
 
 		@Override
 		public void send(Object data, @Nullable MediaType mediaType) throws IOException {
 			sendInternal(data, mediaType);
+			this.outputMessage.flush();
+		}
+
+		@Override
+		public void send(Set<DataWithMediaType> items) throws IOException {
+			// Flush once, so that a non-blocking write limit applies to all items together
+			for (DataWithMediaType item : items) {
+				sendInternal(item.getData(), item.getMediaType());
+			}
+			this.outputMessage.flush();
 		}
 
 		@SuppressWarnings("unchecked")
@@ -197,7 +265,6 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 			for (HttpMessageConverter<?> converter : ResponseBodyEmitterReturnValueHandler.this.messageConverters) {
 				if (converter.canWrite(data.getClass(), mediaType)) {
 					((HttpMessageConverter<T>) converter).write(data, mediaType, this.outputMessage);
-					this.outputMessage.flush();
 					return;
 				}
 			}
@@ -206,7 +273,13 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 
 		@Override
 		public void complete() {
-			this.deferredResult.setResult(null);
+			if (this.nonBlockingResponse != null) {
+				// Complete only once pending writes have been handed to the container
+				this.nonBlockingResponse.whenWritten(() -> this.deferredResult.setResult(null));
+			}
+			else {
+				this.deferredResult.setResult(null);
+			}
 		}
 
 		@Override
@@ -272,4 +345,170 @@ public class ResponseBodyEmitterReturnValueHandler implements HandlerMethodRetur
 		}
 	}
 
+
+	/**
+	 * Variant of {@link StreamingServletServerHttpResponse} that collects the
+	 * output of each converter write in memory and writes it to the response
+	 * with Servlet 3.1 non-blocking I/O, buffering up to a given number of
+	 * bytes while the container is not ready for more data.
+	 */
+	private static class NonBlockingServletServerHttpResponse implements ServerHttpResponse, WriteListener {
+
+		private final ServerHttpResponse delegate;
+
+		private final HttpHeaders mutableHeaders = new HttpHeaders();
+
+		private final ServletOutputStream outputStream;
+
+		private final int writeLimit;
+
+		private final Consumer<Throwable> errorHandler;
+
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+
+		private final Deque<byte[]> pendingWrites = new ArrayDeque<>();
+
+		private int pendingBytes;
+
+		private boolean flushPending;
+
+		@Nullable
+		private Runnable writtenCallback;
+
+		@Nullable
+		private Throwable failure;
+
+		private NonBlockingServletServerHttpResponse(ServerHttpResponse delegate, ServletOutputStream outputStream,
+				int writeLimit, Consumer<Throwable> errorHandler) {
+
+			this.delegate = delegate;
+			this.mutableHeaders.putAll(delegate.getHeaders());
+			this.outputStream = outputStream;
+			this.writeLimit = writeLimit;
+			this.errorHandler = errorHandler;
+		}
+
+		/**
+		 * Register a WriteListener on the response, or return {@code null} if
+		 * the container does not support non-blocking writes for it.
+		 */
+		@Nullable
+		public static NonBlockingServletServerHttpResponse create(ServerHttpResponse delegate,
+				HttpServletResponse servletResponse, int writeLimit, Consumer<Throwable> errorHandler)
+				throws IOException {
+
+			ServletOutputStream outputStream = servletResponse.getOutputStream();
+			NonBlockingServletServerHttpResponse response =
+					new NonBlockingServletServerHttpResponse(delegate, outputStream, writeLimit, errorHandler);
+			try {
+				outputStream.setWriteListener(response);
+				return response;
+			}
+			catch (IllegalStateException | UnsupportedOperationException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Non-blocking writes not supported, falling back on blocking writes: " + ex);
+				}
+				return null;
+			}
+		}
+
+		@Override
+		public void setStatusCode(HttpStatus status) {
+			this.delegate.setStatusCode(status);
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.mutableHeaders;
+		}
+
+		@Override
+		public OutputStream getBody() {
+			return this.body;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			synchronized (this) {
+				if (this.failure != null) {
+					this.body.reset();
+					throw new IOException("Response write failed", this.failure);
+				}
+				if (this.body.size() == 0) {
+					return;
+				}
+				// Always accept a write if nothing is pending, even if larger than the limit
+				if (!this.pendingWrites.isEmpty() && this.pendingBytes + this.body.size() > this.writeLimit) {
+					int size = this.body.size();
+					this.body.reset();
+					throw new IOException("Cannot write " + size + " bytes: client not keeping up, " +
+							this.pendingBytes + " bytes already pending (limit " + this.writeLimit + ")");
+				}
+				this.pendingWrites.add(this.body.toByteArray());
+				this.pendingBytes += this.body.size();
+				this.body.reset();
+				writePending();
+			}
+		}
+
+		@Override
+		public void close() {
+			this.delegate.close();
+		}
+
+		/**
+		 * Invoke the given callback once all pending writes have been handed
+		 * to the container, immediately if there are none.
+		 */
+		public void whenWritten(Runnable callback) {
+			synchronized (this) {
+				if (this.failure == null && (!this.pendingWrites.isEmpty() || this.flushPending)) {
+					this.writtenCallback = callback;
+					return;
+				}
+			}
+			callback.run();
+		}
+
+		@Override
+		public void onWritePossible() throws IOException {
+			Runnable callback = null;
+			synchronized (this) {
+				writePending();
+				if (this.writtenCallback != null && this.pendingWrites.isEmpty() && !this.flushPending) {
+					callback = this.writtenCallback;
+					this.writtenCallback = null;
+				}
+			}
+			if (callback != null) {
+				callback.run();
+			}
+		}
+
+		@Override
+		public void onError(Throwable ex) {
+			synchronized (this) {
+				this.failure = ex;
+				this.pendingWrites.clear();
+				this.pendingBytes = 0;
+				this.flushPending = false;
+				this.writtenCallback = null;
+			}
+			this.errorHandler.accept(ex);
+		}
+
+		private void writePending() throws IOException {
+			while (!this.pendingWrites.isEmpty() && this.outputStream.isReady()) {
+				byte[] bytes = this.pendingWrites.poll();
+				this.pendingBytes -= bytes.length;
+				this.outputStream.write(bytes);
+				this.flushPending = true;
+			}
+			if (this.flushPending && this.pendingWrites.isEmpty() && this.outputStream.isReady()) {
+				this.outputStream.flush();
+				this.flushPending = false;
+			}
+		}
+	}
+
 }
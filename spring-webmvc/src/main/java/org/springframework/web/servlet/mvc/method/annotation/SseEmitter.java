@@ -120,11 +120,7 @@ public class SseEmitter extends ResponseBodyEmitter {
 	 */
 	public void send(SseEventBuilder builder) throws IOException {
 		Set<DataWithMediaType> dataToSend = builder.build();
-		synchronized (this) {
-			for (DataWithMediaType entry : dataToSend) {
-				super.send(entry.getData(), entry.getMediaType());
-			}
-		}
+		super.send(dataToSend);
 	}
 
 	@Override
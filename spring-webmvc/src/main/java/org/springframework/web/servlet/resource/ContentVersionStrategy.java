@@ -17,16 +17,23 @@
 package org.springframework.web.servlet.resource;
 
 import java.io.IOException;
+import java.io.InputStream;
 
+import org.springframework.cache.concurrent.BoundedConcurrentMapCache;
 import org.springframework.core.io.Resource;
 import org.springframework.util.DigestUtils;
-import org.springframework.util.FileCopyUtils;
 
 /**
  * A {@code VersionStrategy} that calculates an Hex MD5 hashes from the content
  * of the resource and appends it to the file name, e.g.
  * {@code "styles/main-e36d2e05253c6c7085a91522ce43a0b4.css"}.
  *
+ * <p>Calculated hashes are kept for each resource as long as its
+ * {@link Resource#lastModified() last-modified} timestamp does not change,
+ * so the content is only read again once the resource has been updated.
+ * At most {@link BoundedConcurrentMapCache#DEFAULT_CACHE_LIMIT} hashes are
+ * kept, evicting the ones of the least recently used resources.
+ *
  * @author Brian Clozel
  * @author Rossen Stoyanchev
  * @since 4.1
@@ -34,19 +41,58 @@ import org.springframework.util.FileCopyUtils;
  */
 public class ContentVersionStrategy extends AbstractVersionStrategy {
 
+	private final BoundedConcurrentMapCache versionCache =
+			new BoundedConcurrentMapCache(ContentVersionStrategy.class.getName(),
+					BoundedConcurrentMapCache.DEFAULT_CACHE_LIMIT, false);
+
+
 	public ContentVersionStrategy() {
 		super(new FileNameVersionPathStrategy());
 	}
 
 	@Override
 	public String getResourceVersion(Resource resource) {
-		try {
-			byte[] content = FileCopyUtils.copyToByteArray(resource.getInputStream());
-			return DigestUtils.md5DigestAsHex(content);
+		long lastModified = getLastModified(resource);
+		if (lastModified > 0) {
+			ResourceVersion cached = this.versionCache.get(resource, ResourceVersion.class);
+			if (cached != null && cached.lastModified == lastModified) {
+				return cached.version;
+			}
+		}
+		String version;
+		try (InputStream inputStream = resource.getInputStream()) {
+			version = DigestUtils.md5DigestAsHex(inputStream);
 		}
 		catch (IOException ex) {
 			throw new IllegalStateException("Failed to calculate hash for " + resource, ex);
 		}
+		if (lastModified > 0) {
+			this.versionCache.put(resource, new ResourceVersion(version, lastModified));
+		}
+		return version;
+	}
+
+	private static long getLastModified(Resource resource) {
+		try {
+			return resource.lastModified();
+		}
+		catch (IOException ex) {
+			// Not able to detect changes: calculate the hash every time
+			return 0;
+		}
+	}
+
+
+	private static class ResourceVersion {
+
+		private final String version;
+
+		private final long lastModified;
+
+		public ResourceVersion(String version, long lastModified) {
+			this.version = version;
+			this.lastModified = lastModified;
+		}
 	}
 
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.web.servlet.resource;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
@@ -24,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.servlet.ServletException;
+import javax.servlet.ServletResponseWrapper;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -35,6 +37,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.EmbeddedValueResolverAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.ResourceRegion;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRange;
@@ -100,6 +103,14 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 
 	private static final String URL_RESOURCE_CHARSET_PREFIX = "[charset=";
 
+	private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+	private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+	private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+	private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
 
 	private final List<String> locationValues = new ArrayList<>(4);
 
@@ -132,6 +143,8 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 	@Nullable
 	private StringValueResolver embeddedValueResolver;
 
+	private boolean useSendfile = false;
+
 
 	public ResourceHttpRequestHandler() {
 		super(HttpMethod.GET.name(), HttpMethod.HEAD.name());
@@ -303,6 +316,31 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		return this.urlPathHelper;
 	}
 
+	/**
+	 * Whether to hand file system resources over to the Servlet container
+	 * for zero-copy transfer ("sendfile") instead of copying their content
+	 * through the response output stream.
+	 * <p>This only applies if the container advertises sendfile support for
+	 * the current request, as Tomcat does through the
+	 * {@code org.apache.tomcat.sendfile.support} request attribute, and only
+	 * to full content and single range requests. Since the content bypasses
+	 * the response entirely, sendfile is not used for responses wrapped by a
+	 * filter, e.g. one that inspects or transforms the response body.
+	 * <p>By default this is set to {@code false}.
+	 * @since 5.0.3
+	 */
+	public void setUseSendfile(boolean useSendfile) {
+		this.useSendfile = useSendfile;
+	}
+
+	/**
+	 * Whether resources may be served through the container's sendfile support.
+	 * @since 5.0.3
+	 */
+	public boolean isUseSendfile() {
+		return this.useSendfile;
+	}
+
 	@Override
 	public void setEmbeddedValueResolver(StringValueResolver resolver) {
 		this.embeddedValueResolver = resolver;
@@ -484,7 +522,9 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		if (request.getHeader(HttpHeaders.RANGE) == null) {
 			Assert.state(this.resourceHttpMessageConverter != null, "Not initialized");
 			setHeaders(response, resource, mediaType);
-			this.resourceHttpMessageConverter.write(resource, mediaType, outputMessage);
+			if (!sendfile(request, response, resource, 0, resource.contentLength())) {
+				this.resourceHttpMessageConverter.write(resource, mediaType, outputMessage);
+			}
 		}
 		else {
 			Assert.state(this.resourceRegionHttpMessageConverter != null, "Not initialized");
@@ -492,9 +532,23 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 			ServletServerHttpRequest inputMessage = new ServletServerHttpRequest(request);
 			try {
 				List<HttpRange> httpRanges = inputMessage.getHeaders().getRange();
+				List<ResourceRegion> regions = HttpRange.toResourceRegions(httpRanges, resource);
 				response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
-				this.resourceRegionHttpMessageConverter.write(
-						HttpRange.toResourceRegions(httpRanges, resource), mediaType, outputMessage);
+				if (regions.size() == 1 && isSendfileSupported(request, response, resource)) {
+					ResourceRegion region = regions.get(0);
+					long start = region.getPosition();
+					long end = start + region.getCount();
+					if (mediaType != null) {
+						response.setContentType(mediaType.toString());
+					}
+					response.setHeader("Content-Range",
+							"bytes " + start + '-' + (end - 1) + '/' + resource.contentLength());
+					response.setContentLengthLong(region.getCount());
+					if (sendfile(request, response, resource, start, end)) {
+						return;
+					}
+				}
+				this.resourceRegionHttpMessageConverter.write(regions, mediaType, outputMessage);
 			}
 			catch (IllegalArgumentException ex) {
 				response.setHeader("Content-Range", "bytes */" + resource.contentLength());
@@ -630,6 +684,46 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 				this.contentNegotiationStrategy.getMediaTypeForResource(resource) : null);
 	}
 
+	private boolean isSendfileSupported(HttpServletRequest request, HttpServletResponse response,
+			Resource resource) {
+
+		// A wrapped response might not expect its body to bypass it (same check as Tomcat's DefaultServlet)
+		return (this.useSendfile && resource.isFile() && !(response instanceof ServletResponseWrapper) &&
+				Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE)));
+	}
+
+	/**
+	 * Ask the Servlet container to write the given byte range of the resource
+	 * directly from the file system, if supported for the current request.
+	 * @param start the position of the first byte to write
+	 * @param end the position after the last byte to write
+	 * @return {@code true} if the container took over writing the content,
+	 * or {@code false} if the content remains to be written to the response
+	 */
+	private boolean sendfile(HttpServletRequest request, HttpServletResponse response,
+			Resource resource, long start, long end) {
+
+		if (!isSendfileSupported(request, response, resource)) {
+			return false;
+		}
+		try {
+			File file = resource.getFile();
+			request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.getCanonicalPath());
+		}
+		catch (IOException ex) {
+			if (logger.isTraceEnabled()) {
+				logger.trace("Cannot use sendfile for " + resource + ": " + ex);
+			}
+			return false;
+		}
+		request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+		request.setAttribute(SENDFILE_END_ATTRIBUTE, end);
+		if (logger.isTraceEnabled()) {
+			logger.trace("Serving " + resource + " through container sendfile support");
+		}
+		return true;
+	}
+
 	/**
 	 * Set headers on the given servlet response.
 	 * Called for GET requests as well as HEAD requests.
@@ -221,7 +221,7 @@ public class ResourceUrlProvider implements ApplicationListener<ContextRefreshed
 			logger.trace("Getting resource URL for lookup path \"" + lookupPath + "\"");
 		}
 
-		List<String> matchingPatterns = new ArrayList<>();
+		List<String> matchingPatterns = new ArrayList<>(2);
 		for (String pattern : this.handlerMap.keySet()) {
 			if (getPathMatcher().match(pattern, lookupPath)) {
 				matchingPatterns.add(pattern);
@@ -229,8 +229,10 @@ public class ResourceUrlProvider implements ApplicationListener<ContextRefreshed
 		}
 
 		if (!matchingPatterns.isEmpty()) {
-			Comparator<String> patternComparator = getPathMatcher().getPatternComparator(lookupPath);
-			Collections.sort(matchingPatterns, patternComparator);
+			if (matchingPatterns.size() > 1) {
+				Comparator<String> patternComparator = getPathMatcher().getPatternComparator(lookupPath);
+				Collections.sort(matchingPatterns, patternComparator);
+			}
 			for (String pattern : matchingPatterns) {
 				String pathWithinMapping = getPathMatcher().extractPathWithinPattern(pattern, lookupPath);
 				String pathMapping = lookupPath.substring(0, lookupPath.indexOf(pathWithinMapping));
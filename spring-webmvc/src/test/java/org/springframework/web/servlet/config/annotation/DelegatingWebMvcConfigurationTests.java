@@ -38,6 +38,7 @@ import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.handler.AbstractHandlerMapping;
 import org.springframework.web.servlet.handler.HandlerExceptionResolverComposite;
 import org.springframework.web.servlet.mvc.annotation.ResponseStatusExceptionResolver;
 import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
@@ -45,6 +46,7 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 import org.springframework.web.servlet.mvc.support.DefaultHandlerExceptionResolver;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -227,4 +229,33 @@ public class DelegatingWebMvcConfigurationTests {
 				pathMatcher, handlerMapping.getPathMatcher());
 	}
 
+	@Test
+	public void configurePathMatchWithPatternParser() throws Exception {
+		final PathPatternParser patternParser = new PathPatternParser();
+
+		List<WebMvcConfigurer> configurers = new ArrayList<>();
+		configurers.add(new WebMvcConfigurer() {
+			@Override
+			public void configurePathMatch(PathMatchConfigurer configurer) {
+				configurer.setPatternParser(patternParser);
+			}
+			@Override
+			public void addViewControllers(ViewControllerRegistry registry) {
+				registry.addViewController("/path").setViewName("view");
+			}
+		});
+		delegatingConfig.setConfigurers(configurers);
+
+		RequestMappingHandlerMapping handlerMapping = delegatingConfig.requestMappingHandlerMapping();
+		assertNotNull(handlerMapping);
+		assertSame("PathMatchConfigurer should configure PatternParser",
+				patternParser, handlerMapping.getPatternParser());
+		assertTrue(handlerMapping.usesPathPatterns());
+
+		AbstractHandlerMapping viewControllerMapping =
+				(AbstractHandlerMapping) delegatingConfig.viewControllerHandlerMapping();
+		assertSame("PathMatchConfigurer should configure PatternParser",
+				patternParser, viewControllerMapping.getPatternParser());
+	}
+
 }
@@ -17,6 +17,7 @@
 package org.springframework.web.servlet.handler;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -222,6 +223,35 @@ public class HandlerMethodMappingTests {
 		assertNull(this.mapping.getMappingRegistry().getCorsConfiguration(handlerMethod));
 	}
 
+	@Test
+	public void getMappingsByPathIndex() throws Exception {
+		this.mapping.registerMapping("/foo/bar", this.handler, this.method1);
+		this.mapping.registerMapping("/baz", this.handler, this.method1);
+		this.mapping.registerMapping("/f*", this.handler, this.method2);
+
+		AbstractHandlerMethodMapping<String>.MappingRegistry registry = this.mapping.getMappingRegistry();
+		assertEquals(Arrays.asList("/foo/bar", "/f*"), registry.getMappingsByPathIndex("/foo/bar"));
+		assertEquals(Arrays.asList("/foo/bar", "/f*"), registry.getMappingsByPathIndex("/FOO"));
+		assertEquals(Arrays.asList("/baz", "/f*"), registry.getMappingsByPathIndex("/baz.json"));
+		assertEquals(Collections.singletonList("/f*"), registry.getMappingsByPathIndex("/qux"));
+		assertEquals(Collections.singletonList("/f*"), registry.getMappingsByPathIndex("/"));
+
+		this.mapping.unregisterMapping("/baz");
+		assertEquals(Collections.singletonList("/f*"), registry.getMappingsByPathIndex("/baz"));
+	}
+
+	@Test
+	public void patternMatchWithPathIndex() throws Exception {
+		MyHandlerMethodMapping mapping = new MyHandlerMethodMapping();
+		mapping.pathPatternIndexSupported = true;
+		mapping.registerMapping("/foo/*", this.handler, this.method1);
+		mapping.registerMapping("/bar/*", this.handler, this.method2);
+
+		HandlerMethod result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/bar/baz"));
+		assertEquals(method2, result.getMethod());
+		assertNull(mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/baz/bar")));
+	}
+
 	@Test
 	public void getCorsConfigWithBeanNameHandler() throws Exception {
 
@@ -248,6 +278,8 @@ public class HandlerMethodMappingTests {
 
 		private PathMatcher pathMatcher = new AntPathMatcher();
 
+		private boolean pathPatternIndexSupported;
+
 
 		public MyHandlerMethodMapping() {
 			setHandlerMethodMappingNamingStrategy(new SimpleMappingNamingStrategy());
@@ -266,7 +298,12 @@ public class HandlerMethodMappingTests {
 
 		@Override
 		protected Set<String> getMappingPathPatterns(String key) {
-			return (this.pathMatcher.isPattern(key) ? Collections.<String>emptySet() : Collections.singleton(key));
+			return Collections.singleton(key);
+		}
+
+		@Override
+		protected boolean isPathPatternIndexSupported() {
+			return this.pathPatternIndexSupported;
 		}
 
 		@Override
@@ -23,11 +23,13 @@ import javax.servlet.http.HttpServletResponse;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.springframework.http.server.PathContainer;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.PathMatcher;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.junit.Assert.*;
 import static org.mockito.BDDMockito.*;
@@ -43,6 +45,8 @@ public class MappedInterceptorTests {
 
 	private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
+	private final PathPatternParser patternParser = new PathPatternParser();
+
 	@Before
 	public void setup() {
 		this.interceptor = new LocaleChangeInterceptor();
@@ -94,6 +98,67 @@ public class MappedInterceptorTests {
 		assertFalse(mappedInterceptor.matches("/foo/bar", pathMatcher));
 	}
 
+	@Test
+	public void noPatternsWithPathPatterns() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(null, null, this.interceptor);
+		assertTrue(matches(mappedInterceptor, "/foo"));
+	}
+
+	@Test
+	public void includePatternWithPathPatterns() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(new String[] { "/foo/*" }, this.interceptor);
+
+		assertTrue(matches(mappedInterceptor, "/foo/bar"));
+		assertFalse(matches(mappedInterceptor, "/bar/foo"));
+	}
+
+	@Test
+	public void includePatternWithMatrixVariablesWithPathPatterns() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(new String[] { "/foo/*" }, this.interceptor);
+		assertTrue(matches(mappedInterceptor, "/foo;q=1/bar;s=2"));
+	}
+
+	@Test
+	public void includeAndExcludePatternsWithPathPatterns() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(
+				new String[] { "/**" }, new String[] { "/admin/**" }, this.interceptor);
+
+		assertTrue(matches(mappedInterceptor, "/foo"));
+		assertFalse(matches(mappedInterceptor, "/admin/foo"));
+	}
+
+	@Test
+	public void antPatternWithPathPatterns() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(
+				new String[] { "/**/*.html" }, new String[] { "/admin/**/*.html" }, this.interceptor);
+		mappedInterceptor.parsePatterns(this.patternParser);
+
+		assertTrue(matches(mappedInterceptor, "/foo/bar.html"));
+		assertTrue(matches(mappedInterceptor, "/foo;q=1/bar.html"));
+		assertFalse(matches(mappedInterceptor, "/foo/bar.css"));
+		assertFalse(matches(mappedInterceptor, "/admin/foo/bar.html"));
+	}
+
+	@Test
+	public void customPathMatcherWithPathPatterns() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(new String[] { "/foo/[0-9]*" }, this.interceptor);
+		mappedInterceptor.setPathMatcher(new TestPathMatcher());
+
+		assertTrue(matches(mappedInterceptor, "/foo/123"));
+		assertFalse(matches(mappedInterceptor, "/foo/bar"));
+	}
+
+	@Test
+	public void parsedPatternsPerParser() {
+		MappedInterceptor mappedInterceptor = new MappedInterceptor(new String[] { "/foo" }, this.interceptor);
+		PathPatternParser otherParser = new PathPatternParser();
+		otherParser.setMatchOptionalTrailingSeparator(false);
+
+		assertTrue(matches(mappedInterceptor, "/foo/"));
+		assertFalse(mappedInterceptor.matches(PathContainer.parsePath("/foo/"), otherParser, this.pathMatcher));
+		assertTrue(matches(mappedInterceptor, "/foo/"));
+	}
+
 	@Test
 	public void preHandle() throws Exception {
 		HandlerInterceptor interceptor = mock(HandlerInterceptor.class);
@@ -123,6 +188,10 @@ public class MappedInterceptorTests {
 		then(interceptor).should().afterCompletion(any(), any(), any(), any());
 	}
 
+	private boolean matches(MappedInterceptor mappedInterceptor, String path) {
+		return mappedInterceptor.matches(PathContainer.parsePath(path), this.patternParser, this.pathMatcher);
+	}
+
 
 
 	public static class TestPathMatcher implements PathMatcher {
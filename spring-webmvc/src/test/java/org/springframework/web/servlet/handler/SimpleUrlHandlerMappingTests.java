@@ -16,6 +16,8 @@
 
 package org.springframework.web.servlet.handler;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -31,6 +33,7 @@ import org.springframework.web.servlet.HandlerExecutionChain;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.util.WebUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.junit.Assert.*;
 
@@ -89,6 +92,72 @@ public class SimpleUrlHandlerMappingTests {
 		assertSame(controller, hec.getHandler());
 	}
 
+	@Test
+	public void urlMappingWithPathPatterns() throws Exception {
+		Object hotelController = new Object();
+		Object hotelsController = new Object();
+		Object defaultController = new Object();
+		Map<String, Object> urlMap = new LinkedHashMap<>();
+		urlMap.put("/**", defaultController);
+		urlMap.put("/hotels/**", hotelsController);
+		urlMap.put("/hotels/{hotel}", hotelController);
+
+		HandlerInterceptor interceptor = new HandlerInterceptor() {};
+		SimpleUrlHandlerMapping handlerMapping = new SimpleUrlHandlerMapping();
+		handlerMapping.setPatternParser(new PathPatternParser());
+		handlerMapping.setUrlMap(urlMap);
+		handlerMapping.setInterceptors(new MappedInterceptor(new String[] {"/hotels/*"}, interceptor));
+		handlerMapping.setApplicationContext(new StaticApplicationContext());
+
+		MockHttpServletRequest req = new MockHttpServletRequest("GET", "/app/hotels/42");
+		req.setContextPath("/app");
+		HandlerExecutionChain hec = getHandler(handlerMapping, req);
+		assertSame(hotelController, hec.getHandler());
+		assertTrue(Arrays.asList(hec.getInterceptors()).contains(interceptor));
+		assertEquals("/hotels/{hotel}", req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+		assertEquals("42", req.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE));
+		assertEquals(Collections.singletonMap("hotel", "42"),
+				req.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE));
+
+		req = new MockHttpServletRequest("GET", "/app/hotels/42/rooms");
+		req.setContextPath("/app");
+		hec = getHandler(handlerMapping, req);
+		assertSame(hotelsController, hec.getHandler());
+		assertFalse(Arrays.asList(hec.getInterceptors()).contains(interceptor));
+		assertEquals("/hotels/**", req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+		assertEquals("42/rooms", req.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE));
+
+		req = new MockHttpServletRequest("GET", "/app/welcome.html");
+		req.setContextPath("/app");
+		hec = getHandler(handlerMapping, req);
+		assertSame(defaultController, hec.getHandler());
+		assertEquals("/**", req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+	}
+
+	@Test
+	public void urlMappingWithPathPatternsAndEquallySpecificPatterns() throws Exception {
+		Object controller = new Object();
+		Map<String, Object> urlMap = new LinkedHashMap<>();
+		urlMap.put("/{type}/cd", controller);
+		urlMap.put("/ab/{id}", controller);
+
+		HandlerInterceptor interceptor = new HandlerInterceptor() {};
+		SimpleUrlHandlerMapping handlerMapping = new SimpleUrlHandlerMapping();
+		handlerMapping.setPatternParser(new PathPatternParser());
+		handlerMapping.setUrlMap(urlMap);
+		handlerMapping.setInterceptors(new MappedInterceptor(new String[] {"/**/cd"}, interceptor));
+		handlerMapping.setApplicationContext(new StaticApplicationContext());
+
+		MockHttpServletRequest req = new MockHttpServletRequest("GET", "/ab/cd");
+		HandlerExecutionChain hec = getHandler(handlerMapping, req);
+		assertSame(controller, hec.getHandler());
+		assertTrue(Arrays.asList(hec.getInterceptors()).contains(interceptor));
+		Map<String, String> expected = new LinkedHashMap<>();
+		expected.put("id", "cd");
+		expected.put("type", "ab");
+		assertEquals(expected, req.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE));
+	}
+
 	private void checkMappings(String beanName) throws Exception {
 		MockServletContext sc = new MockServletContext("");
 		XmlWebApplicationContext wac = new XmlWebApplicationContext();
@@ -16,6 +16,7 @@
 
 package org.springframework.web.servlet.mvc.condition;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import javax.servlet.http.HttpServletRequest;
@@ -23,6 +24,8 @@ import javax.servlet.http.HttpServletRequest;
 import org.junit.Test;
 
 import org.springframework.mock.web.test.MockHttpServletRequest;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.junit.Assert.*;
 
@@ -212,4 +215,44 @@ public class PatternsRequestConditionTests {
 		assertEquals(1, match1.compareTo(match2, request));
 	}
 
+	@Test
+	public void matchWithPathPatterns() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/foo/42");
+		request.setContextPath("/app");
+
+		PatternsRequestCondition condition = new PatternsRequestCondition(new String[] {"/foo/*", "/foo/{id}", "/bar"},
+				null, null, true, true, null, new PathPatternParser());
+		PatternsRequestCondition match = condition.getMatchingCondition(request);
+
+		assertNotNull(match);
+		assertEquals(Arrays.asList("/foo/{id}", "/foo/*"), new ArrayList<>(match.getPatterns()));
+		assertNotNull(match.getPathPattern("/foo/{id}"));
+		assertTrue(ServletRequestPathUtils.hasParsedRequestPath(request));
+		assertEquals("/foo/42", ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication().value());
+	}
+
+	@Test
+	public void matchWithPathPatternsTrailingSlash() {
+		PatternsRequestCondition condition = new PatternsRequestCondition(new String[] {"/foo"},
+				null, null, true, true, null, new PathPatternParser());
+
+		assertNotNull(condition.getMatchingCondition(new MockHttpServletRequest("GET", "/foo/")));
+		assertNull("No suffix pattern matching with PathPatterns",
+				condition.getMatchingCondition(new MockHttpServletRequest("GET", "/foo.json")));
+	}
+
+	@Test
+	public void comparePathPatternSpecificity() {
+		HttpServletRequest request = new MockHttpServletRequest("GET", "/foo/42");
+		PathPatternParser parser = new PathPatternParser();
+
+		PatternsRequestCondition c1 = new PatternsRequestCondition(new String[] {"/foo/*"},
+				null, null, true, true, null, parser).getMatchingCondition(request);
+		PatternsRequestCondition c2 = new PatternsRequestCondition(new String[] {"/foo/{id}"},
+				null, null, true, true, null, parser).getMatchingCondition(request);
+
+		assertEquals(1, c1.compareTo(c2, request));
+		assertEquals(-1, c2.compareTo(c1, request));
+	}
+
 }
@@ -37,6 +37,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.test.MockHttpServletRequest;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -62,6 +63,7 @@ import org.springframework.web.servlet.mvc.condition.PatternsRequestCondition;
 import org.springframework.web.servlet.mvc.condition.ProducesRequestCondition;
 import org.springframework.web.servlet.mvc.condition.RequestMethodsRequestCondition;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 
 /**
@@ -98,6 +100,16 @@ public class RequestMappingInfoHandlerMappingTests {
 	}
 
 
+	@Test
+	public void pathPatternIndexWithDefaultPathSeparatorOnly() {
+		assertTrue(this.handlerMapping.isPathPatternIndexSupported());
+
+		AntPathMatcher pathMatcher = new AntPathMatcher();
+		pathMatcher.setPathSeparator(".");
+		this.handlerMapping.setPathMatcher(pathMatcher);
+		assertFalse(this.handlerMapping.isPathPatternIndexSupported());
+	}
+
 	@Test
 	public void getMappingPathPatterns() throws Exception {
 		String[] patterns = {"/foo/*", "/foo", "/bar/*", "/bar"};
@@ -380,6 +392,51 @@ public class RequestMappingInfoHandlerMappingTests {
 	}
 
 
+	@Test
+	public void handleMatchUriTemplateVariablesWithPathPatterns() {
+		this.handlerMapping.setPatternParser(new PathPatternParser());
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/1/a%20b");
+		request.setContextPath("/app");
+		handleMatchWithPathPatterns(request, "/{path1}/{path2}");
+
+		Map<String, String> uriVariables = getUriTemplateVariables(request);
+		assertNotNull(uriVariables);
+		assertEquals("1", uriVariables.get("path1"));
+		assertEquals("a b", uriVariables.get("path2"));
+		assertEquals("/{path1}/{path2}", request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+	}
+
+	@Test
+	public void handleMatchMatrixVariablesWithPathPatterns() {
+		this.handlerMapping.setPatternParser(new PathPatternParser());
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cars;colors=red,blue,green;year=2012");
+		handleMatchWithPathPatterns(request, "/{cars}");
+
+		MultiValueMap<String, String> matrixVariables = getMatrixVariables(request, "cars");
+		Map<String, String> uriVariables = getUriTemplateVariables(request);
+
+		assertNotNull(matrixVariables);
+		assertEquals(Arrays.asList("red", "blue", "green"), matrixVariables.get("colors"));
+		assertEquals("2012", matrixVariables.getFirst("year"));
+		assertEquals("cars", uriVariables.get("cars"));
+	}
+
+	@Test
+	public void getHandlerWithPathPatterns() throws Exception {
+		TestController testController = new TestController();
+		this.handlerMapping = new TestRequestMappingInfoHandlerMapping();
+		this.handlerMapping.setPatternParser(new PathPatternParser());
+		this.handlerMapping.registerHandler(testController);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/foo");
+		request.setContextPath("/app");
+		HandlerMethod handlerMethod = getHandler(request);
+
+		assertEquals(this.fooMethod.getMethod(), handlerMethod.getMethod());
+		assertEquals("/foo", request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+	}
+
+
 	private HandlerMethod getHandler(MockHttpServletRequest request) throws Exception {
 		HandlerExecutionChain chain = this.handlerMapping.getHandler(request);
 		assertNotNull(chain);
@@ -432,6 +489,14 @@ public class RequestMappingInfoHandlerMappingTests {
 		this.handlerMapping.handleMatch(info, lookupPath, request);
 	}
 
+	private void handleMatchWithPathPatterns(MockHttpServletRequest request, String pattern) {
+		RequestMappingInfo.BuilderConfiguration options = new RequestMappingInfo.BuilderConfiguration();
+		options.setPatternParser(this.handlerMapping.getPatternParser());
+		RequestMappingInfo info = RequestMappingInfo.paths(pattern).options(options).build();
+		String lookupPath = this.handlerMapping.getUrlPathHelper().getLookupPathForRequest(request);
+		this.handlerMapping.handleMatch(info, lookupPath, request);
+	}
+
 	@SuppressWarnings("unchecked")
 	private MultiValueMap<String, String> getMatrixVariables(HttpServletRequest request, String uriVarName) {
 		String attrName = HandlerMapping.MATRIX_VARIABLES_ATTRIBUTE;
@@ -531,7 +596,8 @@ public class RequestMappingInfoHandlerMappingTests {
 			RequestMapping annot = AnnotationUtils.findAnnotation(method, RequestMapping.class);
 			if (annot != null) {
 				return new RequestMappingInfo(
-					new PatternsRequestCondition(annot.value(), getUrlPathHelper(), getPathMatcher(), true, true),
+					new PatternsRequestCondition(annot.value(), getUrlPathHelper(), getPathMatcher(),
+							true, true, null, getPatternParser()),
 					new RequestMethodsRequestCondition(annot.method()),
 					new ParamsRequestCondition(annot.params()),
 					new HeadersRequestCondition(annot.headers()),
@@ -20,8 +20,10 @@ import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
@@ -322,6 +324,29 @@ public class RequestResponseBodyMethodProcessorMockTests {
 	}
 
 
+	@Test
+	public void handleReturnValueProducesWithDifferentAcceptHeaders() throws Exception {
+		String body = "Foo";
+		Set<MediaType> producible = new LinkedHashSet<>(Arrays.asList(MediaType.TEXT_HTML, MediaType.APPLICATION_JSON));
+		given(stringMessageConverter.canWrite(String.class, MediaType.TEXT_HTML)).willReturn(true);
+		given(stringMessageConverter.canWrite(String.class, MediaType.APPLICATION_JSON)).willReturn(true);
+
+		servletRequest.addHeader("Accept", "text/html");
+		servletRequest.setAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, producible);
+		processor.handleReturnValue(body, returnTypeStringProduces, mavContainer, webRequest);
+
+		MockHttpServletRequest otherRequest = new MockHttpServletRequest();
+		otherRequest.addHeader("Accept", "application/json");
+		otherRequest.setAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, producible);
+		NativeWebRequest otherWebRequest = new ServletWebRequest(otherRequest, new MockHttpServletResponse());
+		processor.handleReturnValue(body, returnTypeStringProduces, mavContainer, otherWebRequest);
+
+		processor.handleReturnValue(body, returnTypeStringProduces, mavContainer, webRequest);
+
+		verify(stringMessageConverter, times(2)).write(eq(body), eq(MediaType.TEXT_HTML), isA(HttpOutputMessage.class));
+		verify(stringMessageConverter).write(eq(body), eq(MediaType.APPLICATION_JSON), isA(HttpOutputMessage.class));
+	}
+
 	@Test(expected = HttpMediaTypeNotAcceptableException.class)
 	public void handleReturnValueNotAcceptable() throws Exception {
 		MediaType accepted = MediaType.APPLICATION_ATOM_XML;
@@ -15,11 +15,15 @@
  */
 package org.springframework.web.servlet.mvc.method.annotation;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -47,6 +51,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -290,6 +295,113 @@ public class ResponseBodyEmitterReturnValueHandlerTests {
 		assertEquals("foobarbaz", this.response.getContentAsString());
 	}
 
+	@Test
+	public void responseBodyEmitterWithNonBlockingWrites() throws Exception {
+		TestServletOutputStream outputStream = initNonBlockingResponse(8);
+
+		MethodParameter type = on(TestController.class).resolveReturnType(ResponseBodyEmitter.class);
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+		this.handler.handleReturnValue(emitter, type, this.mavContainer, this.webRequest);
+
+		assertTrue(this.request.isAsyncStarted());
+		assertNotNull(outputStream.writeListener);
+
+		outputStream.ready = false;
+		emitter.send("foo");
+		emitter.send("bar");
+		assertEquals("", outputStream.content.toString("UTF-8"));
+
+		try {
+			emitter.send("bazbaz");
+			fail("Expected IOException for exceeded write limit");
+		}
+		catch (IOException ex) {
+			// expected
+		}
+
+		outputStream.ready = true;
+		outputStream.writeListener.onWritePossible();
+		assertEquals("foobar", outputStream.content.toString("UTF-8"));
+
+		outputStream.ready = false;
+		emitter.send("baz");
+		emitter.complete();
+
+		MockAsyncContext asyncContext = (MockAsyncContext) this.request.getAsyncContext();
+		assertNull(asyncContext.getDispatchedPath());
+
+		outputStream.ready = true;
+		outputStream.writeListener.onWritePossible();
+		assertEquals("foobarbaz", outputStream.content.toString("UTF-8"));
+		assertNotNull(asyncContext.getDispatchedPath());
+	}
+
+	@Test
+	public void responseBodyEmitterWithNonBlockingWriteLimitZero() throws Exception {
+		TestServletOutputStream outputStream = initNonBlockingResponse(0);
+
+		MethodParameter type = on(TestController.class).resolveReturnType(ResponseBodyEmitter.class);
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+		this.handler.handleReturnValue(emitter, type, this.mavContainer, this.webRequest);
+
+		outputStream.ready = false;
+		emitter.send("foo");
+
+		try {
+			emitter.send("bar");
+			fail("Expected IOException while a write is pending");
+		}
+		catch (IOException ex) {
+			// expected
+		}
+
+		outputStream.ready = true;
+		outputStream.writeListener.onWritePossible();
+		assertEquals("foo", outputStream.content.toString("UTF-8"));
+
+		emitter.send("bar");
+		assertEquals("foobar", outputStream.content.toString("UTF-8"));
+	}
+
+	@Test
+	public void sseEmitterWithNonBlockingWritesChecksLimitPerEvent() throws Exception {
+		TestServletOutputStream outputStream = initNonBlockingResponse(0);
+
+		MethodParameter type = on(TestController.class).resolveReturnType(SseEmitter.class);
+		SseEmitter emitter = new SseEmitter();
+		this.handler.handleReturnValue(emitter, type, this.mavContainer, this.webRequest);
+
+		outputStream.ready = false;
+		emitter.send(SseEmitter.event().id("1").name("test").data("foo"));
+
+		try {
+			emitter.send(SseEmitter.event().id("2").name("test").data("bar"));
+			fail("Expected IOException while an event is pending");
+		}
+		catch (IOException ex) {
+			// expected
+		}
+
+		outputStream.ready = true;
+		outputStream.writeListener.onWritePossible();
+		assertEquals("id:1\nevent:test\ndata:foo\n\n", outputStream.content.toString("UTF-8"));
+	}
+
+	private TestServletOutputStream initNonBlockingResponse(int writeLimit) {
+		TestServletOutputStream outputStream = new TestServletOutputStream();
+		this.response = new MockHttpServletResponse() {
+			@Override
+			public ServletOutputStream getOutputStream() {
+				return outputStream;
+			}
+		};
+		this.webRequest = new ServletWebRequest(this.request, this.response);
+		AsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(this.request, this.response);
+		WebAsyncUtils.getAsyncManager(this.webRequest).setAsyncWebRequest(asyncWebRequest);
+		this.handler.setNonBlockingWriteLimit(writeLimit);
+		return outputStream;
+	}
+
 
 	@SuppressWarnings("unused")
 	private static class TestController {
@@ -338,4 +450,29 @@ public class ResponseBodyEmitterReturnValueHandlerTests {
 		}
 	}
 
+
+	private static class TestServletOutputStream extends ServletOutputStream {
+
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+		private boolean ready = true;
+
+		private WriteListener writeListener;
+
+		@Override
+		public void write(int b) {
+			this.content.write(b);
+		}
+
+		@Override
+		public boolean isReady() {
+			return this.ready;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			this.writeListener = writeListener;
+		}
+	}
+
 }
@@ -15,12 +15,14 @@
  */
 package org.springframework.web.servlet.resource;
 
+import java.io.File;
 import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.DigestUtils;
 import org.springframework.util.FileCopyUtils;
@@ -67,6 +69,23 @@ public class ContentBasedVersionStrategyTests {
 		assertEquals(hash, this.versionStrategy.getResourceVersion(expected));
 	}
 
+	@Test
+	public void getResourceVersionRecalculatedWhenModified() throws Exception {
+		File file = File.createTempFile("version", ".css");
+		file.deleteOnExit();
+		FileCopyUtils.copy("foo".getBytes("UTF-8"), file);
+		long lastModified = file.lastModified();
+		Resource resource = new FileSystemResource(file);
+		assertEquals(DigestUtils.md5DigestAsHex("foo".getBytes("UTF-8")), this.versionStrategy.getResourceVersion(resource));
+
+		FileCopyUtils.copy("bar".getBytes("UTF-8"), file);
+		file.setLastModified(lastModified);
+		assertEquals(DigestUtils.md5DigestAsHex("foo".getBytes("UTF-8")), this.versionStrategy.getResourceVersion(resource));
+
+		file.setLastModified(lastModified + 2000);
+		assertEquals(DigestUtils.md5DigestAsHex("bar".getBytes("UTF-8")), this.versionStrategy.getResourceVersion(resource));
+	}
+
 	@Test
 	public void addVersionToUrl() throws Exception {
 		String requestPath = "test/bar.css";